@@ -0,0 +1,152 @@
+package com.ynov.testingmethodology.benchmark;
+
+import com.ynov.testingmethodology.AttendanceManagerApplication;
+import com.ynov.testingmethodology.model.Room;
+import com.ynov.testingmethodology.model.Student;
+import com.ynov.testingmethodology.schedule.SlotGrid;
+import com.ynov.testingmethodology.service.RoomService;
+import com.ynov.testingmethodology.service.StudentService;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test de charge local de l'API de réservation : le même scénario est joué contre le pool
+ * de threads Tomcat par défaut puis contre les threads virtuels.
+ * Chaque requête crée une réservation sur un créneau libre ; le journal est synchronisé
+ * sur disque à chaque écriture, ce qui bloque le thread de la requête comme le ferait une base.
+ *
+ * <pre>
+ * mvn -Pjmh -DskipTests test-compile exec:exec@load-test -Dload.args="1000 20000"
+ * </pre>
+ * Arguments : clients simultanés (1000 par défaut), nombre de réservations (20000 par défaut).
+ */
+public class BookingApiLoadTest {
+
+    private static final int ROOMS = 50;
+
+    public static void main(String[] args) throws Exception {
+        int clients = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        int requests = args.length > 1 ? Integer.parseInt(args[1]) : 20_000;
+        System.out.printf("%d reservations, %d concurrent clients%n", requests, clients);
+        System.out.printf("%-16s %12s %10s %10s %10s %8s%n", "threads", "req/s", "p50 ms", "p99 ms", "max ms", "errors");
+        for (boolean virtual : new boolean[]{false, true}) {
+            Result result = run(virtual, clients, requests);
+            System.out.printf("%-16s %12.0f %10.2f %10.2f %10.2f %8d%n", virtual ? "virtual" : "platform (200)",
+                    result.throughput(), result.percentile(0.50), result.percentile(0.99), result.percentile(1.0), result.errors());
+        }
+    }
+
+    private record Result(double throughput, long[] latencies, int errors) {
+
+        double percentile(double p) {
+            int index = (int) Math.ceil(p * latencies.length) - 1;
+            return latencies[Math.max(index, 0)] / 1_000_000.0;
+        }
+    }
+
+    private static Result run(boolean virtual, int clients, int requests) throws Exception {
+        Path journal = Files.createTempFile("load-test", ".journal");
+        Files.delete(journal);
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(AttendanceManagerApplication.class)
+                .properties("server.port=0",
+                        "spring.threads.virtual.enabled=" + virtual,
+                        "booking.journal.path=" + journal,
+                        "spring.main.banner-mode=off",
+                        "logging.level.root=WARN")
+                .run()) {
+            int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            populate(context, requests);
+            return load(URI.create("http://localhost:" + port + "/api/reservations"), clients, requests);
+        } finally {
+            Files.deleteIfExists(journal);
+        }
+    }
+
+    /**
+     * Salles et étudiants créés directement par les services : seule la réservation est mesurée
+     */
+    private static void populate(ConfigurableApplicationContext context, int requests) {
+        RoomService roomService = context.getBean(RoomService.class);
+        StudentService studentService = context.getBean(StudentService.class);
+        for (int i = 0; i < ROOMS; i++) {
+            roomService.addRoom(new Room("r" + i, "Room " + i, 30));
+        }
+        for (int i = 0; i < requests; i++) {
+            studentService.registerStudent(new Student("s" + i, "First" + i, "Last" + i));
+        }
+    }
+
+    private static Result load(URI uri, int clients, int requests) throws InterruptedException {
+        long[] latencies = new long[requests];
+        AtomicInteger errors = new AtomicInteger();
+        Semaphore inFlight = new Semaphore(clients);
+        LocalDate firstDay = nextWorkingDay(LocalDate.now().plusDays(1));
+        try (HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+             ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            long start = System.nanoTime();
+            for (int i = 0; i < requests; i++) {
+                int request = i;
+                inFlight.acquire();
+                executor.submit(() -> {
+                    try {
+                        HttpRequest post = HttpRequest.newBuilder(uri)
+                                .header("Content-Type", "application/json")
+                                .POST(HttpRequest.BodyPublishers.ofString(body(request, firstDay)))
+                                .build();
+                        long sent = System.nanoTime();
+                        HttpResponse<Void> response = client.send(post, HttpResponse.BodyHandlers.discarding());
+                        latencies[request] = System.nanoTime() - sent;
+                        if (response.statusCode() != 201) {
+                            errors.incrementAndGet();
+                        }
+                    } catch (IOException | InterruptedException e) {
+                        errors.incrementAndGet();
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+            inFlight.acquire(clients);
+            double seconds = (System.nanoTime() - start) / 1e9;
+            Arrays.sort(latencies);
+            return new Result(requests / seconds, latencies, errors.get());
+        }
+    }
+
+    /**
+     * Réservation {@code i} : un étudiant distinct et un créneau distinct par salle
+     */
+    private static String body(int i, LocalDate firstDay) {
+        int slot = i / ROOMS;
+        LocalDate day = firstDay;
+        for (int d = 0; d < slot / SlotGrid.SLOTS_PER_DAY; d++) {
+            day = nextWorkingDay(day.plusDays(1));
+        }
+        LocalDateTime start = day.atTime(SlotGrid.OPENING).plusMinutes((long) (slot % SlotGrid.SLOTS_PER_DAY) * SlotGrid.SLOT_MINUTES);
+        return """
+                {"id":"load-%d","roomId":"r%d","studentIds":["s%d"],"startTime":"%s","endTime":"%s"}"""
+                .formatted(i, i % ROOMS, i, start, start.plusMinutes(SlotGrid.SLOT_MINUTES));
+    }
+
+    private static LocalDate nextWorkingDay(LocalDate date) {
+        while (!SlotGrid.isWorkingDay(date)) {
+            date = date.plusDays(1);
+        }
+        return date;
+    }
+}
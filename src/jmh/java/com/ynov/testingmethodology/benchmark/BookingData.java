@@ -0,0 +1,126 @@
+package com.ynov.testingmethodology.benchmark;
+
+import com.ynov.testingmethodology.ids.EntityIds;
+import com.ynov.testingmethodology.metrics.BookingMetrics;
+import com.ynov.testingmethodology.model.Reservation;
+import com.ynov.testingmethodology.model.Room;
+import com.ynov.testingmethodology.model.Student;
+import com.ynov.testingmethodology.repository.InMemoryReservationRepository;
+import com.ynov.testingmethodology.repository.InMemoryReservationSeriesRepository;
+import com.ynov.testingmethodology.repository.InMemoryRoomRepository;
+import com.ynov.testingmethodology.repository.InMemoryStudentRepository;
+import com.ynov.testingmethodology.schedule.RoomAvailability;
+import com.ynov.testingmethodology.schedule.SlotGrid;
+import com.ynov.testingmethodology.schedule.StudentSchedule;
+import com.ynov.testingmethodology.service.ReservationService;
+import com.ynov.testingmethodology.service.RoomService;
+import com.ynov.testingmethodology.service.StudentService;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Jeu de données partagé par les benchmarks : services câblés sur les dépôts en mémoire,
+ * remplis via l'API publique. Chaque salle reçoit des réservations d'une heure, jour après jour,
+ * et dispose d'un bloc d'étudiants qui lui est propre pour qu'aucun créneau ne soit en conflit.
+ * Le jour ouvrable qui suit la dernière réservation reste libre pour les créations.
+ */
+@State(Scope.Benchmark)
+public class BookingData {
+
+    private static final int BOOKINGS_PER_DAY = 12;
+    private static final int STUDENTS_PER_BOOKING = 3;
+
+    @Param("1000")
+    public int rooms;
+
+    @Param("50000")
+    public int students;
+
+    @Param("1000000")
+    public int reservations;
+
+    public RoomAvailability roomAvailability;
+    public StudentSchedule studentSchedule;
+    public ReservationService reservationService;
+    public RoomService roomService;
+    public StudentService studentService;
+
+    public List<Room> roomList;
+    public List<Student> studentList;
+    public List<String> reservationIds;
+    public LocalDate firstDay;
+    public LocalDate freeDay;
+
+    @Setup(Level.Trial)
+    public void populate() {
+        EntityIds ids = new EntityIds();
+        roomAvailability = new RoomAvailability(ids);
+        studentSchedule = new StudentSchedule(ids);
+        BookingMetrics metrics = new BookingMetrics();
+        InMemoryRoomRepository roomRepo = new InMemoryRoomRepository();
+        InMemoryStudentRepository studentRepo = new InMemoryStudentRepository();
+        reservationService = new ReservationService(new InMemoryReservationRepository(ids),
+                new InMemoryReservationSeriesRepository(), roomRepo, studentRepo, roomAvailability, studentSchedule, metrics);
+        roomService = new RoomService(roomRepo, roomAvailability, ids, reservationService, metrics);
+        studentService = new StudentService(studentRepo, ids, reservationService, metrics);
+
+        roomList = new ArrayList<>(rooms);
+        for (int r = 0; r < rooms; r++) {
+            roomList.add(roomService.addRoom(new Room("room-" + r, "Salle " + r, 10 + (r % 10) * 10)));
+        }
+        studentList = new ArrayList<>(students);
+        for (int s = 0; s < students; s++) {
+            studentList.add(studentService.registerStudent(new Student("student-" + s, "Prénom" + s, "Nom" + s)));
+        }
+
+        int perRoom = (reservations + rooms - 1) / rooms;
+        int blockSize = Math.max(STUDENTS_PER_BOOKING, students / rooms);
+        List<LocalDate> days = workingDays(nextWorkingDay(LocalDate.now().plusDays(1)),
+                (perRoom + BOOKINGS_PER_DAY - 1) / BOOKINGS_PER_DAY + 1);
+        firstDay = days.get(0);
+        freeDay = days.get(days.size() - 1);
+
+        reservationIds = new ArrayList<>(reservations);
+        int created = 0;
+        for (int r = 0; r < rooms && created < reservations; r++) {
+            List<Reservation> batch = new ArrayList<>(perRoom);
+            for (int i = 0; i < perRoom && created < reservations; i++, created++) {
+                LocalDate day = days.get(i / BOOKINGS_PER_DAY);
+                int hour = SlotGrid.OPENING.getHour() + i % BOOKINGS_PER_DAY;
+                List<Student> group = new ArrayList<>(STUDENTS_PER_BOOKING);
+                for (int j = 0; j < STUDENTS_PER_BOOKING; j++) {
+                    group.add(studentList.get((r * blockSize + (i * STUDENTS_PER_BOOKING + j) % blockSize) % students));
+                }
+                String id = "res-" + r + "-" + i;
+                batch.add(new Reservation(id, group, roomList.get(r), day.atTime(hour, 0), day.atTime(hour + 1, 0)));
+                reservationIds.add(id);
+            }
+            reservationService.createReservations(batch);
+        }
+    }
+
+    private static LocalDate nextWorkingDay(LocalDate date) {
+        LocalDate day = date;
+        while (!SlotGrid.isWorkingDay(day)) {
+            day = day.plusDays(1);
+        }
+        return day;
+    }
+
+    private static List<LocalDate> workingDays(LocalDate first, int count) {
+        List<LocalDate> days = new ArrayList<>(count);
+        LocalDate day = first;
+        while (days.size() < count) {
+            days.add(day);
+            day = nextWorkingDay(day.plusDays(1));
+        }
+        return days;
+    }
+}
@@ -0,0 +1,123 @@
+package com.ynov.testingmethodology.benchmark;
+
+import com.ynov.testingmethodology.model.Reservation;
+import com.ynov.testingmethodology.model.Student;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks de ReservationService : écriture (création, mise à jour, suppression),
+ * détection de conflit et requêtes de lecture.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class ReservationServiceBenchmark {
+
+    private int cursor;
+    private Reservation movable;
+    private boolean movedLater;
+    private Reservation conflicting;
+
+    @Setup(Level.Trial)
+    public void setUp(BookingData data) {
+        // Réservation dédiée aux mises à jour, sur le jour laissé libre
+        movable = data.reservationService.createReservation(new Reservation("bench-movable",
+                students(data, 0), data.roomList.get(0),
+                data.freeDay.atTime(8, 0), data.freeDay.atTime(9, 0)));
+        // Même créneau et même salle qu'une réservation existante, étudiants différents
+        Reservation existing = data.reservationService.getReservationsByRoom(data.roomList.get(1).getId()).get(0);
+        conflicting = new Reservation("bench-conflict", students(data, data.students / 2), existing.getRoom(),
+                existing.getStartTime(), existing.getEndTime());
+    }
+
+    private static List<Student> students(BookingData data, int offset) {
+        List<Student> group = new ArrayList<>();
+        group.add(data.studentList.get(offset % data.students));
+        return group;
+    }
+
+    private int next(int bound) {
+        cursor = (cursor + 7919) % bound;
+        return cursor;
+    }
+
+    @Benchmark
+    public void createAndDeleteReservation(BookingData data) {
+        int room = 2 + next(data.rooms - 2);
+        Reservation reservation = new Reservation("bench-" + room, students(data, room), data.roomList.get(room),
+                data.freeDay.atTime(14, 0), data.freeDay.atTime(15, 30));
+        data.reservationService.createReservation(reservation);
+        data.reservationService.deleteReservation(reservation.getId());
+    }
+
+    @Benchmark
+    public Reservation updateReservation(BookingData data) {
+        LocalDateTime start = data.freeDay.atTime(movedLater ? 8 : 9, 0);
+        movedLater = !movedLater;
+        movable.setStartTime(start);
+        movable.setEndTime(start.plusHours(1));
+        return data.reservationService.updateReservation(movable);
+    }
+
+    @Benchmark
+    public Object rejectConflictingReservation(BookingData data) {
+        try {
+            return data.reservationService.createReservation(conflicting);
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public boolean probeRoomAvailability(BookingData data) {
+        int room = next(data.rooms);
+        return data.roomAvailability.isFree(data.roomList.get(room).getId(),
+                data.firstDay.atTime(10, 0), data.firstDay.atTime(11, 30));
+    }
+
+    @Benchmark
+    @Warmup(iterations = 2, time = 5)
+    @Measurement(iterations = 3, time = 5)
+    public Collection<Reservation> getUpcomingReservations(BookingData data) {
+        return data.reservationService.getUpcomingReservations();
+    }
+
+    @Benchmark
+    public void getReservationsInNextTwoHours(BookingData data, Blackhole blackhole) {
+        LocalDateTime start = data.firstDay.atTime(10, 0);
+        Collection<Reservation> window = data.reservationService.getReservationsBetween(start, start.plusHours(2));
+        for (Reservation reservation : window) {
+            blackhole.consume(reservation);
+        }
+    }
+
+    @Benchmark
+    public List<Reservation> getReservationsByStudent(BookingData data) {
+        return data.reservationService.getReservationsByStudent(data.studentList.get(next(data.students)).getId());
+    }
+
+    @Benchmark
+    public List<Reservation> getReservationsByRoom(BookingData data) {
+        return data.reservationService.getReservationsByRoom(data.roomList.get(next(data.rooms)).getId());
+    }
+}
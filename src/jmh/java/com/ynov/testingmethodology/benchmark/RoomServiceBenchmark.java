@@ -0,0 +1,56 @@
+package com.ynov.testingmethodology.benchmark;
+
+import com.ynov.testingmethodology.model.Room;
+import com.ynov.testingmethodology.schedule.TimeSlot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks de RoomService : accès au catalogue et recherches de disponibilité.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class RoomServiceBenchmark {
+
+    private int cursor;
+
+    private int next(int bound) {
+        cursor = (cursor + 7919) % bound;
+        return cursor;
+    }
+
+    @Benchmark
+    public Optional<Room> getRoomById(BookingData data) {
+        return data.roomService.getRoomById(data.roomList.get(next(data.rooms)).getId());
+    }
+
+    @Benchmark
+    public List<Room> getAllRooms(BookingData data) {
+        return data.roomService.getAllRooms();
+    }
+
+    @Benchmark
+    public List<TimeSlot> getAvailabilities(BookingData data) {
+        return data.roomService.getAvailabilities(data.roomList.get(next(data.rooms)).getId(), data.firstDay);
+    }
+
+    @Benchmark
+    public List<Room> findAvailableRooms(BookingData data) {
+        return data.roomService.findAvailableRooms(12, data.firstDay.atTime(14, 0), data.firstDay.atTime(15, 30));
+    }
+}
@@ -0,0 +1,46 @@
+package com.ynov.testingmethodology.benchmark;
+
+import com.ynov.testingmethodology.model.Student;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks de StudentService : inscription, suppression et recherche.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class StudentServiceBenchmark {
+
+    private int cursor;
+
+    private int next(int bound) {
+        cursor = (cursor + 7919) % bound;
+        return cursor;
+    }
+
+    @Benchmark
+    public Optional<Student> getStudentById(BookingData data) {
+        return data.studentService.getStudentById(data.studentList.get(next(data.students)).getId());
+    }
+
+    @Benchmark
+    public void registerAndDeleteStudent(BookingData data) {
+        String id = "bench-student-" + next(1024);
+        data.studentService.registerStudent(new Student(id, "Prénom", "Nom"));
+        data.studentService.deleteStudent(id);
+    }
+}
@@ -0,0 +1,15 @@
+package com.ynov.testingmethodology;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+/**
+ * Point d'entrée de l'API HTTP de réservation de salles
+ */
+@SpringBootApplication
+public class AttendanceManagerApplication {
+
+    public static void main(String[] args) {
+        SpringApplication.run(AttendanceManagerApplication.class, args);
+    }
+}
@@ -0,0 +1,106 @@
+package com.ynov.testingmethodology.concurrent;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Jeu de verrous répartis par hachage de clé (salle, étudiant, réservation...).
+ * Deux opérations ne se bloquent que si leurs clés tombent sur le même verrou,
+ * et les verrous multiples sont toujours pris dans l'ordre croissant pour éviter les interblocages.
+ */
+public final class StripedLocks {
+
+    /**
+     * Verrous détenus, libérés à la fermeture (à utiliser dans un try-with-resources)
+     */
+    public static final class Held implements AutoCloseable {
+        private final ReentrantLock[] locks;
+
+        private Held(ReentrantLock[] locks) {
+            this.locks = locks;
+        }
+
+        @Override
+        public void close() {
+            for (int i = locks.length - 1; i >= 0; i--) {
+                locks[i].unlock();
+            }
+        }
+    }
+
+    private final ReentrantLock[] stripes;
+    private final int mask;
+
+    /**
+     * @param count nombre minimal de verrous, arrondi à la puissance de deux supérieure
+     */
+    public StripedLocks(int count) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("Stripe count must be positive");
+        }
+        int size = 1;
+        while (size < count) {
+            size <<= 1;
+        }
+        this.stripes = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+        this.mask = size - 1;
+    }
+
+    public int size() {
+        return stripes.length;
+    }
+
+    /**
+     * Index du verrou associé à une clé
+     */
+    public int stripeOf(String key) {
+        int h = key.hashCode();
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    /**
+     * Verrouille la clé
+     */
+    public Held lock(String key) {
+        ReentrantLock lock = stripes[stripeOf(key)];
+        lock.lock();
+        return new Held(new ReentrantLock[]{lock});
+    }
+
+    /**
+     * Verrouille toutes les clés, chaque verrou une seule fois et dans l'ordre croissant
+     */
+    public Held lockAll(Collection<String> keys) {
+        int[] indexes = new int[keys.size()];
+        int n = 0;
+        for (String key : keys) {
+            indexes[n++] = stripeOf(key);
+        }
+        Arrays.sort(indexes);
+        ReentrantLock[] held = new ReentrantLock[indexes.length];
+        int count = 0;
+        for (int i = 0; i < indexes.length; i++) {
+            if (i > 0 && indexes[i] == indexes[i - 1]) {
+                continue;
+            }
+            ReentrantLock lock = stripes[indexes[i]];
+            lock.lock();
+            held[count++] = lock;
+        }
+        return new Held(Arrays.copyOf(held, count));
+    }
+
+    /**
+     * Verrouille tous les verrous dans l'ordre croissant : plus aucune clé ne peut être prise
+     */
+    public Held lockEverything() {
+        for (ReentrantLock lock : stripes) {
+            lock.lock();
+        }
+        return new Held(stripes.clone());
+    }
+}
@@ -0,0 +1,83 @@
+package com.ynov.testingmethodology.config;
+
+import com.ynov.testingmethodology.persistence.BookingSnapshots;
+import com.ynov.testingmethodology.persistence.ReservationJournal;
+import com.ynov.testingmethodology.repository.ColumnarReservationRepository;
+import com.ynov.testingmethodology.repository.JournaledReservationRepository;
+import com.ynov.testingmethodology.repository.ReservationRepository;
+import com.ynov.testingmethodology.repository.ReservationSeriesRepository;
+import com.ynov.testingmethodology.repository.RoomRepository;
+import com.ynov.testingmethodology.repository.StudentRepository;
+import com.ynov.testingmethodology.service.ReservationService;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+
+import java.nio.file.Path;
+
+/**
+ * Assemblage des dépôts de réservations (hors profil {@code jpa}).
+ *
+ * <ul>
+ *     <li>{@code booking.store} : stockage en mémoire des réservations, {@code map} (par défaut, index
+ *     par salle, étudiant et date) ou {@code columnar} (tableaux primitifs, plus compact)</li>
+ *     <li>{@code booking.snapshot.path} : instantané de tout l'état (étudiants, salles, séries, réservations),
+ *     chargé à l'assemblage des dépôts puis réécrit toutes les {@code booking.snapshot.period} (5 min par défaut)</li>
+ *     <li>{@code booking.journal.path} : journalise les réservations entre deux instantanés ; exige
+ *     {@code booking.snapshot.path}, qui seul conserve salles et étudiants et permet de tronquer le journal</li>
+ *     <li>{@code booking.journal.sync} : attend l'écriture sur disque avant de répondre (true par défaut)</li>
+ * </ul>
+ * Au démarrage : chargement de l'instantané, relecture du journal qui le suit, puis reconstruction
+ * des index et instantanés périodiques ({@link BookingStartup}).
+ */
+@Configuration
+@Profile("!jpa")
+public class BookingConfiguration {
+
+    @Bean
+    @Qualifier("reservationStore")
+    @ConditionalOnProperty(name = "booking.store", havingValue = "columnar")
+    public ColumnarReservationRepository columnarReservationRepository() {
+        return new ColumnarReservationRepository();
+    }
+
+    @Bean
+    @Primary
+    @ConditionalOnProperty("booking.journal.path")
+    public JournaledReservationRepository journaledReservationRepository(
+            @Value("${booking.journal.path}") Path journalPath,
+            @Value("${booking.journal.sync:true}") boolean syncOnCommit,
+            @Value("${booking.snapshot.path:}") String snapshotPath,
+            StudentRepository studentRepo, RoomRepository roomRepo, ReservationSeriesRepository seriesRepo,
+            @Qualifier("reservationStore") ReservationRepository memory) {
+        if (snapshotPath.isBlank()) {
+            throw new IllegalStateException("booking.journal.path requires booking.snapshot.path");
+        }
+        // L'instantané va directement en mémoire, sans repasser par le journal qui ne rejoue que la suite
+        BookingSnapshots.Summary loaded = new BookingSnapshots(studentRepo, roomRepo, seriesRepo, memory)
+                .load(Path.of(snapshotPath));
+        return new JournaledReservationRepository(journalPath, ReservationJournal.DEFAULT_REGION_SIZE, syncOnCommit,
+                memory, loaded.journalSequence());
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty("booking.snapshot.path")
+    public BookingSnapshots bookingSnapshots(
+            @Value("${booking.snapshot.path}") Path snapshotPath,
+            StudentRepository studentRepo, RoomRepository roomRepo, ReservationSeriesRepository seriesRepo,
+            @Qualifier("reservationStore") ReservationRepository memory, ReservationService reservationService,
+            ObjectProvider<JournaledReservationRepository> journaled) {
+        JournaledReservationRepository journal = journaled.getIfAvailable();
+        if (journal == null) {
+            // Sans journal, l'instantané est le seul état persistant (déjà chargé sinon)
+            new BookingSnapshots(studentRepo, roomRepo, seriesRepo, memory).load(snapshotPath);
+        }
+        return new BookingSnapshots(studentRepo, roomRepo, seriesRepo, memory,
+                reservationService::whileBookingsPaused, journal);
+    }
+}
@@ -0,0 +1,75 @@
+package com.ynov.testingmethodology.config;
+
+import com.ynov.testingmethodology.persistence.BookingSnapshots;
+import com.ynov.testingmethodology.service.ReservationService;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Prépare les services au démarrage : les index d'occupation, qui ne sont pas persistés, sont
+ * reconstruits depuis les dépôts (déjà rechargés depuis l'instantané et le journal par
+ * {@link BookingConfiguration}) dès que les beans sont créés, avant que le serveur web n'accepte
+ * de requête ; une fois l'application prête, la partition des réservations à venir avance toutes les
+ * {@code booking.upcoming.tick} (1 s par défaut).
+ * <p>
+ * Avec {@code booking.snapshot.path}, un instantané est écrit toutes les {@code booking.snapshot.period}
+ * (5 min par défaut) et à l'arrêt.
+ */
+@Component
+public class BookingStartup implements SmartInitializingSingleton {
+
+    private final ReservationService reservationService;
+    private final Duration upcomingTick;
+    private final BookingSnapshots snapshots;
+    private final String snapshotPath;
+    private final Duration snapshotPeriod;
+
+    public BookingStartup(ReservationService reservationService,
+                          @Value("${booking.upcoming.tick:1s}") Duration upcomingTick,
+                          ObjectProvider<BookingSnapshots> snapshots,
+                          @Value("${booking.snapshot.path:}") String snapshotPath,
+                          @Value("${booking.snapshot.period:5m}") Duration snapshotPeriod) {
+        this.reservationService = reservationService;
+        this.upcomingTick = upcomingTick;
+        this.snapshots = snapshots.getIfAvailable();
+        this.snapshotPath = snapshotPath;
+        this.snapshotPeriod = snapshotPeriod;
+    }
+
+    /**
+     * Appelée avant le démarrage du serveur web : aucune réservation n'est contrôlée sur des index vides
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        reservationService.rebuildIndexes();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        reservationService.getUpcomingPartition().start(upcomingTick);
+        if (snapshots != null) {
+            snapshots.start(Path.of(snapshotPath), snapshotPeriod);
+        }
+    }
+
+    /**
+     * Arrête le tic de la partition à venir, puis écrit un dernier instantané avant la destruction
+     * des dépôts et la fermeture du journal
+     */
+    @EventListener(ContextClosedEvent.class)
+    public void stop() {
+        reservationService.getUpcomingPartition().close();
+        if (snapshots != null) {
+            snapshots.close();
+            snapshots.write(Path.of(snapshotPath));
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.ynov.testingmethodology.config;
+
+import com.ynov.testingmethodology.metrics.BookingMetrics;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Active la mesure des méthodes de service annotées {@code @Timed} ; percentiles et histogramme
+ * de {@code booking.operation} sont réglés dans application.properties.
+ */
+@Configuration
+public class MetricsConfiguration {
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry registry) {
+        return BookingMetrics.timedAspect(registry);
+    }
+}
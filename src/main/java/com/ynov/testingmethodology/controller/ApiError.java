@@ -0,0 +1,7 @@
+package com.ynov.testingmethodology.controller;
+
+/**
+ * Corps des réponses d'erreur de l'API
+ */
+public record ApiError(String message) {
+}
@@ -0,0 +1,34 @@
+package com.ynov.testingmethodology.controller;
+
+import com.ynov.testingmethodology.repository.StaleReservationException;
+import com.ynov.testingmethodology.service.BookingConflictException;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * Traduit les refus des services en statuts HTTP : créneau déjà pris ou réservation modifiée
+ * entre-temps → 409, données invalides → 400
+ */
+@RestControllerAdvice
+public class ApiExceptionHandler {
+
+    @ExceptionHandler(BookingConflictException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ApiError conflict(BookingConflictException e) {
+        return new ApiError(e.getMessage());
+    }
+
+    @ExceptionHandler(StaleReservationException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ApiError stale(StaleReservationException e) {
+        return new ApiError(e.getMessage());
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ApiError invalid(IllegalArgumentException e) {
+        return new ApiError(e.getMessage());
+    }
+}
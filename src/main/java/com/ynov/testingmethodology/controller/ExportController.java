@@ -0,0 +1,52 @@
+package com.ynov.testingmethodology.controller;
+
+import com.ynov.testingmethodology.exporter.ExportFilter;
+import com.ynov.testingmethodology.exporter.ReservationExporter;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+/**
+ * Exports en flux : la réponse est écrite au fil de la lecture du dépôt
+ */
+@RestController
+@RequestMapping("/api/exports")
+public class ExportController {
+
+    private final ReservationExporter exporter;
+
+    public ExportController(ReservationExporter exporter) {
+        this.exporter = exporter;
+    }
+
+    /**
+     * {@code format} : csv (par défaut) ou jsonl ; les autres paramètres filtrent les réservations
+     */
+    @GetMapping("/reservations")
+    public ResponseEntity<StreamingResponseBody> reservations(
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(required = false) String roomId,
+            @RequestParam(required = false) String studentId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        ExportFilter filter = new ExportFilter(roomId, studentId, from, to);
+        ReservationExporter.Format exportFormat = switch (format) {
+            case "csv" -> ReservationExporter.Format.CSV;
+            case "jsonl" -> ReservationExporter.Format.JSON_LINES;
+            default -> throw new IllegalArgumentException("Unknown export format: " + format);
+        };
+        MediaType type = exportFormat == ReservationExporter.Format.CSV
+                ? new MediaType("text", "csv", StandardCharsets.UTF_8)
+                : MediaType.APPLICATION_NDJSON;
+        return ResponseEntity.ok().contentType(type)
+                .body(out -> exporter.export(filter, exportFormat, out));
+    }
+}
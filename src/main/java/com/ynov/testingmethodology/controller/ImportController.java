@@ -0,0 +1,48 @@
+package com.ynov.testingmethodology.controller;
+
+import com.ynov.testingmethodology.importer.CsvImporter;
+import com.ynov.testingmethodology.importer.ImportReport;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Imports CSV (UTF-8) : le corps de la requête est lu en flux, sans être chargé en mémoire
+ */
+@RestController
+@RequestMapping("/api/imports")
+public class ImportController {
+
+    private static final String CSV = "text/csv";
+
+    private final CsvImporter importer;
+
+    public ImportController(CsvImporter importer) {
+        this.importer = importer;
+    }
+
+    @PostMapping(value = "/students", consumes = CSV)
+    public ImportReport students(InputStream body) throws IOException {
+        return importer.importStudents(reader(body));
+    }
+
+    @PostMapping(value = "/rooms", consumes = CSV)
+    public ImportReport rooms(InputStream body) throws IOException {
+        return importer.importRooms(reader(body));
+    }
+
+    @PostMapping(value = "/reservations", consumes = CSV)
+    public ImportReport reservations(InputStream body) throws IOException {
+        return importer.importReservations(reader(body));
+    }
+
+    private static Reader reader(InputStream body) {
+        return new InputStreamReader(body, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,119 @@
+package com.ynov.testingmethodology.controller;
+
+import com.ynov.testingmethodology.model.Reservation;
+import com.ynov.testingmethodology.model.ReservationSummary;
+import com.ynov.testingmethodology.model.Room;
+import com.ynov.testingmethodology.model.Student;
+import com.ynov.testingmethodology.repository.CursorPage;
+import com.ynov.testingmethodology.service.ReservationService;
+import com.ynov.testingmethodology.service.RoomService;
+import com.ynov.testingmethodology.service.StudentService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/reservations")
+public class ReservationController {
+
+    private final ReservationService reservationService;
+    private final RoomService roomService;
+    private final StudentService studentService;
+
+    public ReservationController(ReservationService reservationService, RoomService roomService,
+                                 StudentService studentService) {
+        this.reservationService = reservationService;
+        this.roomService = roomService;
+        this.studentService = studentService;
+    }
+
+    /**
+     * Réservations par pages de {@code limit}, triées par id
+     */
+    @GetMapping
+    public CursorPage<ReservationResource> list(@RequestParam(required = false) String cursor,
+                                                @RequestParam(defaultValue = "100") int limit) {
+        CursorPage<Reservation> page = reservationService.getReservationsPage(cursor, limit);
+        return new CursorPage<>(page.items().stream().map(ReservationResource::from).toList(), page.nextCursor());
+    }
+
+    @GetMapping("/upcoming")
+    public Collection<ReservationSummary> upcoming() {
+        return reservationService.getUpcomingSummaries();
+    }
+
+    @GetMapping("/past")
+    public List<ReservationResource> past() {
+        return reservationService.getPastReservations().stream().map(ReservationResource::from).toList();
+    }
+
+    @GetMapping("/between")
+    public List<ReservationSummary> between(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
+                                            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end) {
+        return reservationService.getSummariesBetween(start, end);
+    }
+
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    public ReservationResource create(@RequestBody ReservationResource reservation) {
+        return ReservationResource.from(reservationService.createReservation(toModel(reservation)));
+    }
+
+    /**
+     * Crée un lot de réservations en tout ou rien
+     */
+    @PostMapping("/batch")
+    @ResponseStatus(HttpStatus.CREATED)
+    public List<ReservationResource> createAll(@RequestBody List<ReservationResource> reservations) {
+        List<Reservation> models = reservations.stream().map(this::toModel).toList();
+        return reservationService.createReservations(models).stream().map(ReservationResource::from).toList();
+    }
+
+    @PutMapping("/{id}")
+    public ReservationResource update(@PathVariable String id, @RequestBody ReservationResource reservation) {
+        if (reservation.id() != null && !id.equals(reservation.id())) {
+            throw new IllegalArgumentException("Reservation id does not match the path: " + reservation.id());
+        }
+        Reservation model = toModel(reservation);
+        model.setId(id);
+        // Version lue par le client : refusée (409) si la réservation a changé depuis
+        model.setVersion(reservation.version());
+        return ReservationResource.from(reservationService.updateReservation(model));
+    }
+
+    @DeleteMapping("/{id}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void delete(@PathVariable String id) {
+        reservationService.deleteReservation(id);
+    }
+
+    /**
+     * Résout la salle et les participants désignés par leur id
+     */
+    private Reservation toModel(ReservationResource resource) {
+        Room room = resource.roomId() == null ? null : roomService.getRoomById(resource.roomId())
+                .orElseThrow(() -> new IllegalArgumentException("Room does not exists with id :" + resource.roomId()));
+        List<Student> students = new ArrayList<>();
+        if (resource.studentIds() != null) {
+            for (String studentId : resource.studentIds()) {
+                students.add(studentService.getStudentById(studentId)
+                        .orElseThrow(() -> new IllegalArgumentException("Student does not exists with id :" + studentId)));
+            }
+        }
+        return new Reservation(resource.id(), students, room, resource.startTime(), resource.endTime());
+    }
+}
@@ -0,0 +1,21 @@
+package com.ynov.testingmethodology.controller;
+
+import com.ynov.testingmethodology.model.Reservation;
+import com.ynov.testingmethodology.model.Student;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Représentation JSON d'une réservation : la salle et les participants sont désignés par leur id.
+ * La version lue est à renvoyer telle quelle lors d'une mise à jour.
+ */
+public record ReservationResource(String id, String roomId, List<String> studentIds,
+                                  LocalDateTime startTime, LocalDateTime endTime, long version) {
+
+    public static ReservationResource from(Reservation reservation) {
+        return new ReservationResource(reservation.getId(), reservation.getRoom().getId(),
+                reservation.getStudents().stream().map(Student::getId).toList(),
+                reservation.getStartTime(), reservation.getEndTime(), reservation.getVersion());
+    }
+}
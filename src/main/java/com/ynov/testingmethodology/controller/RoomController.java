@@ -0,0 +1,84 @@
+package com.ynov.testingmethodology.controller;
+
+import com.ynov.testingmethodology.model.ReservationSummary;
+import com.ynov.testingmethodology.schedule.TimeSlot;
+import com.ynov.testingmethodology.service.ReservationService;
+import com.ynov.testingmethodology.service.RoomService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/rooms")
+public class RoomController {
+
+    private final RoomService roomService;
+    private final ReservationService reservationService;
+
+    public RoomController(RoomService roomService, ReservationService reservationService) {
+        this.roomService = roomService;
+        this.reservationService = reservationService;
+    }
+
+    @GetMapping
+    public List<RoomResource> list() {
+        return roomService.getAllRooms().stream().map(RoomResource::from).toList();
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<RoomResource> get(@PathVariable String id) {
+        return ResponseEntity.of(roomService.getRoomById(id).map(RoomResource::from));
+    }
+
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    public RoomResource add(@RequestBody RoomResource room) {
+        return RoomResource.from(roomService.addRoom(room.toModel()));
+    }
+
+    @DeleteMapping("/{id}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void delete(@PathVariable String id) {
+        roomService.deleteRoom(id);
+    }
+
+    /**
+     * Plages libres d'une salle pour une journée
+     */
+    @GetMapping("/{id}/availabilities")
+    public List<TimeSlot> availabilities(@PathVariable String id,
+                                         @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        return roomService.getAvailabilities(id, date);
+    }
+
+    /**
+     * Salles d'au moins {@code capacity} places libres sur [start, end[
+     */
+    @GetMapping("/available")
+    public List<RoomResource> available(@RequestParam int capacity,
+                                        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
+                                        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end) {
+        return roomService.findAvailableRooms(capacity, start, end).stream().map(RoomResource::from).toList();
+    }
+
+    /**
+     * Calendrier de la salle en vues allégées
+     */
+    @GetMapping("/{id}/reservations")
+    public List<ReservationSummary> reservations(@PathVariable String id) {
+        return reservationService.getRoomCalendar(id);
+    }
+}
@@ -0,0 +1,17 @@
+package com.ynov.testingmethodology.controller;
+
+import com.ynov.testingmethodology.model.Room;
+
+/**
+ * Représentation JSON d'une salle
+ */
+public record RoomResource(String id, String name, Integer capacity) {
+
+    public static RoomResource from(Room room) {
+        return new RoomResource(room.getId(), room.getName(), room.getCapacity());
+    }
+
+    public Room toModel() {
+        return new Room(id, name, capacity);
+    }
+}
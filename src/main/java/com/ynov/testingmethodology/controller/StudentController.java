@@ -0,0 +1,68 @@
+package com.ynov.testingmethodology.controller;
+
+import com.ynov.testingmethodology.model.ReservationSummary;
+import com.ynov.testingmethodology.model.Student;
+import com.ynov.testingmethodology.repository.CursorPage;
+import com.ynov.testingmethodology.service.ReservationService;
+import com.ynov.testingmethodology.service.StudentService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/students")
+public class StudentController {
+
+    private final StudentService studentService;
+    private final ReservationService reservationService;
+
+    public StudentController(StudentService studentService, ReservationService reservationService) {
+        this.studentService = studentService;
+        this.reservationService = reservationService;
+    }
+
+    /**
+     * Étudiants par pages de {@code limit}, triés par id
+     */
+    @GetMapping
+    public CursorPage<StudentResource> list(@RequestParam(required = false) String cursor,
+                                            @RequestParam(defaultValue = "100") int limit) {
+        CursorPage<Student> page = studentService.getStudentsPage(cursor, limit);
+        return new CursorPage<>(page.items().stream().map(StudentResource::from).toList(), page.nextCursor());
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<StudentResource> get(@PathVariable String id) {
+        return ResponseEntity.of(studentService.getStudentById(id).map(StudentResource::from));
+    }
+
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    public StudentResource register(@RequestBody StudentResource student) {
+        return StudentResource.from(studentService.registerStudent(student.toModel()));
+    }
+
+    @DeleteMapping("/{id}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void delete(@PathVariable String id) {
+        studentService.deleteStudent(id);
+    }
+
+    /**
+     * Calendrier de l'étudiant en vues allégées
+     */
+    @GetMapping("/{id}/reservations")
+    public List<ReservationSummary> reservations(@PathVariable String id) {
+        return reservationService.getStudentCalendar(id);
+    }
+}
@@ -0,0 +1,17 @@
+package com.ynov.testingmethodology.controller;
+
+import com.ynov.testingmethodology.model.Student;
+
+/**
+ * Représentation JSON d'un étudiant, sans ses réservations (qui référencent à leur tour les étudiants)
+ */
+public record StudentResource(String id, String firstName, String lastName) {
+
+    public static StudentResource from(Student student) {
+        return new StudentResource(student.getId(), student.getFirstName(), student.getLastName());
+    }
+
+    public Student toModel() {
+        return new Student(id, firstName, lastName);
+    }
+}
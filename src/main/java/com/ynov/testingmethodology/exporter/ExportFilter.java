@@ -0,0 +1,51 @@
+package com.ynov.testingmethodology.exporter;
+
+import com.ynov.testingmethodology.model.Reservation;
+import com.ynov.testingmethodology.model.Student;
+
+import java.time.LocalDateTime;
+
+/**
+ * Sélection des réservations à exporter ; un critère null n'est pas appliqué
+ *
+ * @param roomId    salle de la réservation
+ * @param studentId participant de la réservation
+ * @param from      début au plus tôt (inclus)
+ * @param to        début au plus tard (exclu)
+ */
+public record ExportFilter(String roomId, String studentId, LocalDateTime from, LocalDateTime to) {
+
+    public ExportFilter {
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new IllegalArgumentException("End time must be after start time");
+        }
+    }
+
+    /**
+     * Toutes les réservations
+     */
+    public static ExportFilter all() {
+        return new ExportFilter(null, null, null, null);
+    }
+
+    public boolean matches(Reservation reservation) {
+        if (roomId != null && (reservation.getRoom() == null || !roomId.equals(reservation.getRoom().getId()))) {
+            return false;
+        }
+        if (from != null && reservation.getStartTime().isBefore(from)) {
+            return false;
+        }
+        if (to != null && !reservation.getStartTime().isBefore(to)) {
+            return false;
+        }
+        if (studentId != null) {
+            for (Student student : reservation.getStudents()) {
+                if (studentId.equals(student.getId())) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        return true;
+    }
+}
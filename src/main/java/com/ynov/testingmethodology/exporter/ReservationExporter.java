@@ -0,0 +1,132 @@
+package com.ynov.testingmethodology.exporter;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.ynov.testingmethodology.model.Reservation;
+import com.ynov.testingmethodology.model.Student;
+import com.ynov.testingmethodology.service.ReservationService;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Export en flux des réservations et des occurrences des séries, en CSV ou en JSON Lines (UTF-8).
+ * La source est choisie d'après le filtre (index par salle, par étudiant ou par date, parcours complet
+ * sinon) ; sans filtre, les réservations sont lues une à une dans le dépôt et écrites aussitôt,
+ * la mémoire utilisée ne dépend pas du volume exporté.
+ * <p>
+ * Le CSV reprend les colonnes lues par l'import ({@code id,roomId,studentIds,startTime,endTime},
+ * participants séparés par des points-virgules) ; chaque ligne JSON porte les mêmes champs
+ * que l'API, {@code studentIds} sous forme de tableau.
+ */
+@Component
+public class ReservationExporter {
+
+    public enum Format {
+        CSV,
+        JSON_LINES
+    }
+
+    static final String CSV_HEADER = "id,roomId,studentIds,startTime,endTime";
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final JsonFactory JSON = new JsonFactory().disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+    private final ReservationService reservationService;
+
+    public ReservationExporter(ReservationService reservationService) {
+        this.reservationService = reservationService;
+    }
+
+    /**
+     * Écrit les réservations retenues par {@code filter} dans {@code out}, qui est vidé mais pas fermé
+     *
+     * @return nombre de réservations écrites
+     */
+    public long export(ExportFilter filter, Format format, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+        long count;
+        try (Stream<Reservation> reservations = reservationService.streamCandidates(
+                filter.roomId(), filter.studentId(), filter.from(), filter.to()).filter(filter::matches)) {
+            count = format == Format.CSV ? writeCsv(reservations.iterator(), writer) : writeJsonLines(reservations.iterator(), writer);
+        }
+        writer.flush();
+        return count;
+    }
+
+    /**
+     * Variante pour un canal (ex. {@link java.nio.channels.FileChannel}) ; le canal n'est pas fermé
+     */
+    public long export(ExportFilter filter, Format format, WritableByteChannel channel) throws IOException {
+        OutputStream out = Channels.newOutputStream(channel);
+        return export(filter, format, out);
+    }
+
+    private static long writeCsv(Iterator<Reservation> reservations, Writer writer) throws IOException {
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+        long count = 0;
+        StringBuilder line = new StringBuilder(128);
+        while (reservations.hasNext()) {
+            Reservation reservation = reservations.next();
+            line.setLength(0);
+            appendCsv(line, reservation.getId()).append(',');
+            appendCsv(line, reservation.getRoom().getId()).append(',');
+            StringBuilder students = new StringBuilder();
+            for (Student student : reservation.getStudents()) {
+                if (!students.isEmpty()) {
+                    students.append(';');
+                }
+                students.append(student.getId());
+            }
+            appendCsv(line, students.toString()).append(',');
+            line.append(reservation.getStartTime()).append(',').append(reservation.getEndTime()).append('\n');
+            writer.append(line);
+            count++;
+        }
+        return count;
+    }
+
+    private static long writeJsonLines(Iterator<Reservation> reservations, Writer writer) throws IOException {
+        long count = 0;
+        try (JsonGenerator json = JSON.createGenerator(writer)) {
+            // Une valeur par ligne, sans le séparateur par défaut entre valeurs racines
+            json.setRootValueSeparator(null);
+            while (reservations.hasNext()) {
+                Reservation reservation = reservations.next();
+                json.writeStartObject();
+                json.writeStringField("id", reservation.getId());
+                json.writeStringField("roomId", reservation.getRoom().getId());
+                json.writeArrayFieldStart("studentIds");
+                for (Student student : reservation.getStudents()) {
+                    json.writeString(student.getId());
+                }
+                json.writeEndArray();
+                json.writeStringField("startTime", reservation.getStartTime().toString());
+                json.writeStringField("endTime", reservation.getEndTime().toString());
+                json.writeEndObject();
+                json.writeRaw('\n');
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Champ entre guillemets s'il contient une virgule, un guillemet ou un saut de ligne
+     */
+    private static StringBuilder appendCsv(StringBuilder line, String field) {
+        if (field.indexOf(',') < 0 && field.indexOf('"') < 0 && field.indexOf('\n') < 0) {
+            return line.append(field);
+        }
+        return line.append('"').append(field.replace("\"", "\"\"")).append('"');
+    }
+}
@@ -0,0 +1,23 @@
+package com.ynov.testingmethodology.ids;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Dictionnaires partagés des identifiants d'étudiants et de salles.
+ * Les handles sont attribués à l'inscription (ou à la première réservation rencontrée)
+ * et servent de clés à tous les index internes.
+ */
+@Component
+public class EntityIds {
+
+    private final IdDictionary students = new IdDictionary();
+    private final IdDictionary rooms = new IdDictionary();
+
+    public IdDictionary students() {
+        return students;
+    }
+
+    public IdDictionary rooms() {
+        return rooms;
+    }
+}
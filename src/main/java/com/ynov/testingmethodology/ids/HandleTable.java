@@ -0,0 +1,62 @@
+package com.ynov.testingmethodology.ids;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
+
+/**
+ * Tableau indexé par handle, découpé en pages allouées à la demande.
+ * Les pages ne sont jamais recopiées : lectures et écritures concurrentes restent sûres
+ * pendant que la table grandit.
+ */
+public final class HandleTable<T> {
+
+    private static final int PAGE_BITS = 12;
+    private static final int PAGE_SIZE = 1 << PAGE_BITS;
+    private static final int MAX_PAGES = 1 << 14;
+
+    private final AtomicReferenceArray<AtomicReferenceArray<T>> pages = new AtomicReferenceArray<>(MAX_PAGES);
+
+    /**
+     * Valeur associée au handle, ou null
+     */
+    public T get(int handle) {
+        AtomicReferenceArray<T> page = pages.get(handle >>> PAGE_BITS);
+        return page == null ? null : page.get(handle & (PAGE_SIZE - 1));
+    }
+
+    /**
+     * Valeur associée au handle, créée si elle n'existe pas encore
+     */
+    public T computeIfAbsent(int handle, Supplier<T> factory) {
+        AtomicReferenceArray<T> page = page(handle);
+        int index = handle & (PAGE_SIZE - 1);
+        T value = page.get(index);
+        if (value != null) {
+            return value;
+        }
+        T created = factory.get();
+        return page.compareAndSet(index, null, created) ? created : page.get(index);
+    }
+
+    /**
+     * Vide la table
+     */
+    public void clear() {
+        for (int i = 0; i < MAX_PAGES; i++) {
+            pages.set(i, null);
+        }
+    }
+
+    private AtomicReferenceArray<T> page(int handle) {
+        int pageIndex = handle >>> PAGE_BITS;
+        if (pageIndex >= MAX_PAGES) {
+            throw new IllegalStateException("Too many handles: " + handle);
+        }
+        AtomicReferenceArray<T> page = pages.get(pageIndex);
+        if (page == null) {
+            pages.compareAndSet(pageIndex, null, new AtomicReferenceArray<>(PAGE_SIZE));
+            page = pages.get(pageIndex);
+        }
+        return page;
+    }
+}
@@ -0,0 +1,67 @@
+package com.ynov.testingmethodology.ids;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Dictionnaire d'identifiants : associe à chaque id externe un entier dense (0, 1, 2...)
+ * attribué à la première rencontre et jamais réutilisé.
+ * Les index internes peuvent ainsi remplacer les tables de hachage sur des chaînes par des tableaux.
+ */
+public final class IdDictionary {
+
+    public static final int ABSENT = -1;
+
+    private final ConcurrentHashMap<String, Integer> handles = new ConcurrentHashMap<>();
+    // Lecture sans verrou : un handle obtenu via la table est toujours visible dans le tableau
+    private volatile String[] ids = new String[64];
+    private int size;
+
+    /**
+     * Retourne le handle de l'id, en l'enregistrant si nécessaire
+     */
+    public int intern(String id) {
+        Integer handle = handles.get(id);
+        if (handle != null) {
+            return handle;
+        }
+        synchronized (this) {
+            handle = handles.get(id);
+            if (handle != null) {
+                return handle;
+            }
+            int next = size;
+            String[] current = ids;
+            if (next == current.length) {
+                current = Arrays.copyOf(current, next * 2);
+            }
+            current[next] = id;
+            ids = current;
+            size = next + 1;
+            handles.put(id, next);
+            return next;
+        }
+    }
+
+    /**
+     * Retourne le handle de l'id, ou {@link #ABSENT} s'il n'a jamais été enregistré
+     */
+    public int handleOf(String id) {
+        Integer handle = handles.get(id);
+        return handle == null ? ABSENT : handle;
+    }
+
+    /**
+     * Retourne l'id externe d'un handle
+     */
+    public String idOf(int handle) {
+        return ids[handle];
+    }
+
+    /**
+     * Nombre de handles attribués ; ils vont de 0 à size() - 1
+     */
+    public synchronized int size() {
+        return size;
+    }
+}
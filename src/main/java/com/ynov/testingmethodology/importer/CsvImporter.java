@@ -0,0 +1,292 @@
+package com.ynov.testingmethodology.importer;
+
+import com.ynov.testingmethodology.model.Reservation;
+import com.ynov.testingmethodology.model.Room;
+import com.ynov.testingmethodology.model.Student;
+import com.ynov.testingmethodology.repository.RoomRepository;
+import com.ynov.testingmethodology.repository.StudentRepository;
+import com.ynov.testingmethodology.service.BatchResult;
+import com.ynov.testingmethodology.service.ReservationService;
+import com.ynov.testingmethodology.service.RoomService;
+import com.ynov.testingmethodology.service.StudentService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Import CSV en flux des étudiants, des salles et des réservations. Le fichier est lu par blocs
+ * de {@code chunkSize} lignes : chaque bloc est validé en parallèle et enregistré en un seul lot
+ * par le service concerné, puis oublié, ce qui borne la mémoire quelle que soit la taille du fichier.
+ * La première ligne est un en-tête, ignoré ; les champs peuvent être entourés de guillemets.
+ * Une ligne refusée est reportée avec son numéro sans interrompre l'import.
+ */
+@Component
+public class CsvImporter {
+
+    public static final int DEFAULT_CHUNK_SIZE = 1000;
+
+    private record ReservationRow(String id, String roomId, List<String> studentIds,
+                                  LocalDateTime startTime, LocalDateTime endTime) {
+    }
+
+    /**
+     * Enregistre un bloc de lignes lues ; retourne, par position dans le bloc,
+     * la raison du refus de chaque ligne (null si elle est enregistrée)
+     */
+    private interface ChunkWriter<T> {
+        String[] write(List<T> items);
+    }
+
+    private final StudentService studentService;
+    private final RoomService roomService;
+    private final ReservationService reservationService;
+    private final StudentRepository studentRepo;
+    private final RoomRepository roomRepo;
+    private final int chunkSize;
+
+    @Autowired
+    public CsvImporter(StudentService studentService, RoomService roomService, ReservationService reservationService,
+                       StudentRepository studentRepo, RoomRepository roomRepo) {
+        this(studentService, roomService, reservationService, studentRepo, roomRepo, DEFAULT_CHUNK_SIZE);
+    }
+
+    public CsvImporter(StudentService studentService, RoomService roomService, ReservationService reservationService,
+                       StudentRepository studentRepo, RoomRepository roomRepo, int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive integer");
+        }
+        this.studentService = studentService;
+        this.roomService = roomService;
+        this.reservationService = reservationService;
+        this.studentRepo = studentRepo;
+        this.roomRepo = roomRepo;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Colonnes : id, firstName, lastName
+     */
+    public ImportReport importStudents(Reader reader) throws IOException {
+        return importCsv(reader, 3, fields -> new Student(fields[0], fields[1], fields[2]),
+                students -> errors(studentService.registerStudents(students), students.size()));
+    }
+
+    /**
+     * Colonnes : id, name, capacity
+     */
+    public ImportReport importRooms(Reader reader) throws IOException {
+        return importCsv(reader, 3, fields -> new Room(fields[0], fields[1], parseCapacity(fields[2])),
+                rooms -> errors(roomService.addRooms(rooms), rooms.size()));
+    }
+
+    /**
+     * Colonnes : id, roomId, studentIds (séparés par des points-virgules), startTime, endTime
+     * (dates ISO-8601, ex. 2025-06-25T10:00)
+     */
+    public ImportReport importReservations(Reader reader) throws IOException {
+        return importCsv(reader, 5, fields -> new ReservationRow(fields[0], fields[1], splitIds(fields[2]),
+                parseDateTime(fields[3]), parseDateTime(fields[4])), this::writeReservations);
+    }
+
+    /**
+     * Les salles et les étudiants cités par le bloc sont cherchés en un appel chacun,
+     * puis les réservations résolues sont importées en un lot
+     */
+    private String[] writeReservations(List<ReservationRow> rows) {
+        Set<String> roomIds = new HashSet<>();
+        Set<String> studentIds = new HashSet<>();
+        for (ReservationRow row : rows) {
+            roomIds.add(row.roomId());
+            studentIds.addAll(row.studentIds());
+        }
+        Map<String, Room> rooms = roomRepo.findAllById(roomIds).stream()
+                .collect(Collectors.toMap(Room::getId, Function.identity()));
+        Map<String, Student> students = studentRepo.findAllById(studentIds).stream()
+                .collect(Collectors.toMap(Student::getId, Function.identity()));
+
+        String[] errors = new String[rows.size()];
+        List<Reservation> reservations = new ArrayList<>(rows.size());
+        List<Integer> positions = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            ReservationRow row = rows.get(i);
+            // Salle ou participants absents de la ligne : laissés à la validation du service
+            Room room = row.roomId().isEmpty() ? null : rooms.get(row.roomId());
+            if (room == null && !row.roomId().isEmpty()) {
+                errors[i] = "Room does not exists with id :" + row.roomId();
+                continue;
+            }
+            List<Student> group = new ArrayList<>(row.studentIds().size());
+            for (String studentId : row.studentIds()) {
+                Student student = students.get(studentId);
+                if (student == null) {
+                    errors[i] = "Student does not exists with id :" + studentId;
+                    break;
+                }
+                group.add(student);
+            }
+            if (errors[i] == null) {
+                reservations.add(new Reservation(row.id(), group, room, row.startTime(), row.endTime()));
+                positions.add(i);
+            }
+        }
+        if (!reservations.isEmpty()) {
+            reservationService.importReservations(reservations).rejected()
+                    .forEach((position, message) -> errors[positions.get(position)] = message);
+        }
+        return errors;
+    }
+
+    private <T> ImportReport importCsv(Reader reader, int columns, Function<String[], T> parser,
+                                       ChunkWriter<T> writer) throws IOException {
+        BufferedReader in = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+        Tally tally = new Tally();
+        // Bloc en cours : numéro de chaque ligne, erreur de lecture éventuelle, et lignes lues correctement
+        long[] numbers = new long[chunkSize];
+        String[] parseErrors = new String[chunkSize];
+        List<T> items = new ArrayList<>(chunkSize);
+        int size = 0;
+        long number = 1;
+        in.readLine();
+        for (String line = in.readLine(); line != null; line = in.readLine()) {
+            number++;
+            if (line.isBlank()) {
+                continue;
+            }
+            numbers[size] = number;
+            parseErrors[size] = null;
+            try {
+                String[] fields = split(line);
+                if (fields.length != columns) {
+                    throw new IllegalArgumentException("Expected " + columns + " columns but found " + fields.length);
+                }
+                items.add(parser.apply(fields));
+            } catch (IllegalArgumentException e) {
+                parseErrors[size] = e.getMessage();
+            }
+            if (++size == chunkSize) {
+                flush(numbers, parseErrors, size, items, writer, tally);
+                size = 0;
+            }
+        }
+        flush(numbers, parseErrors, size, items, writer, tally);
+        return tally.report();
+    }
+
+    private static <T> void flush(long[] numbers, String[] parseErrors, int size, List<T> items,
+                                  ChunkWriter<T> writer, Tally tally) {
+        if (size == 0) {
+            return;
+        }
+        String[] writeErrors = items.isEmpty() ? new String[0] : writer.write(items);
+        int item = 0;
+        for (int i = 0; i < size; i++) {
+            String error = parseErrors[i] != null ? parseErrors[i] : writeErrors[item++];
+            tally.add(numbers[i], error);
+        }
+        items.clear();
+    }
+
+    private static String[] errors(BatchResult<?> result, int size) {
+        String[] errors = new String[size];
+        result.rejected().forEach((position, message) -> errors[position] = message);
+        return errors;
+    }
+
+    /**
+     * Découpe une ligne CSV ; un champ entre guillemets peut contenir des virgules, et {@code ""} y désigne un guillemet
+     */
+    static String[] split(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString().trim());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field");
+        }
+        fields.add(field.toString().trim());
+        return fields.toArray(String[]::new);
+    }
+
+    private static List<String> splitIds(String field) {
+        List<String> ids = new ArrayList<>();
+        for (String id : field.split(";")) {
+            if (!id.isBlank()) {
+                ids.add(id.trim());
+            }
+        }
+        return ids;
+    }
+
+    private static Integer parseCapacity(String field) {
+        try {
+            return Integer.valueOf(field);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid capacity: " + field);
+        }
+    }
+
+    private static LocalDateTime parseDateTime(String field) {
+        if (field.isEmpty()) {
+            return null;
+        }
+        try {
+            return LocalDateTime.parse(field);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid date time: " + field);
+        }
+    }
+
+    private static final class Tally {
+        private long lines;
+        private long imported;
+        private long rejected;
+        private final List<ImportReport.LineError> errors = new ArrayList<>();
+
+        void add(long line, String error) {
+            lines++;
+            if (error == null) {
+                imported++;
+                return;
+            }
+            rejected++;
+            if (errors.size() < ImportReport.MAX_ERRORS) {
+                errors.add(new ImportReport.LineError(line, error));
+            }
+        }
+
+        ImportReport report() {
+            return new ImportReport(lines, imported, rejected, List.copyOf(errors));
+        }
+    }
+}
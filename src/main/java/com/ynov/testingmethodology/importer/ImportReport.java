@@ -0,0 +1,24 @@
+package com.ynov.testingmethodology.importer;
+
+import java.util.List;
+
+/**
+ * Bilan d'un import CSV. Seules les {@link #MAX_ERRORS} premières erreurs sont détaillées,
+ * pour que la mémoire reste bornée quelle que soit la taille du fichier ; {@code rejected} les compte toutes.
+ *
+ * @param lines    lignes de données lues (hors en-tête et lignes vides)
+ * @param imported lignes enregistrées
+ * @param rejected lignes refusées
+ * @param errors   détail des premières lignes refusées, dans l'ordre du fichier
+ */
+public record ImportReport(long lines, long imported, long rejected, List<LineError> errors) {
+
+    public static final int MAX_ERRORS = 1000;
+
+    /**
+     * @param line    numéro de la ligne dans le fichier, en-tête compris (à partir de 1)
+     * @param message raison du refus
+     */
+    public record LineError(long line, String message) {
+    }
+}
@@ -0,0 +1,112 @@
+package com.ynov.testingmethodology.metrics;
+
+import com.ynov.testingmethodology.repository.StaleReservationException;
+import com.ynov.testingmethodology.service.BookingConflictException;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.AfterThrowing;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Instrumentation Micrometer des services : durée de chaque opération annotée
+ * {@code @Timed(BookingMetrics.OPERATION)}, refus classés par raison, et jauges sur la taille
+ * des index et l'efficacité des caches.
+ *
+ * <ul>
+ *     <li>{@code booking.operation} (timer, via {@link TimedAspect}) : tags {@code operation}
+ *     et {@code exception} (none si l'appel a réussi)</li>
+ *     <li>{@code booking.rejections} (compteur) : tags {@code operation} et {@code reason}
+ *     (conflict_room, conflict_student, stale ou validation)</li>
+ * </ul>
+ */
+@Aspect
+@Component
+public class BookingMetrics {
+
+    public static final String OPERATION = "booking.operation";
+    public static final String REJECTIONS = "booking.rejections";
+
+    private final MeterRegistry registry;
+    // Les compteurs sont résolus une fois par combinaison de tags, hors du chemin chaud
+    private final Map<String, Counter> rejections = new ConcurrentHashMap<>();
+
+    /**
+     * Métriques gardées en mémoire seulement, hors contexte Spring
+     */
+    public BookingMetrics() {
+        this(new SimpleMeterRegistry());
+    }
+
+    @Autowired
+    public BookingMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    public MeterRegistry getRegistry() {
+        return registry;
+    }
+
+    /**
+     * Aspect qui mesure les méthodes annotées {@code @Timed}, taguées par le nom de la méthode
+     */
+    public static TimedAspect timedAspect(MeterRegistry registry) {
+        Function<ProceedingJoinPoint, Iterable<Tag>> operation =
+                joinPoint -> Tags.of("operation", joinPoint.getSignature().getName());
+        return new TimedAspect(registry, operation);
+    }
+
+    /**
+     * Compte un refus ({@link IllegalArgumentException}) d'une opération mesurée, avec sa raison
+     */
+    @AfterThrowing(pointcut = "@annotation(io.micrometer.core.annotation.Timed)", throwing = "rejection")
+    public void rejected(JoinPoint joinPoint, IllegalArgumentException rejection) {
+        rejection(joinPoint.getSignature().getName(), reason(rejection)).increment();
+    }
+
+    /**
+     * Jauge lue à chaque publication (taille d'un index, ratio d'un cache)
+     */
+    public <T> void gauge(String name, String description, T source, ToDoubleFunction<T> value, String... tags) {
+        Gauge.builder(name, source, value).description(description).tags(tags).register(registry);
+    }
+
+    /**
+     * Compteur monotone lu sur un objet existant (succès ou échecs d'un cache)
+     */
+    public <T> void counter(String name, String description, T source, ToDoubleFunction<T> value, String... tags) {
+        FunctionCounter.builder(name, source, value).description(description).tags(tags).register(registry);
+    }
+
+    private static String reason(IllegalArgumentException rejection) {
+        if (rejection instanceof BookingConflictException conflict) {
+            return "conflict_" + conflict.getKind().name().toLowerCase();
+        }
+        if (rejection instanceof StaleReservationException) {
+            return "stale";
+        }
+        return "validation";
+    }
+
+    private Counter rejection(String operation, String reason) {
+        return rejections.computeIfAbsent(operation + '|' + reason, key -> Counter.builder(REJECTIONS)
+                .description("Rejected booking service calls")
+                .tag("operation", operation)
+                .tag("reason", reason)
+                .register(registry));
+    }
+}
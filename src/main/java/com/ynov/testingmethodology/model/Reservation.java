@@ -1,6 +1,7 @@
 package com.ynov.testingmethodology.model;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import com.ynov.testingmethodology.model.Student;
 import com.ynov.testingmethodology.model.Room;
@@ -11,6 +12,8 @@ public class Reservation {
     private Room room;
     private LocalDateTime startTime;
     private LocalDateTime endTime;
+    // Incrémentée à chaque mise à jour : une modification basée sur une version périmée est refusée
+    private long version;
 
     // Constructeur
     public Reservation(String id, List<Student> students, Room room, LocalDateTime startTime, LocalDateTime endTime) {
@@ -21,6 +24,15 @@ public class Reservation {
         this.endTime = endTime;
     }
 
+    /**
+     * Copie indépendante (liste des participants comprise) de même version, à modifier avant une mise à jour
+     */
+    public Reservation copy() {
+        Reservation copy = new Reservation(id, students == null ? null : new ArrayList<>(students), room, startTime, endTime);
+        copy.version = version;
+        return copy;
+    }
+
     // Getter pour id
     public String getId() {
         return id;
@@ -46,7 +58,14 @@ public class Reservation {
     }
 
     public void removeStudent(Student student) {
-        this.students.remove(student);
+        removeStudent(student.getId());
+    }
+
+    /**
+     * Retire le participant d'id {@code studentId} ; l'ordre des autres participants est conservé
+     */
+    public void removeStudent(String studentId) {
+        this.students.removeIf(student -> studentId.equals(student.getId()));
     }
 
     // Getter pour room
@@ -78,4 +97,12 @@ public class Reservation {
     public void setEndTime(LocalDateTime endTime) {
         this.endTime = endTime;
     }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
 }
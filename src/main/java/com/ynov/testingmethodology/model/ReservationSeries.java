@@ -0,0 +1,169 @@
+package com.ynov.testingmethodology.model;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Réservation récurrente (ex : tous les mardis de 10h00 à 12h00 jusqu'à la fin du semestre).
+ * Seule la règle est stockée ; les occurrences sont générées à la demande.
+ */
+public class ReservationSeries {
+    private String id;
+    private List<Student> students;
+    private Room room;
+    private LocalDate firstDate;
+    private LocalDate lastDate;
+    private LocalTime startTime;
+    private LocalTime endTime;
+    // Nombre de semaines entre deux occurrences
+    private int intervalWeeks;
+
+    // Constructeur
+    public ReservationSeries(String id, List<Student> students, Room room, LocalDate firstDate, LocalDate lastDate,
+                             LocalTime startTime, LocalTime endTime, int intervalWeeks) {
+        this.id = id;
+        this.students = students;
+        this.room = room;
+        this.firstDate = firstDate;
+        this.lastDate = lastDate;
+        this.startTime = startTime;
+        this.endTime = endTime;
+        this.intervalWeeks = intervalWeeks;
+    }
+
+    // Constructeur pour une série hebdomadaire
+    public ReservationSeries(String id, List<Student> students, Room room, LocalDate firstDate, LocalDate lastDate,
+                             LocalTime startTime, LocalTime endTime) {
+        this(id, students, room, firstDate, lastDate, startTime, endTime, 1);
+    }
+
+    /**
+     * Copie indépendante (liste des participants comprise), à modifier avant de remplacer la série
+     */
+    public ReservationSeries copy() {
+        return new ReservationSeries(id, students == null ? null : new ArrayList<>(students), room,
+                firstDate, lastDate, startTime, endTime, intervalWeeks);
+    }
+
+    // Getter pour id
+    public String getId() {
+        return id;
+    }
+
+    // Setter pour id
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    // Getter pour students
+    public List<Student> getStudents() {
+        return students;
+    }
+
+    // Setter pour students
+    public void setStudents(List<Student> students) {
+        this.students = students;
+    }
+
+    // Getter pour room
+    public Room getRoom() {
+        return room;
+    }
+
+    // Setter pour room
+    public void setRoom(Room room) {
+        this.room = room;
+    }
+
+    // Getter pour firstDate
+    public LocalDate getFirstDate() {
+        return firstDate;
+    }
+
+    // Setter pour firstDate
+    public void setFirstDate(LocalDate firstDate) {
+        this.firstDate = firstDate;
+    }
+
+    // Getter pour lastDate
+    public LocalDate getLastDate() {
+        return lastDate;
+    }
+
+    // Setter pour lastDate
+    public void setLastDate(LocalDate lastDate) {
+        this.lastDate = lastDate;
+    }
+
+    // Getter pour startTime
+    public LocalTime getStartTime() {
+        return startTime;
+    }
+
+    // Setter pour startTime
+    public void setStartTime(LocalTime startTime) {
+        this.startTime = startTime;
+    }
+
+    // Getter pour endTime
+    public LocalTime getEndTime() {
+        return endTime;
+    }
+
+    // Setter pour endTime
+    public void setEndTime(LocalTime endTime) {
+        this.endTime = endTime;
+    }
+
+    // Getter pour intervalWeeks
+    public int getIntervalWeeks() {
+        return intervalWeeks;
+    }
+
+    // Setter pour intervalWeeks
+    public void setIntervalWeeks(int intervalWeeks) {
+        this.intervalWeeks = intervalWeeks;
+    }
+
+    // === Méthodes de logique ===
+
+    /**
+     * Dates des occurrences, de la première à la dernière incluse
+     */
+    public Stream<LocalDate> dates() {
+        return Stream.iterate(firstDate, date -> !date.isAfter(lastDate), date -> date.plusWeeks(intervalWeeks));
+    }
+
+    /**
+     * Occurrence de la série à une date donnée, identifiée par "idSérie#date"
+     */
+    public Reservation occurrence(LocalDate date) {
+        return new Reservation(id + "#" + date, students, room, date.atTime(startTime), date.atTime(endTime));
+    }
+
+    /**
+     * Occurrences générées paresseusement
+     */
+    public Stream<Reservation> occurrences() {
+        return dates().map(this::occurrence);
+    }
+
+    /**
+     * Occurrences qui commencent dans [from, to[, générées à partir de la première date
+     * concernée sans parcourir les précédentes
+     */
+    public Stream<Reservation> occurrencesBetween(LocalDateTime from, LocalDateTime to) {
+        long period = 7L * intervalWeeks;
+        long skipped = Math.max(0, ChronoUnit.DAYS.between(firstDate, from.toLocalDate()) / period);
+        return Stream.iterate(firstDate.plusDays(skipped * period),
+                        date -> !date.isAfter(lastDate) && date.atTime(startTime).isBefore(to),
+                        date -> date.plusWeeks(intervalWeeks))
+                .filter(date -> !date.atTime(startTime).isBefore(from))
+                .map(this::occurrence);
+    }
+}
@@ -0,0 +1,24 @@
+package com.ynov.testingmethodology.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Vue allégée d'une réservation pour les listes (calendriers, bornes) : ni la salle
+ * ni les participants ne sont chargés, seul leur nombre est gardé
+ *
+ * @param id        id de la réservation
+ * @param roomId    id de la salle
+ * @param startTime début
+ * @param endTime   fin
+ * @param headcount nombre de participants
+ */
+public record ReservationSummary(String id, String roomId, LocalDateTime startTime, LocalDateTime endTime,
+                                 int headcount) {
+
+    public static ReservationSummary of(Reservation reservation) {
+        return new ReservationSummary(reservation.getId(),
+                reservation.getRoom() == null ? null : reservation.getRoom().getId(),
+                reservation.getStartTime(), reservation.getEndTime(),
+                reservation.getStudents() == null ? 0 : reservation.getStudents().size());
+    }
+}
@@ -0,0 +1,271 @@
+package com.ynov.testingmethodology.persistence;
+
+import com.ynov.testingmethodology.model.Reservation;
+import com.ynov.testingmethodology.model.ReservationSeries;
+import com.ynov.testingmethodology.model.Room;
+import com.ynov.testingmethodology.model.Student;
+import com.ynov.testingmethodology.repository.JournaledReservationRepository;
+import com.ynov.testingmethodology.repository.ReservationRepository;
+import com.ynov.testingmethodology.repository.ReservationSeriesRepository;
+import com.ynov.testingmethodology.repository.RoomRepository;
+import com.ynov.testingmethodology.repository.StudentRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Instantanés binaires de tout l'état des réservations (étudiants, salles, séries, réservations).
+ * <p>
+ * L'état est copié pendant une courte pause des réservations ({@code ReservationService.whileBookingsPaused}),
+ * avec le numéro du dernier enregistrement du journal qu'il couvre ; l'écriture du fichier se fait ensuite
+ * sans bloquer personne. Le fichier est écrit à côté, forcé sur disque puis renommé atomiquement :
+ * un instantané interrompu ne remplace jamais le précédent. Une fois l'instantané durable,
+ * le journal est tronqué jusqu'à ce numéro.
+ * <p>
+ * Le chargement est une seule lecture séquentielle suivie d'insertions en masse ; le journal ne rejoue
+ * ensuite que ce qui suit l'instantané, et les index d'occupation se reconstruisent avec
+ * {@code ReservationService.rebuildIndexes()}.
+ */
+public class BookingSnapshots implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(BookingSnapshots.class);
+
+    private static final int MAGIC = 0x42534E50; // "BSNP"
+    private static final int VERSION = 3;
+    private static final int BUFFER_SIZE = 1 << 20;
+
+    /**
+     * Nombre d'éléments écrits ou relus, et dernier enregistrement du journal couvert par l'instantané
+     */
+    public record Summary(int students, int rooms, int series, int reservations, long journalSequence) {
+
+        public Summary(int students, int rooms, int series, int reservations) {
+            this(students, rooms, series, reservations, 0);
+        }
+    }
+
+    /**
+     * Etat copié pendant la pause des réservations
+     */
+    private record Capture(List<Student> students, List<Room> rooms, List<ReservationSeries> series,
+                           List<Reservation> reservations, long journalSequence) {
+
+        Capture at(long sequence) {
+            return new Capture(students, rooms, series, reservations, sequence);
+        }
+    }
+
+    private final StudentRepository studentRepo;
+    private final RoomRepository roomRepo;
+    private final ReservationSeriesRepository seriesRepo;
+    private final ReservationRepository reservationRepo;
+    private final Consumer<Runnable> pause;
+    private final JournaledReservationRepository journal;
+    private ScheduledExecutorService scheduler;
+
+    public BookingSnapshots(StudentRepository studentRepo, RoomRepository roomRepo,
+                            ReservationSeriesRepository seriesRepo, ReservationRepository reservationRepo) {
+        this(studentRepo, roomRepo, seriesRepo, reservationRepo, Runnable::run, null);
+    }
+
+    /**
+     * @param pause   exécute la copie de l'état sans réservation concurrente
+     * @param journal journal tronqué après chaque instantané ({@code null} sans journal)
+     */
+    public BookingSnapshots(StudentRepository studentRepo, RoomRepository roomRepo,
+                            ReservationSeriesRepository seriesRepo, ReservationRepository reservationRepo,
+                            Consumer<Runnable> pause, JournaledReservationRepository journal) {
+        this.studentRepo = studentRepo;
+        this.roomRepo = roomRepo;
+        this.seriesRepo = seriesRepo;
+        this.reservationRepo = reservationRepo;
+        this.pause = pause;
+        this.journal = journal;
+    }
+
+    /**
+     * Ecrit un instantané dans {@code path}, puis tronque le journal qu'il couvre.
+     * Une écriture à la fois : {@link #close()} attend celle en cours
+     */
+    public synchronized Summary write(Path path) {
+        Capture capture = capture();
+        List<Student> students = capture.students();
+        List<Room> rooms = capture.rooms();
+        List<ReservationSeries> series = capture.series();
+        List<Reservation> reservations = capture.reservations();
+        Path tmp = path.resolveSibling(path.getFileName() + ".tmp");
+        try {
+            CRC32 crc = new CRC32();
+            FileOutputStream file = new FileOutputStream(tmp.toFile());
+            try (DataOutputStream out = new DataOutputStream(new CheckedOutputStream(
+                    new BufferedOutputStream(file, BUFFER_SIZE), crc))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeLong(capture.journalSequence());
+                out.writeInt(students.size());
+                for (Student student : students) {
+                    ReservationCodec.writeStudent(out, student);
+                }
+                out.writeInt(rooms.size());
+                for (Room room : rooms) {
+                    ReservationCodec.writeRoom(out, room);
+                }
+                out.writeInt(series.size());
+                for (ReservationSeries one : series) {
+                    ReservationCodec.writeSeries(out, one);
+                }
+                out.writeInt(reservations.size());
+                for (Reservation reservation : reservations) {
+                    ReservationCodec.writeReservation(out, reservation);
+                }
+                // Le CRC couvre tout ce qui précède
+                out.writeLong(crc.getValue());
+                out.flush();
+                // Le journal ne peut être tronqué que si l'instantané survit à un arrêt brutal
+                file.getChannel().force(true);
+            }
+            Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write snapshot " + path, e);
+        }
+        if (journal != null) {
+            journal.truncateThrough(capture.journalSequence());
+        }
+        return new Summary(students.size(), rooms.size(), series.size(), reservations.size(), capture.journalSequence());
+    }
+
+    /**
+     * Charge un instantané dans les dépôts ; ne fait rien si le fichier n'existe pas
+     */
+    public Summary load(Path path) {
+        if (!Files.exists(path)) {
+            return new Summary(0, 0, 0, 0);
+        }
+        ReservationCodec codec = new ReservationCodec();
+        CRC32 crc = new CRC32();
+        try (DataInputStream in = new DataInputStream(new CheckedInputStream(
+                new BufferedInputStream(Files.newInputStream(path), BUFFER_SIZE), crc))) {
+            if (in.readInt() != MAGIC) {
+                throw new IllegalStateException("Not a booking snapshot: " + path);
+            }
+            int version = in.readInt();
+            if (version != VERSION) {
+                throw new IllegalStateException("Unsupported snapshot version " + version);
+            }
+            long journalSequence = in.readLong();
+            int studentCount = in.readInt();
+            List<Student> students = new ArrayList<>(studentCount);
+            for (int i = 0; i < studentCount; i++) {
+                students.add(codec.readStudent(in));
+            }
+            int roomCount = in.readInt();
+            List<Room> rooms = new ArrayList<>(roomCount);
+            for (int i = 0; i < roomCount; i++) {
+                rooms.add(codec.readRoom(in));
+            }
+            int seriesCount = in.readInt();
+            List<ReservationSeries> series = new ArrayList<>(seriesCount);
+            for (int i = 0; i < seriesCount; i++) {
+                series.add(codec.readSeries(in));
+            }
+            int reservationCount = in.readInt();
+            List<Reservation> reservations = new ArrayList<>(reservationCount);
+            for (int i = 0; i < reservationCount; i++) {
+                reservations.add(codec.readReservation(in));
+            }
+            long expected = crc.getValue();
+            if (in.readLong() != expected) {
+                throw new IllegalStateException("Corrupted snapshot: " + path);
+            }
+
+            // Rien n'est appliqué tant que le fichier n'a pas été vérifié en entier
+            students.forEach(studentRepo::save);
+            rooms.forEach(roomRepo::save);
+            series.forEach(seriesRepo::save);
+            reservationRepo.saveAll(reservations);
+            return new Summary(studentCount, roomCount, seriesCount, reservationCount, journalSequence);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read snapshot " + path, e);
+        }
+    }
+
+    /**
+     * Copie l'état sous la pause : les réservations et séries sont dupliquées pour que leur écriture
+     * ne lise jamais un objet modifié entre-temps
+     */
+    private Capture capture() {
+        Capture[] captured = new Capture[1];
+        pause.accept(() -> {
+            if (journal == null) {
+                captured[0] = copyState();
+            } else {
+                long sequence = journal.quiesce(() -> captured[0] = copyState());
+                captured[0] = captured[0].at(sequence);
+            }
+        });
+        return captured[0];
+    }
+
+    private Capture copyState() {
+        List<Reservation> reservations = new ArrayList<>();
+        for (Reservation reservation : reservationRepo.findAll()) {
+            reservations.add(reservation.copy());
+        }
+        List<ReservationSeries> series = new ArrayList<>();
+        for (ReservationSeries one : seriesRepo.findAll()) {
+            series.add(one.copy());
+        }
+        return new Capture(studentRepo.findAll(), roomRepo.findAll(), series, reservations, 0);
+    }
+
+    /**
+     * Ecrit un instantané toutes les {@code period} sur un thread d'arrière-plan
+     */
+    public synchronized void start(Path path, Duration period) {
+        if (scheduler != null) {
+            throw new IllegalStateException("Snapshots are already scheduled");
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "booking-snapshots");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long millis = period.toMillis();
+        scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                write(path);
+            } catch (RuntimeException e) {
+                // Un échec ne doit pas arrêter les instantanés suivants
+                log.warn("Snapshot to {} failed", path, e);
+            }
+        }, millis, millis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public synchronized void close() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+            scheduler = null;
+        }
+    }
+}
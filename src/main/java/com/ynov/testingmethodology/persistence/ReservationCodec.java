@@ -0,0 +1,169 @@
+package com.ynov.testingmethodology.persistence;
+
+import com.ynov.testingmethodology.model.Reservation;
+import com.ynov.testingmethodology.model.ReservationSeries;
+import com.ynov.testingmethodology.model.Room;
+import com.ynov.testingmethodology.model.Student;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Encodage binaire compact des étudiants, salles, réservations et séries.
+ * Une réservation embarque sa salle et ses participants pour pouvoir être relue seule ;
+ * à la lecture, les salles et étudiants déjà rencontrés sont partagés au lieu d'être dupliqués.
+ */
+public final class ReservationCodec {
+
+    private final Map<String, Room> rooms = new HashMap<>();
+    private final Map<String, Student> students = new HashMap<>();
+
+    // === Ecriture ===
+
+    public static void writeReservation(DataOutput out, Reservation reservation) throws IOException {
+        writeString(out, reservation.getId());
+        out.writeBoolean(reservation.getRoom() != null);
+        if (reservation.getRoom() != null) {
+            writeRoom(out, reservation.getRoom());
+        }
+        writeDateTime(out, reservation.getStartTime());
+        writeDateTime(out, reservation.getEndTime());
+        writeStudents(out, reservation.getStudents());
+        out.writeLong(reservation.getVersion());
+    }
+
+    public static void writeSeries(DataOutput out, ReservationSeries series) throws IOException {
+        writeString(out, series.getId());
+        out.writeBoolean(series.getRoom() != null);
+        if (series.getRoom() != null) {
+            writeRoom(out, series.getRoom());
+        }
+        out.writeLong(series.getFirstDate().toEpochDay());
+        out.writeLong(series.getLastDate().toEpochDay());
+        out.writeLong(series.getStartTime().toNanoOfDay());
+        out.writeLong(series.getEndTime().toNanoOfDay());
+        out.writeInt(series.getIntervalWeeks());
+        writeStudents(out, series.getStudents());
+    }
+
+    public static void writeRoom(DataOutput out, Room room) throws IOException {
+        writeString(out, room.getId());
+        writeString(out, room.getName());
+        out.writeInt(room.getCapacity() == null ? Integer.MIN_VALUE : room.getCapacity());
+    }
+
+    public static void writeStudent(DataOutput out, Student student) throws IOException {
+        writeString(out, student.getId());
+        writeString(out, student.getFirstName());
+        writeString(out, student.getLastName());
+    }
+
+    private static void writeStudents(DataOutput out, List<Student> participants) throws IOException {
+        out.writeInt(participants == null ? -1 : participants.size());
+        if (participants != null) {
+            for (Student student : participants) {
+                writeStudent(out, student);
+            }
+        }
+    }
+
+    public static void writeString(DataOutput out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static void writeDateTime(DataOutput out, LocalDateTime value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeLong(value.toEpochSecond(ZoneOffset.UTC));
+            out.writeInt(value.getNano());
+        }
+    }
+
+    // === Lecture ===
+
+    public Reservation readReservation(DataInput in) throws IOException {
+        String id = readString(in);
+        Room room = in.readBoolean() ? readRoom(in) : null;
+        LocalDateTime start = readDateTime(in);
+        LocalDateTime end = readDateTime(in);
+        Reservation reservation = new Reservation(id, readStudents(in), room, start, end);
+        reservation.setVersion(in.readLong());
+        return reservation;
+    }
+
+    public ReservationSeries readSeries(DataInput in) throws IOException {
+        String id = readString(in);
+        Room room = in.readBoolean() ? readRoom(in) : null;
+        LocalDate firstDate = LocalDate.ofEpochDay(in.readLong());
+        LocalDate lastDate = LocalDate.ofEpochDay(in.readLong());
+        LocalTime startTime = LocalTime.ofNanoOfDay(in.readLong());
+        LocalTime endTime = LocalTime.ofNanoOfDay(in.readLong());
+        int intervalWeeks = in.readInt();
+        return new ReservationSeries(id, readStudents(in), room, firstDate, lastDate, startTime, endTime, intervalWeeks);
+    }
+
+    public Room readRoom(DataInput in) throws IOException {
+        String id = readString(in);
+        String name = readString(in);
+        int rawCapacity = in.readInt();
+        Integer capacity = rawCapacity == Integer.MIN_VALUE ? null : rawCapacity;
+        Room known = rooms.get(id);
+        if (known != null && Objects.equals(known.getName(), name) && Objects.equals(known.getCapacity(), capacity)) {
+            return known;
+        }
+        Room room = new Room(id, name, capacity);
+        rooms.put(id, room);
+        return room;
+    }
+
+    public Student readStudent(DataInput in) throws IOException {
+        String id = readString(in);
+        String firstName = readString(in);
+        String lastName = readString(in);
+        Student known = students.get(id);
+        if (known != null && Objects.equals(known.getFirstName(), firstName) && Objects.equals(known.getLastName(), lastName)) {
+            return known;
+        }
+        Student student = new Student(id, firstName, lastName);
+        students.put(id, student);
+        return student;
+    }
+
+    private List<Student> readStudents(DataInput in) throws IOException {
+        int count = in.readInt();
+        if (count < 0) {
+            return null;
+        }
+        List<Student> participants = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            participants.add(readStudent(in));
+        }
+        return participants;
+    }
+
+    public static String readString(DataInput in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    private static LocalDateTime readDateTime(DataInput in) throws IOException {
+        if (!in.readBoolean()) {
+            return null;
+        }
+        long epochSecond = in.readLong();
+        int nano = in.readInt();
+        return LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,379 @@
+package com.ynov.testingmethodology.persistence;
+
+import com.ynov.testingmethodology.model.Reservation;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+/**
+ * Journal des réservations en ajout seul, projeté en mémoire (mmap).
+ * <p>
+ * Le fichier est découpé en régions de taille fixe ; un enregistrement ne chevauche jamais deux régions.
+ * Format d'un enregistrement : longueur (int), CRC32 (int), type (octet) puis la charge utile.
+ * Une longueur nulle marque la fin du journal, une longueur de -1 renvoie à la région suivante.
+ * <p>
+ * Chaque enregistrement porte un numéro croissant, conservé d'une ouverture à l'autre :
+ * un point de reprise indique le numéro du dernier enregistrement retiré par {@link #truncateThrough}.
+ * <p>
+ * Validation groupée : l'écriture dans la projection est immédiate, et un seul appelant
+ * force la projection sur disque pour tous ceux qui attendent au même moment.
+ */
+public final class ReservationJournal implements AutoCloseable {
+
+    public static final int DEFAULT_REGION_SIZE = 64 * 1024 * 1024;
+
+    private static final int MAGIC = 0x524A4E4C; // "RJNL"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 12;
+    private static final int RECORD_HEADER_SIZE = 9;
+    private static final int END_OF_REGION = -1;
+
+    private static final byte SAVE = 1;
+    private static final byte DELETE = 2;
+    // Point de reprise : numéro du dernier enregistrement qui le précède, présent ou retiré
+    private static final byte CHECKPOINT = 3;
+
+    @FunctionalInterface
+    private interface RecordHandler {
+        void accept(long sequence, byte type, byte[] payload) throws IOException;
+    }
+
+    /**
+     * Fin de la partie valide du journal : où reprendre l'écriture, et numéros atteints
+     */
+    private record End(long regionStart, int position, long base, long sequence) {
+    }
+
+    private final Path path;
+    private final int regionSize;
+    private final boolean syncOnCommit;
+
+    // Protégés par this
+    private FileChannel channel;
+    private MappedByteBuffer region;
+    private long regionStart;
+    private long base;
+    private long appended;
+
+    // Protégés par flushLock
+    private final Object flushLock = new Object();
+    private long durable;
+    private boolean flushing;
+
+    private ReservationJournal(Path path, FileChannel channel, int regionSize, boolean syncOnCommit) {
+        this.path = path;
+        this.channel = channel;
+        this.regionSize = regionSize;
+        this.syncOnCommit = syncOnCommit;
+    }
+
+    /**
+     * Ouvre (ou crée) le journal et rejoue les enregistrements dont le numéro dépasse {@code afterSequence}
+     * (ceux qui précèdent sont déjà couverts par un instantané).
+     * Un enregistrement tronqué ou corrompu en fin de fichier (arrêt brutal) met fin à la relecture,
+     * et les écritures suivantes reprennent à sa place.
+     */
+    public static ReservationJournal open(Path path, int regionSize, boolean syncOnCommit, long afterSequence,
+                                          Consumer<Reservation> onSave, Consumer<String> onDelete) {
+        if (regionSize <= HEADER_SIZE + RECORD_HEADER_SIZE) {
+            throw new IllegalArgumentException("Region size is too small");
+        }
+        try {
+            FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            ReservationJournal journal;
+            try {
+                journal = new ReservationJournal(path, channel, channel.size() == 0 ? regionSize : readRegionSize(channel), syncOnCommit);
+                journal.replay(afterSequence, onSave, onDelete);
+            } catch (IOException | RuntimeException e) {
+                channel.close();
+                throw e;
+            }
+            return journal;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open journal " + path, e);
+        }
+    }
+
+    public static ReservationJournal open(Path path, int regionSize, boolean syncOnCommit,
+                                          Consumer<Reservation> onSave, Consumer<String> onDelete) {
+        return open(path, regionSize, syncOnCommit, 0, onSave, onDelete);
+    }
+
+    public static ReservationJournal open(Path path, Consumer<Reservation> onSave, Consumer<String> onDelete) {
+        return open(path, DEFAULT_REGION_SIZE, true, onSave, onDelete);
+    }
+
+    /**
+     * Ajoute la création ou la mise à jour d'une réservation ; renvoie le numéro à attendre avec {@link #awaitDurable}
+     */
+    public long appendSave(Reservation reservation) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        try {
+            ReservationCodec.writeReservation(new DataOutputStream(bytes), reservation);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return append(SAVE, bytes.toByteArray());
+    }
+
+    /**
+     * Ajoute la suppression d'une réservation ; renvoie le numéro à attendre avec {@link #awaitDurable}
+     */
+    public long appendDelete(String reservationId) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(32);
+        try {
+            ReservationCodec.writeString(new DataOutputStream(bytes), reservationId);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return append(DELETE, bytes.toByteArray());
+    }
+
+    /**
+     * Attend que l'enregistrement {@code sequence} soit sur disque.
+     * Le premier appelant force la projection pour tous, les autres profitent de son écriture.
+     */
+    public void awaitDurable(long sequence) {
+        if (!syncOnCommit) {
+            return;
+        }
+        synchronized (flushLock) {
+            while (durable < sequence && flushing) {
+                try {
+                    flushLock.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while waiting for the journal", e);
+                }
+            }
+            if (durable >= sequence) {
+                return;
+            }
+            flushing = true;
+        }
+        long target;
+        MappedByteBuffer toForce;
+        synchronized (this) {
+            target = appended;
+            toForce = region;
+        }
+        try {
+            toForce.force();
+        } finally {
+            synchronized (flushLock) {
+                durable = Math.max(durable, target);
+                flushing = false;
+                flushLock.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Numéro du dernier enregistrement ajouté (0 pour un journal vide)
+     */
+    public synchronized long lastSequence() {
+        return appended;
+    }
+
+    /**
+     * Retire les enregistrements jusqu'au numéro {@code sequence} inclus, une fois leur effet
+     * conservé ailleurs (instantané). Le journal est réécrit dans un fichier temporaire qui remplace
+     * l'ancien d'un seul mouvement : un arrêt brutal laisse l'un ou l'autre, jamais un mélange.
+     * Les ajouts attendent la fin de la réécriture.
+     */
+    public synchronized void truncateThrough(long sequence) {
+        if (sequence > appended) {
+            throw new IllegalArgumentException("Cannot truncate beyond the last journal record");
+        }
+        if (sequence <= base) {
+            return;
+        }
+        Path rewritten = path.resolveSibling(path.getFileName() + ".tmp");
+        try {
+            Files.deleteIfExists(rewritten);
+            try (ReservationJournal kept = open(rewritten, regionSize, false, r -> { }, id -> { })) {
+                kept.append(CHECKPOINT, ByteBuffer.allocate(Long.BYTES).putLong(sequence).array());
+                scan((number, type, payload) -> {
+                    if (number > sequence) {
+                        kept.append(type, payload);
+                    }
+                });
+            }
+            Files.move(rewritten, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            channel.close();
+            channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            moveTo(scan((number, type, payload) -> { }));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot truncate journal " + path, e);
+        }
+        // La réécriture a été forcée sur disque, avec tous les enregistrements conservés
+        synchronized (flushLock) {
+            durable = Math.max(durable, appended);
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            synchronized (this) {
+                if (region != null) {
+                    region.force();
+                }
+                channel.close();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private synchronized long append(byte type, byte[] payload) {
+        int length = RECORD_HEADER_SIZE + payload.length;
+        if (length > regionSize - (regionStart == 0 ? HEADER_SIZE : 0)) {
+            throw new IllegalArgumentException("Journal record does not fit in a region");
+        }
+        if (region.remaining() < length) {
+            if (region.remaining() >= Integer.BYTES) {
+                region.putInt(END_OF_REGION);
+            }
+            // Les enregistrements de la région pleine doivent être durables avant de la quitter
+            region.force();
+            try {
+                mapRegion(regionStart + regionSize, 0);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot extend journal", e);
+            }
+        }
+        CRC32 crc = new CRC32();
+        crc.update(type);
+        crc.update(payload);
+        region.putInt(length);
+        region.putInt((int) crc.getValue());
+        region.put(type);
+        region.put(payload);
+        return ++appended;
+    }
+
+    private void replay(long afterSequence, Consumer<Reservation> onSave, Consumer<String> onDelete) throws IOException {
+        if (channel.size() == 0) {
+            mapRegion(0, 0);
+            region.putInt(MAGIC).putInt(VERSION).putInt(regionSize);
+            region.force();
+        } else {
+            ReservationCodec codec = new ReservationCodec();
+            moveTo(scan((sequence, type, payload) -> {
+                if (sequence <= afterSequence) {
+                    return;
+                }
+                DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload));
+                if (type == SAVE) {
+                    onSave.accept(codec.readReservation(in));
+                } else {
+                    onDelete.accept(ReservationCodec.readString(in));
+                }
+            }));
+        }
+        if (afterSequence > appended) {
+            // Journal plus ancien que l'instantané (perdu ou remplacé) : la numérotation repart après lui
+            append(CHECKPOINT, ByteBuffer.allocate(Long.BYTES).putLong(afterSequence).array());
+            region.force();
+            base = afterSequence;
+            appended = afterSequence;
+        }
+        durable = appended;
+    }
+
+    /**
+     * Parcourt les enregistrements valides du journal, dans l'ordre, avec leur numéro
+     */
+    private End scan(RecordHandler handler) throws IOException {
+        long start = 0;
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, regionSize);
+        buffer.position(HEADER_SIZE);
+        long first = 0;
+        long sequence = 0;
+        while (true) {
+            if (buffer.remaining() < RECORD_HEADER_SIZE) {
+                if (channel.size() <= start + regionSize) {
+                    break;
+                }
+                start += regionSize;
+                buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, regionSize);
+                continue;
+            }
+            int recordStart = buffer.position();
+            int length = buffer.getInt();
+            if (length == END_OF_REGION) {
+                if (channel.size() <= start + regionSize) {
+                    buffer.position(recordStart);
+                    break;
+                }
+                start += regionSize;
+                buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, regionSize);
+                continue;
+            }
+            if (length < RECORD_HEADER_SIZE || length > buffer.remaining() + Integer.BYTES) {
+                // Fin du journal, ou en-tête tronqué
+                buffer.position(recordStart);
+                break;
+            }
+            int checksum = buffer.getInt();
+            byte type = buffer.get();
+            byte[] payload = new byte[length - RECORD_HEADER_SIZE];
+            buffer.get(payload);
+            CRC32 crc = new CRC32();
+            crc.update(type);
+            crc.update(payload);
+            if ((int) crc.getValue() != checksum) {
+                // Enregistrement incomplet : on écrira par-dessus
+                buffer.position(recordStart);
+                break;
+            }
+            if (type == CHECKPOINT) {
+                sequence = ByteBuffer.wrap(payload).getLong();
+                first = sequence;
+            } else if (type == SAVE || type == DELETE) {
+                handler.accept(++sequence, type, payload);
+            } else {
+                throw new IllegalStateException("Unknown journal record type " + type);
+            }
+        }
+        return new End(start, buffer.position(), first, sequence);
+    }
+
+    private void moveTo(End end) throws IOException {
+        mapRegion(end.regionStart(), end.position());
+        base = end.base();
+        appended = end.sequence();
+    }
+
+    private void mapRegion(long start, int position) throws IOException {
+        region = channel.map(FileChannel.MapMode.READ_WRITE, start, regionSize);
+        regionStart = start;
+        region.position(position);
+    }
+
+    private static int readRegionSize(FileChannel channel) throws IOException {
+        MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE);
+        if (header.getInt() != MAGIC) {
+            throw new IllegalStateException("Not a reservation journal");
+        }
+        int version = header.getInt();
+        if (version != VERSION) {
+            throw new IllegalStateException("Unsupported journal version " + version);
+        }
+        return header.getInt();
+    }
+}
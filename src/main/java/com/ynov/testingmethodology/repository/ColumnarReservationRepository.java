@@ -0,0 +1,715 @@
+package com.ynov.testingmethodology.repository;
+
+import com.ynov.testingmethodology.model.Reservation;
+import com.ynov.testingmethodology.model.ReservationSummary;
+import com.ynov.testingmethodology.model.Room;
+import com.ynov.testingmethodology.model.Student;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Stockage en colonnes des réservations : une ligne par réservation, des tableaux d'entiers par champ.
+ * Les horaires sont conservés en minutes depuis l'epoch, la salle et les participants
+ * sous forme de handles de dictionnaire. Les objets {@link Reservation} ne sont recréés
+ * qu'à la lecture, ce qui réduit fortement la mémoire par réservation et rend les parcours
+ * séquentiels sur des tableaux primitifs.
+ * <p>
+ * Chaque salle et chaque étudiant tient la liste de ses lignes : les recherches par salle ou par étudiant
+ * ne lisent que celles-ci. Deux arbres complètent les colonnes : les lignes par heure de début (puis id)
+ * pour les recherches par date, et par id pour la pagination. Les lignes supprimées, ainsi que les handles des salles et des étudiants
+ * qui ne sont plus référencés, sont réutilisés par les écritures suivantes.
+ * <p>
+ * Les horaires doivent être à la minute près. Les lectures se font sous verrou partagé,
+ * les écritures sous verrou exclusif.
+ */
+public class ColumnarReservationRepository implements ReservationRepository {
+
+    private static final int NO_TIME = Integer.MIN_VALUE;
+    private static final int NO_ROOM = -1;
+    private static final int NO_STUDENTS = -1;
+    private static final int ABSENT = -1;
+
+    /**
+     * Entiers denses attribués aux ids, réutilisés une fois libérés (sous le verrou du dépôt)
+     */
+    private static final class Handles {
+        private final HashMap<String, Integer> handles = new HashMap<>();
+        private String[] ids = new String[16];
+        private int[] free = new int[16];
+        private int freeCount;
+        private int size;
+
+        int intern(String id) {
+            Integer existing = handles.get(id);
+            if (existing != null) {
+                return existing;
+            }
+            int handle = freeCount > 0 ? free[--freeCount] : size++;
+            if (handle >= ids.length) {
+                ids = Arrays.copyOf(ids, Math.max(handle + 1, ids.length * 2));
+            }
+            ids[handle] = id;
+            handles.put(id, handle);
+            return handle;
+        }
+
+        int handleOf(String id) {
+            Integer handle = handles.get(id);
+            return handle == null ? ABSENT : handle;
+        }
+
+        String idOf(int handle) {
+            return ids[handle];
+        }
+
+        void release(int handle) {
+            handles.remove(ids[handle]);
+            ids[handle] = null;
+            if (freeCount == free.length) {
+                free = Arrays.copyOf(free, freeCount * 2);
+            }
+            free[freeCount++] = handle;
+        }
+
+        /**
+         * Plus grand handle attribué + 1
+         */
+        int size() {
+            return size;
+        }
+    }
+
+    /**
+     * Lignes d'une salle ou d'un étudiant, sans ordre ; un retrait déplace la dernière à sa place
+     */
+    private static final class Rows {
+        private static final Rows NONE = new Rows();
+
+        private int[] rows = new int[4];
+        private int size;
+
+        void add(int row) {
+            if (size == rows.length) {
+                rows = Arrays.copyOf(rows, size * 2);
+            }
+            rows[size++] = row;
+        }
+
+        void remove(int row) {
+            for (int i = 0; i < size; i++) {
+                if (rows[i] == row) {
+                    rows[i] = rows[--size];
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Clé de l'index par début : minute de début puis id. Un id null se place avant
+     * tous les autres à la même minute et sert de borne de recherche.
+     */
+    private record StartKey(int start, String id) implements Comparable<StartKey> {
+        @Override
+        public int compareTo(StartKey other) {
+            int cmp = Integer.compare(start, other.start);
+            if (cmp != 0 || Objects.equals(id, other.id)) {
+                return cmp;
+            }
+            if (id == null) {
+                return -1;
+            }
+            return other.id == null ? 1 : id.compareTo(other.id);
+        }
+    }
+
+    private final Handles reservationIds = new Handles();
+    private final Handles roomIds = new Handles();
+    private final Handles studentIds = new Handles();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Colonnes indexées par le handle de la réservation
+    private int[] startMinutes = new int[0];
+    private int[] endMinutes = new int[0];
+    private int[] roomHandles = new int[0];
+    private int[] studentOffsets = new int[0];
+    private int[] studentCounts = new int[0];
+    private long[] versions = new long[0];
+    private final BitSet live = new BitSet();
+    private int rows;
+    private int liveCount;
+
+    // Participants de toutes les réservations, bout à bout ; les segments libérés sont compactés
+    private int[] studentPool = new int[0];
+    private int poolSize;
+    private int poolGarbage;
+
+    // Dernière version enregistrée de chaque salle et de chaque étudiant, et leurs lignes
+    private Room[] rooms = new Room[0];
+    private Student[] students = new Student[0];
+    private Rows[] roomRows = new Rows[0];
+    private Rows[] studentRows = new Rows[0];
+
+    // Lignes ayant une heure de début, par début puis id ; toutes les lignes vivantes, par id
+    private final TreeMap<StartKey, Integer> byStart = new TreeMap<>();
+    private final TreeMap<String, Integer> byId = new TreeMap<>();
+
+    @Override
+    public Reservation save(Reservation reservation) {
+        int start = toMinutes(reservation.getStartTime());
+        int end = toMinutes(reservation.getEndTime());
+        lock.writeLock().lock();
+        try {
+            store(reservationIds.intern(reservation.getId()), reservation, start, end);
+            return reservation;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public Reservation update(Reservation reservation) {
+        int start = toMinutes(reservation.getStartTime());
+        int end = toMinutes(reservation.getEndTime());
+        long expected = reservation.getVersion();
+        lock.writeLock().lock();
+        try {
+            int row = reservationIds.handleOf(reservation.getId());
+            if (row == ABSENT || row >= rows || !live.get(row)) {
+                throw new StaleReservationException(reservation.getId(), expected, StaleReservationException.DELETED);
+            }
+            if (versions[row] != expected) {
+                throw new StaleReservationException(reservation.getId(), expected, versions[row]);
+            }
+            reservation.setVersion(expected + 1);
+            store(row, reservation, start, end);
+            return reservation;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Reservation> saveAll(Collection<Reservation> reservations) {
+        int[] starts = new int[reservations.size()];
+        int[] ends = new int[starts.length];
+        int i = 0;
+        for (Reservation reservation : reservations) {
+            starts[i] = toMinutes(reservation.getStartTime());
+            ends[i] = toMinutes(reservation.getEndTime());
+            i++;
+        }
+        lock.writeLock().lock();
+        try {
+            i = 0;
+            for (Reservation reservation : reservations) {
+                store(reservationIds.intern(reservation.getId()), reservation, starts[i], ends[i]);
+                i++;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return new ArrayList<>(reservations);
+    }
+
+    @Override
+    public void delete(Reservation reservation) {
+        lock.writeLock().lock();
+        try {
+            int row = reservationIds.handleOf(reservation.getId());
+            if (row != ABSENT && row < rows && live.get(row)) {
+                unindex(row);
+                releaseStudents(row);
+                byId.remove(reservation.getId());
+                live.clear(row);
+                liveCount--;
+                // La ligne et son id sont libres pour la prochaine réservation
+                reservationIds.release(row);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Reservation> findAll() {
+        lock.readLock().lock();
+        try {
+            List<Reservation> result = new ArrayList<>(liveCount);
+            for (int row = live.nextSetBit(0); row >= 0; row = live.nextSetBit(row + 1)) {
+                result.add(materialize(row));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Optional<Reservation> findById(String reservationId) {
+        lock.readLock().lock();
+        try {
+            int row = reservationIds.handleOf(reservationId);
+            return row != ABSENT && row < rows && live.get(row) ? Optional.of(materialize(row)) : Optional.empty();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Reservation> findByStudentId(String studentId) {
+        return select(() -> rowsOf(studentRows, studentIds.handleOf(studentId)), row -> true, false, this::materialize);
+    }
+
+    @Override
+    public List<Reservation> findByRoomId(String roomId) {
+        return select(() -> rowsOf(roomRows, roomIds.handleOf(roomId)), this::hasTimes, true, this::materialize);
+    }
+
+    @Override
+    public List<Reservation> findAfterDate(LocalDateTime date) {
+        // Début strictement après la date
+        int floor = floorMinutes(date);
+        return selectByStart(() -> byStart.tailMap(new StartKey(floor + 1, null), true), this::materialize);
+    }
+
+    @Override
+    public List<Reservation> findBeforeDate(LocalDateTime date) {
+        int ceil = ceilMinutes(date);
+        return selectByStart(() -> byStart.headMap(new StartKey(ceil, null), false), this::materialize);
+    }
+
+    @Override
+    public Collection<Reservation> findBetween(LocalDateTime start, LocalDateTime end) {
+        if (!start.isBefore(end)) {
+            return new ArrayList<>();
+        }
+        return selectByStart(() -> startingBetween(start, end), this::materialize);
+    }
+
+    @Override
+    public List<Reservation> findOverlapping(String roomId, LocalDateTime start, LocalDateTime end) {
+        int from = floorMinutes(start);
+        int to = ceilMinutes(end);
+        return select(() -> rowsOf(roomRows, roomIds.handleOf(roomId)),
+                row -> hasTimes(row) && startMinutes[row] < to && endMinutes[row] > from, true, this::materialize);
+    }
+
+    /**
+     * Vues lues directement dans les colonnes, sans matérialiser les réservations
+     */
+    @Override
+    public List<ReservationSummary> findSummariesByRoomId(String roomId) {
+        return select(() -> rowsOf(roomRows, roomIds.handleOf(roomId)), this::hasTimes, true, this::summarize);
+    }
+
+    @Override
+    public List<ReservationSummary> findSummariesByStudentId(String studentId) {
+        return select(() -> rowsOf(studentRows, studentIds.handleOf(studentId)), row -> true, false, this::summarize);
+    }
+
+    @Override
+    public List<ReservationSummary> findSummariesBetween(LocalDateTime start, LocalDateTime end) {
+        if (!start.isBefore(end)) {
+            return new ArrayList<>();
+        }
+        return selectByStart(() -> startingBetween(start, end), this::summarize);
+    }
+
+    /**
+     * Lit la page directement dans l'index par id, à partir du curseur
+     */
+    @Override
+    public List<Reservation> findPage(String afterId, int limit) {
+        lock.readLock().lock();
+        try {
+            NavigableMap<String, Integer> tail = afterId == null ? byId : byId.tailMap(afterId, false);
+            List<Reservation> result = new ArrayList<>(Math.min(limit, 1024));
+            for (int row : tail.values()) {
+                if (result.size() == limit) {
+                    break;
+                }
+                result.add(materialize(row));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Parcours dans l'ordre des lignes ; chaque réservation est matérialisée au moment où elle est lue.
+     * Une ligne libérée puis réutilisée pendant le parcours donne la réservation qui l'occupe alors
+     */
+    @Override
+    public Stream<Reservation> streamAll() {
+        int end;
+        lock.readLock().lock();
+        try {
+            end = rows;
+        } finally {
+            lock.readLock().unlock();
+        }
+        return IntStream.range(0, end)
+                .mapToObj(row -> {
+                    lock.readLock().lock();
+                    try {
+                        return row < rows && live.get(row) ? materialize(row) : null;
+                    } finally {
+                        lock.readLock().unlock();
+                    }
+                })
+                .filter(Objects::nonNull);
+    }
+
+    /**
+     * Nombre de réservations stockées
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return liveCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Nombre de lignes allouées, vivantes ou libres en attente de réutilisation
+     */
+    public int rowCount() {
+        lock.readLock().lock();
+        try {
+            return rows;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // === Ecriture (sous verrou exclusif) ===
+
+    private void store(int row, Reservation reservation, int start, int end) {
+        ensureRows(row + 1);
+        List<Student> participants = reservation.getStudents();
+        int count = participants == null ? NO_STUDENTS : participants.size();
+        boolean existing = live.get(row);
+        if (existing) {
+            // Retirée des listes de son ancienne salle et de ses anciens participants avant réécriture
+            unindex(row);
+        }
+        if (existing && count >= 0 && count <= studentCounts[row]) {
+            // Le nouveau groupe tient dans l'ancien segment
+            poolGarbage += studentCounts[row] - count;
+        } else {
+            if (existing) {
+                releaseStudents(row);
+            }
+            studentOffsets[row] = allocateStudents(Math.max(count, 0));
+        }
+        int offset = studentOffsets[row];
+        for (int i = 0; i < count; i++) {
+            studentPool[offset + i] = studentHandle(participants.get(i));
+        }
+        studentCounts[row] = count;
+        startMinutes[row] = start;
+        endMinutes[row] = end;
+        roomHandles[row] = roomHandle(reservation.getRoom());
+        versions[row] = reservation.getVersion();
+        index(row);
+        if (!existing) {
+            byId.put(reservation.getId(), row);
+            live.set(row);
+            liveCount++;
+        }
+        if (poolGarbage > 1024 && poolGarbage > poolSize / 2) {
+            compactStudents();
+        }
+    }
+
+    private void ensureRows(int needed) {
+        if (needed <= rows) {
+            return;
+        }
+        if (needed > startMinutes.length) {
+            int capacity = Math.max(needed, Math.max(16, startMinutes.length * 2));
+            startMinutes = Arrays.copyOf(startMinutes, capacity);
+            endMinutes = Arrays.copyOf(endMinutes, capacity);
+            roomHandles = Arrays.copyOf(roomHandles, capacity);
+            studentOffsets = Arrays.copyOf(studentOffsets, capacity);
+            studentCounts = Arrays.copyOf(studentCounts, capacity);
+            versions = Arrays.copyOf(versions, capacity);
+        }
+        rows = needed;
+    }
+
+    private int roomHandle(Room room) {
+        if (room == null) {
+            return NO_ROOM;
+        }
+        int handle = roomIds.intern(room.getId());
+        if (handle >= rooms.length) {
+            rooms = Arrays.copyOf(rooms, Math.max(handle + 1, Math.max(16, rooms.length * 2)));
+            roomRows = Arrays.copyOf(roomRows, rooms.length);
+        }
+        rooms[handle] = room;
+        return handle;
+    }
+
+    private int studentHandle(Student student) {
+        int handle = studentIds.intern(student.getId());
+        if (handle >= students.length) {
+            students = Arrays.copyOf(students, Math.max(handle + 1, Math.max(16, students.length * 2)));
+            studentRows = Arrays.copyOf(studentRows, students.length);
+        }
+        students[handle] = student;
+        return handle;
+    }
+
+    private int allocateStudents(int count) {
+        if (poolSize + count > studentPool.length) {
+            studentPool = Arrays.copyOf(studentPool, Math.max(poolSize + count, Math.max(64, studentPool.length * 2)));
+        }
+        int offset = poolSize;
+        poolSize += count;
+        return offset;
+    }
+
+    private void releaseStudents(int row) {
+        poolGarbage += Math.max(studentCounts[row], 0);
+    }
+
+    private void index(int row) {
+        if (startMinutes[row] != NO_TIME) {
+            byStart.put(new StartKey(startMinutes[row], reservationIds.idOf(row)), row);
+        }
+        int room = roomHandles[row];
+        if (room != NO_ROOM) {
+            if (roomRows[room] == null) {
+                roomRows[room] = new Rows();
+            }
+            roomRows[room].add(row);
+        }
+        int offset = studentOffsets[row];
+        for (int i = 0; i < studentCounts[row]; i++) {
+            int student = studentPool[offset + i];
+            if (repeated(offset, i)) {
+                continue;
+            }
+            if (studentRows[student] == null) {
+                studentRows[student] = new Rows();
+            }
+            studentRows[student].add(row);
+        }
+    }
+
+    /**
+     * Retire la ligne de l'index par début et des listes de sa salle et de ses participants ;
+     * une salle ou un étudiant qui n'a plus de ligne libère son handle
+     */
+    private void unindex(int row) {
+        if (startMinutes[row] != NO_TIME) {
+            byStart.remove(new StartKey(startMinutes[row], reservationIds.idOf(row)));
+        }
+        int room = roomHandles[row];
+        if (room != NO_ROOM) {
+            roomRows[room].remove(row);
+            if (roomRows[room].size == 0) {
+                roomRows[room] = null;
+                rooms[room] = null;
+                roomIds.release(room);
+            }
+        }
+        int offset = studentOffsets[row];
+        for (int i = 0; i < studentCounts[row]; i++) {
+            int student = studentPool[offset + i];
+            if (repeated(offset, i)) {
+                continue;
+            }
+            studentRows[student].remove(row);
+            if (studentRows[student].size == 0) {
+                studentRows[student] = null;
+                students[student] = null;
+                studentIds.release(student);
+            }
+        }
+    }
+
+    /**
+     * Le participant {@code i} du segment apparaît-il déjà plus tôt dans la même réservation
+     */
+    private boolean repeated(int offset, int i) {
+        for (int k = 0; k < i; k++) {
+            if (studentPool[offset + k] == studentPool[offset + i]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Rows rowsOf(Rows[] index, int handle) {
+        Rows rows = handle == ABSENT ? null : index[handle];
+        return rows == null ? Rows.NONE : rows;
+    }
+
+    private void compactStudents() {
+        int[] compacted = new int[Math.max(64, (poolSize - poolGarbage) * 2)];
+        int size = 0;
+        for (int row = live.nextSetBit(0); row >= 0; row = live.nextSetBit(row + 1)) {
+            int count = Math.max(studentCounts[row], 0);
+            System.arraycopy(studentPool, studentOffsets[row], compacted, size, count);
+            studentOffsets[row] = size;
+            size += count;
+        }
+        studentPool = compacted;
+        poolSize = size;
+        poolGarbage = 0;
+    }
+
+    // === Filtres sur les colonnes ===
+
+    private boolean hasTimes(int row) {
+        return startMinutes[row] != NO_TIME && endMinutes[row] != NO_TIME;
+    }
+
+    /**
+     * Lignes dont le début est dans [start, end[, comparé à la minute près
+     */
+    private NavigableMap<StartKey, Integer> startingBetween(LocalDateTime start, LocalDateTime end) {
+        return byStart.subMap(new StartKey(ceilMinutes(start), null), true, new StartKey(ceilMinutes(end), null), false);
+    }
+
+    /**
+     * Convertit les lignes d'une plage de l'index par début, déjà triées par heure de début puis par id
+     */
+    private <T> List<T> selectByStart(Supplier<NavigableMap<StartKey, Integer>> range, IntFunction<T> mapper) {
+        lock.readLock().lock();
+        try {
+            List<T> result = new ArrayList<>();
+            for (int row : range.get().values()) {
+                result.add(mapper.apply(row));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Parcourt les lignes candidates et convertit celles qui passent le filtre, triées par heure
+     * de début (puis par id) si demandé, sinon dans l'ordre des lignes
+     */
+    private <T> List<T> select(Supplier<Rows> candidates, IntPredicate filter, boolean sortByStart, IntFunction<T> mapper) {
+        lock.readLock().lock();
+        try {
+            Rows candidateRows = candidates.get();
+            long[] keys = new long[candidateRows.size];
+            int matches = 0;
+            for (int i = 0; i < candidateRows.size; i++) {
+                int row = candidateRows.rows[i];
+                if (filter.test(row)) {
+                    // Début dans les 32 bits de poids fort, ligne dans ceux de poids faible
+                    keys[matches++] = sortByStart ? ((long) startMinutes[row] << 32) | row : row;
+                }
+            }
+            List<T> result = new ArrayList<>(matches);
+            Arrays.sort(keys, 0, matches);
+            if (!sortByStart) {
+                for (int i = 0; i < matches; i++) {
+                    result.add(mapper.apply((int) keys[i]));
+                }
+                return result;
+            }
+            for (int i = 0; i < matches; ) {
+                int runEnd = i + 1;
+                while (runEnd < matches && keys[runEnd] >>> 32 == keys[i] >>> 32) {
+                    runEnd++;
+                }
+                if (runEnd - i > 1) {
+                    // Même heure de début : départage par id, comme les autres dépôts
+                    Integer[] rows = new Integer[runEnd - i];
+                    for (int k = i; k < runEnd; k++) {
+                        rows[k - i] = (int) keys[k];
+                    }
+                    Arrays.sort(rows, Comparator.comparing(reservationIds::idOf));
+                    for (int row : rows) {
+                        result.add(mapper.apply(row));
+                    }
+                } else {
+                    result.add(mapper.apply((int) keys[i]));
+                }
+                i = runEnd;
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Reservation materialize(int row) {
+        List<Student> participants = null;
+        int count = studentCounts[row];
+        if (count != NO_STUDENTS) {
+            participants = new ArrayList<>(count);
+            int offset = studentOffsets[row];
+            for (int i = 0; i < count; i++) {
+                participants.add(students[studentPool[offset + i]]);
+            }
+        }
+        Room room = roomHandles[row] == NO_ROOM ? null : rooms[roomHandles[row]];
+        Reservation reservation = new Reservation(reservationIds.idOf(row), participants, room,
+                toDateTime(startMinutes[row]), toDateTime(endMinutes[row]));
+        reservation.setVersion(versions[row]);
+        return reservation;
+    }
+
+    private ReservationSummary summarize(int row) {
+        int count = studentCounts[row];
+        return new ReservationSummary(reservationIds.idOf(row),
+                roomHandles[row] == NO_ROOM ? null : roomIds.idOf(roomHandles[row]),
+                toDateTime(startMinutes[row]), toDateTime(endMinutes[row]),
+                count == NO_STUDENTS ? 0 : count);
+    }
+
+    // === Conversion des horaires ===
+
+    private static int toMinutes(LocalDateTime dateTime) {
+        if (dateTime == null) {
+            return NO_TIME;
+        }
+        if (dateTime.getSecond() != 0 || dateTime.getNano() != 0) {
+            throw new IllegalArgumentException("Reservation times must be whole minutes");
+        }
+        return Math.toIntExact(dateTime.toEpochSecond(ZoneOffset.UTC) / 60);
+    }
+
+    private static LocalDateTime toDateTime(int minutes) {
+        return minutes == NO_TIME ? null : LocalDateTime.ofEpochSecond(minutes * 60L, 0, ZoneOffset.UTC);
+    }
+
+    private static int floorMinutes(LocalDateTime dateTime) {
+        return Math.toIntExact(Math.floorDiv(dateTime.toEpochSecond(ZoneOffset.UTC), 60));
+    }
+
+    private static int ceilMinutes(LocalDateTime dateTime) {
+        int floor = floorMinutes(dateTime);
+        return dateTime.getSecond() == 0 && dateTime.getNano() == 0 ? floor : floor + 1;
+    }
+}
@@ -0,0 +1,59 @@
+package com.ynov.testingmethodology.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Page d'une pagination par curseur (keyset) : les éléments sont triés par id et
+ * {@code nextCursor} est l'id du dernier élément, à repasser pour obtenir la page suivante.
+ * Le curseur reste valable même si des éléments sont ajoutés ou supprimés entre deux pages.
+ *
+ * @param items      éléments de la page
+ * @param nextCursor curseur de la page suivante, null s'il n'y en a pas
+ */
+public record CursorPage<T>(List<T> items, String nextCursor) {
+
+    public static final int MAX_LIMIT = 1000;
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    /**
+     * Vérifie la taille de page demandée
+     */
+    public static int checkLimit(int limit) {
+        if (limit <= 0 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_LIMIT);
+        }
+        return limit;
+    }
+
+    /**
+     * Construit la page à partir de {@code limit + 1} éléments lus : l'élément en trop
+     * indique seulement qu'il existe une page suivante
+     */
+    public static <T> CursorPage<T> of(List<T> fetched, int limit, Function<T, String> idOf) {
+        if (fetched.size() <= limit) {
+            return new CursorPage<>(fetched, null);
+        }
+        List<T> items = new ArrayList<>(fetched.subList(0, limit));
+        return new CursorPage<>(items, idOf.apply(items.get(limit - 1)));
+    }
+
+    /**
+     * Parcours paresseux d'un dépôt page par page : une seule page de {@code pageSize}
+     * éléments est en mémoire à la fois
+     *
+     * @param fetch lecture d'une page, voir {@code findPage(afterId, limit)} des dépôts
+     */
+    public static <T> Stream<T> walk(BiFunction<String, Integer, List<T>> fetch, Function<T, String> idOf, int pageSize) {
+        return Stream.iterate(fetch.apply(null, pageSize),
+                        page -> !page.isEmpty(),
+                        page -> page.size() < pageSize ? List.of() : fetch.apply(idOf.apply(page.get(page.size() - 1)), pageSize))
+                .flatMap(List::stream);
+    }
+}
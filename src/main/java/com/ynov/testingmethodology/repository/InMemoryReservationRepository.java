@@ -0,0 +1,291 @@
+package com.ynov.testingmethodology.repository;
+
+import com.ynov.testingmethodology.concurrent.StripedLocks;
+import com.ynov.testingmethodology.ids.EntityIds;
+import com.ynov.testingmethodology.ids.HandleTable;
+import com.ynov.testingmethodology.ids.IdDictionary;
+import com.ynov.testingmethodology.model.Reservation;
+import com.ynov.testingmethodology.model.Student;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.stream.Stream;
+
+/**
+ * Stockage en mémoire des réservations.
+ * Chaque salle possède son arbre d'intervalles pour détecter les chevauchements
+ * sans parcourir toutes ses réservations, et un index trié par heure de début
+ * sert les recherches par date. Les index par salle et par étudiant sont des tableaux
+ * indexés par les handles partagés de {@link EntityIds}.
+ * Les écritures ne sont sérialisées que par réservation et par salle : des salles
+ * différentes sont mises à jour en parallèle.
+ */
+@Repository
+@Profile("!jpa")
+@Qualifier("reservationStore")
+@ConditionalOnProperty(name = "booking.store", havingValue = "map", matchIfMissing = true)
+public class InMemoryReservationRepository implements ReservationRepository {
+
+    /**
+     * Bornes et clés sous lesquelles une réservation a été indexée, et sa version à l'enregistrement,
+     * pour pouvoir la désindexer ou la comparer même si l'objet a été modifié depuis.
+     */
+    private record Entry(String id, Reservation reservation, int room, LocalDateTime start, LocalDateTime end,
+                         int[] students, long version) {
+    }
+
+    /**
+     * Clé de l'index temporel : heure de début puis id. Un id null se place avant
+     * tous les autres à la même heure et sert de borne de recherche.
+     */
+    private record TimeKey(LocalDateTime start, String id) implements Comparable<TimeKey> {
+        @Override
+        public int compareTo(TimeKey other) {
+            int cmp = start.compareTo(other.start);
+            if (cmp != 0 || Objects.equals(id, other.id)) {
+                return cmp;
+            }
+            if (id == null) {
+                return -1;
+            }
+            return other.id == null ? 1 : id.compareTo(other.id);
+        }
+    }
+
+    private final ConcurrentSkipListMap<String, Entry> entries = new ConcurrentSkipListMap<>();
+    private final ConcurrentSkipListMap<TimeKey, Reservation> byStart = new ConcurrentSkipListMap<>();
+    // Chaque arbre est protégé par son propre moniteur
+    private final HandleTable<ReservationIntervalTree> byRoom = new HandleTable<>();
+    private final HandleTable<Set<String>> byStudent = new HandleTable<>();
+    private final StripedLocks idLocks = new StripedLocks(256);
+    private final IdDictionary roomIds;
+    private final IdDictionary studentIds;
+
+    public InMemoryReservationRepository() {
+        this(new EntityIds());
+    }
+
+    @Autowired
+    public InMemoryReservationRepository(EntityIds ids) {
+        this.roomIds = ids.rooms();
+        this.studentIds = ids.students();
+    }
+
+    @Override
+    public Reservation save(Reservation reservation) {
+        try (StripedLocks.Held ignored = idLocks.lock(reservation.getId())) {
+            Entry entry = toEntry(reservation);
+            Entry previous = entries.put(entry.id(), entry);
+            if (previous != null) {
+                unindex(previous);
+            }
+            index(entry);
+            return reservation;
+        }
+    }
+
+    /**
+     * Comparée à la version de l'entrée, et non à celle de l'objet stocké, que l'appelant a pu modifier
+     */
+    @Override
+    public Reservation update(Reservation reservation) {
+        try (StripedLocks.Held ignored = idLocks.lock(reservation.getId())) {
+            Entry previous = entries.get(reservation.getId());
+            long expected = reservation.getVersion();
+            if (previous == null || previous.version() != expected) {
+                throw new StaleReservationException(reservation.getId(), expected,
+                        previous == null ? StaleReservationException.DELETED : previous.version());
+            }
+            reservation.setVersion(expected + 1);
+            Entry entry = toEntry(reservation);
+            entries.put(entry.id(), entry);
+            unindex(previous);
+            index(entry);
+            return reservation;
+        }
+    }
+
+    @Override
+    public List<Reservation> saveAll(Collection<Reservation> reservations) {
+        List<Reservation> result = new ArrayList<>(reservations.size());
+        for (Reservation reservation : reservations) {
+            result.add(save(reservation));
+        }
+        return result;
+    }
+
+    @Override
+    public List<Reservation> findAll() {
+        List<Reservation> result = new ArrayList<>(entries.size());
+        for (Entry entry : entries.values()) {
+            result.add(entry.reservation());
+        }
+        return result;
+    }
+
+    @Override
+    public List<Reservation> findByStudentId(String studentId) {
+        int student = studentIds.handleOf(studentId);
+        Set<String> ids = student == IdDictionary.ABSENT ? null : byStudent.get(student);
+        if (ids == null) {
+            return new ArrayList<>();
+        }
+        List<Reservation> result = new ArrayList<>(ids.size());
+        for (String id : ids) {
+            Entry entry = entries.get(id);
+            // L'entrée peut disparaître entre la lecture de l'index et celle de la table
+            if (entry != null) {
+                result.add(entry.reservation());
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public List<Reservation> findByRoomId(String roomId) {
+        List<Reservation> result = new ArrayList<>();
+        ReservationIntervalTree tree = roomTree(roomId);
+        if (tree != null) {
+            synchronized (tree) {
+                tree.collectAll(result);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void delete(Reservation reservation) {
+        try (StripedLocks.Held ignored = idLocks.lock(reservation.getId())) {
+            Entry previous = entries.remove(reservation.getId());
+            if (previous != null) {
+                unindex(previous);
+            }
+        }
+    }
+
+    @Override
+    public Optional<Reservation> findById(String reservationId) {
+        Entry entry = entries.get(reservationId);
+        return entry == null ? Optional.empty() : Optional.of(entry.reservation());
+    }
+
+    @Override
+    public List<Reservation> findAfterDate(LocalDateTime date) {
+        // Début strictement après la date
+        return new ArrayList<>(byStart.tailMap(new TimeKey(date.plusNanos(1), null)).values());
+    }
+
+    @Override
+    public List<Reservation> findBeforeDate(LocalDateTime date) {
+        return new ArrayList<>(byStart.headMap(new TimeKey(date, null)).values());
+    }
+
+    /**
+     * Vue paresseuse sur l'index temporel : seules les entrées parcourues sont lues
+     */
+    @Override
+    public Collection<Reservation> findBetween(LocalDateTime start, LocalDateTime end) {
+        if (!start.isBefore(end)) {
+            return Collections.emptyList();
+        }
+        return Collections.unmodifiableCollection(
+                byStart.subMap(new TimeKey(start, null), new TimeKey(end, null)).values());
+    }
+
+    @Override
+    public List<Reservation> findPage(String afterId, int limit) {
+        Map<String, Entry> tail = afterId == null ? entries : entries.tailMap(afterId, false);
+        List<Reservation> result = new ArrayList<>(Math.min(limit, 1024));
+        for (Entry entry : tail.values()) {
+            if (result.size() == limit) {
+                break;
+            }
+            result.add(entry.reservation());
+        }
+        return result;
+    }
+
+    @Override
+    public Stream<Reservation> streamAll() {
+        return entries.values().stream().map(Entry::reservation);
+    }
+
+    @Override
+    public List<Reservation> findOverlapping(String roomId, LocalDateTime start, LocalDateTime end) {
+        List<Reservation> result = new ArrayList<>();
+        ReservationIntervalTree tree = roomTree(roomId);
+        if (tree != null) {
+            synchronized (tree) {
+                tree.collectOverlapping(start, end, result);
+            }
+        }
+        return result;
+    }
+
+    private ReservationIntervalTree roomTree(String roomId) {
+        int room = roomIds.handleOf(roomId);
+        return room == IdDictionary.ABSENT ? null : byRoom.get(room);
+    }
+
+    private Entry toEntry(Reservation reservation) {
+        List<Student> students = reservation.getStudents() == null ? List.of() : reservation.getStudents();
+        int[] handles = new int[students.size()];
+        for (int i = 0; i < handles.length; i++) {
+            handles[i] = studentIds.intern(students.get(i).getId());
+        }
+        int room = reservation.getRoom() == null ? IdDictionary.ABSENT : roomIds.intern(reservation.getRoom().getId());
+        return new Entry(reservation.getId(), reservation, room, reservation.getStartTime(), reservation.getEndTime(),
+                handles, reservation.getVersion());
+    }
+
+    private void index(Entry entry) {
+        String id = entry.id();
+        if (entry.start() != null) {
+            byStart.put(new TimeKey(entry.start(), id), entry.reservation());
+        }
+        if (entry.room() != IdDictionary.ABSENT && entry.start() != null && entry.end() != null) {
+            ReservationIntervalTree tree = byRoom.computeIfAbsent(entry.room(), ReservationIntervalTree::new);
+            synchronized (tree) {
+                tree.insert(entry.start(), entry.end(), id, entry.reservation());
+            }
+        }
+        for (int student : entry.students()) {
+            byStudent.computeIfAbsent(student, ConcurrentSkipListSet::new).add(id);
+        }
+    }
+
+    private void unindex(Entry entry) {
+        String id = entry.id();
+        if (entry.start() != null) {
+            byStart.remove(new TimeKey(entry.start(), id));
+        }
+        if (entry.room() != IdDictionary.ABSENT && entry.start() != null) {
+            ReservationIntervalTree tree = byRoom.get(entry.room());
+            if (tree != null) {
+                synchronized (tree) {
+                    tree.remove(entry.start(), id);
+                }
+            }
+        }
+        for (int student : entry.students()) {
+            Set<String> ids = byStudent.get(student);
+            if (ids != null) {
+                ids.remove(id);
+            }
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.ynov.testingmethodology.repository;
+
+import com.ynov.testingmethodology.model.ReservationSeries;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Stockage en mémoire des réservations récurrentes : une entrée par règle, pas par occurrence.
+ * Les séries sont peu nombreuses (une par cours), un parcours suffit pour les recherches.
+ */
+@Repository
+@Profile("!jpa")
+public class InMemoryReservationSeriesRepository implements ReservationSeriesRepository {
+
+    private final ConcurrentHashMap<String, ReservationSeries> series = new ConcurrentHashMap<>();
+
+    @Override
+    public ReservationSeries save(ReservationSeries reservationSeries) {
+        series.put(reservationSeries.getId(), reservationSeries);
+        return reservationSeries;
+    }
+
+    @Override
+    public Optional<ReservationSeries> findById(String id) {
+        return Optional.ofNullable(series.get(id));
+    }
+
+    @Override
+    public List<ReservationSeries> findAll() {
+        return new ArrayList<>(series.values());
+    }
+
+    @Override
+    public List<ReservationSeries> findByRoomId(String roomId) {
+        List<ReservationSeries> result = new ArrayList<>();
+        for (ReservationSeries candidate : series.values()) {
+            if (candidate.getRoom() != null && roomId.equals(candidate.getRoom().getId())) {
+                result.add(candidate);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public List<ReservationSeries> findByStudentId(String studentId) {
+        List<ReservationSeries> result = new ArrayList<>();
+        for (ReservationSeries candidate : series.values()) {
+            if (candidate.getStudents() != null
+                    && candidate.getStudents().stream().anyMatch(s -> studentId.equals(s.getId()))) {
+                result.add(candidate);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void delete(ReservationSeries reservationSeries) {
+        series.remove(reservationSeries.getId());
+    }
+}
@@ -0,0 +1,94 @@
+package com.ynov.testingmethodology.repository;
+
+import com.ynov.testingmethodology.model.Room;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Stockage en mémoire des salles, avec un index trié par capacité.
+ */
+@Repository
+@Profile("!jpa")
+public class InMemoryRoomRepository implements RoomRepository {
+
+    /**
+     * Clé de l'index par capacité : capacité puis id
+     */
+    private record CapacityKey(int capacity, String id) implements Comparable<CapacityKey> {
+        @Override
+        public int compareTo(CapacityKey other) {
+            int cmp = Integer.compare(capacity, other.capacity);
+            return cmp != 0 ? cmp : id.compareTo(other.id);
+        }
+    }
+
+    // Trié par id pour la pagination par curseur
+    private final ConcurrentSkipListMap<String, Room> rooms = new ConcurrentSkipListMap<>();
+    // Capacité sous laquelle chaque salle est indexée, la salle pouvant être modifiée depuis
+    private final ConcurrentHashMap<String, CapacityKey> indexedKeys = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListMap<CapacityKey, Room> byCapacity = new ConcurrentSkipListMap<>();
+
+    @Override
+    public synchronized Room save(Room room) {
+        rooms.put(room.getId(), room);
+        CapacityKey previous = indexedKeys.remove(room.getId());
+        if (previous != null) {
+            byCapacity.remove(previous);
+        }
+        if (room.getCapacity() != null) {
+            CapacityKey key = new CapacityKey(room.getCapacity(), room.getId());
+            indexedKeys.put(room.getId(), key);
+            byCapacity.put(key, room);
+        }
+        return room;
+    }
+
+    @Override
+    public Optional<Room> findById(String id) {
+        return Optional.ofNullable(rooms.get(id));
+    }
+
+    @Override
+    public List<Room> findAll() {
+        return new ArrayList<>(rooms.values());
+    }
+
+    @Override
+    public synchronized void deleteById(String id) {
+        rooms.remove(id);
+        CapacityKey previous = indexedKeys.remove(id);
+        if (previous != null) {
+            byCapacity.remove(previous);
+        }
+    }
+
+    @Override
+    public boolean existsByID(String id) {
+        return rooms.containsKey(id);
+    }
+
+    @Override
+    public List<Room> findByMinCapacity(int minCapacity) {
+        return new ArrayList<>(byCapacity.tailMap(new CapacityKey(minCapacity, "")).values());
+    }
+
+    @Override
+    public List<Room> findPage(String afterId, int limit) {
+        Map<String, Room> tail = afterId == null ? rooms : rooms.tailMap(afterId, false);
+        return tail.values().stream().limit(limit).collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    @Override
+    public Stream<Room> streamAll() {
+        return rooms.values().stream();
+    }
+}
@@ -0,0 +1,61 @@
+package com.ynov.testingmethodology.repository;
+
+import com.ynov.testingmethodology.model.Student;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Stockage en mémoire des étudiants.
+ */
+@Repository
+@Profile("!jpa")
+public class InMemoryStudentRepository implements StudentRepository {
+
+    // Trié par id pour la pagination par curseur
+    private final ConcurrentSkipListMap<String, Student> students = new ConcurrentSkipListMap<>();
+
+    @Override
+    public Student save(Student student) {
+        students.put(student.getId(), student);
+        return student;
+    }
+
+    @Override
+    public Optional<Student> findById(String id) {
+        return Optional.ofNullable(students.get(id));
+    }
+
+    @Override
+    public List<Student> findAll() {
+        return new ArrayList<>(students.values());
+    }
+
+    @Override
+    public void deleteById(String id) {
+        students.remove(id);
+    }
+
+    @Override
+    public boolean existsByID(String id) {
+        return students.containsKey(id);
+    }
+
+    @Override
+    public List<Student> findPage(String afterId, int limit) {
+        Map<String, Student> tail = afterId == null ? students : students.tailMap(afterId, false);
+        return tail.values().stream().limit(limit).collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    @Override
+    public Stream<Student> streamAll() {
+        return students.values().stream();
+    }
+}
@@ -0,0 +1,200 @@
+package com.ynov.testingmethodology.repository;
+
+import com.ynov.testingmethodology.concurrent.StripedLocks;
+import com.ynov.testingmethodology.model.Reservation;
+import com.ynov.testingmethodology.model.ReservationSummary;
+import com.ynov.testingmethodology.persistence.ReservationJournal;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Dépôt de réservations durable : chaque écriture est appliquée au dépôt en mémoire, qui continue
+ * de servir toutes les lectures, puis journalisée sous le même verrou, et l'appelant attend qu'elle soit sur disque.
+ * Au démarrage, le journal est rejoué dans le dépôt en mémoire pour reconstruire ses index.
+ */
+public class JournaledReservationRepository implements ReservationRepository, AutoCloseable {
+
+    private final ReservationRepository delegate;
+    private final ReservationJournal journal;
+    // L'ordre du journal doit être celui des écritures en mémoire pour une même réservation
+    private final StripedLocks idLocks = new StripedLocks(256);
+
+    public JournaledReservationRepository(Path journalPath, ReservationRepository delegate) {
+        this(journalPath, ReservationJournal.DEFAULT_REGION_SIZE, true, delegate);
+    }
+
+    public JournaledReservationRepository(Path journalPath, int regionSize, boolean syncOnCommit, ReservationRepository delegate) {
+        this(journalPath, regionSize, syncOnCommit, delegate, 0);
+    }
+
+    /**
+     * @param afterSequence dernier enregistrement déjà présent dans {@code delegate} (chargé depuis un instantané)
+     */
+    public JournaledReservationRepository(Path journalPath, int regionSize, boolean syncOnCommit,
+                                          ReservationRepository delegate, long afterSequence) {
+        this.delegate = delegate;
+        this.journal = ReservationJournal.open(journalPath, regionSize, syncOnCommit, afterSequence,
+                delegate::save,
+                id -> delegate.findById(id).ifPresent(delegate::delete));
+    }
+
+    @Override
+    public Reservation save(Reservation reservation) {
+        long sequence;
+        try (StripedLocks.Held ignored = idLocks.lock(reservation.getId())) {
+            delegate.save(reservation);
+            sequence = journal.appendSave(reservation);
+        }
+        journal.awaitDurable(sequence);
+        return reservation;
+    }
+
+    /**
+     * La version est comparée en mémoire ; seule une mise à jour acceptée est journalisée
+     */
+    @Override
+    public Reservation update(Reservation reservation) {
+        long sequence;
+        try (StripedLocks.Held ignored = idLocks.lock(reservation.getId())) {
+            delegate.update(reservation);
+            sequence = journal.appendSave(reservation);
+        }
+        journal.awaitDurable(sequence);
+        return reservation;
+    }
+
+    /**
+     * Un seul passage sur disque pour tout le lot
+     */
+    @Override
+    public List<Reservation> saveAll(Collection<Reservation> reservations) {
+        List<String> ids = reservations.stream().map(Reservation::getId).toList();
+        long sequence;
+        List<Reservation> result;
+        try (StripedLocks.Held ignored = idLocks.lockAll(ids)) {
+            result = delegate.saveAll(reservations);
+            sequence = 0;
+            for (Reservation reservation : reservations) {
+                sequence = journal.appendSave(reservation);
+            }
+        }
+        journal.awaitDurable(sequence);
+        return result;
+    }
+
+    @Override
+    public void delete(Reservation reservation) {
+        long sequence;
+        try (StripedLocks.Held ignored = idLocks.lock(reservation.getId())) {
+            delegate.delete(reservation);
+            sequence = journal.appendDelete(reservation.getId());
+        }
+        journal.awaitDurable(sequence);
+    }
+
+    @Override
+    public List<Reservation> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<Reservation> findByStudentId(String studentId) {
+        return delegate.findByStudentId(studentId);
+    }
+
+    @Override
+    public List<Reservation> findByRoomId(String roomId) {
+        return delegate.findByRoomId(roomId);
+    }
+
+    @Override
+    public Optional<Reservation> findById(String reservationId) {
+        return delegate.findById(reservationId);
+    }
+
+    @Override
+    public List<Reservation> findAfterDate(LocalDateTime date) {
+        return delegate.findAfterDate(date);
+    }
+
+    @Override
+    public List<Reservation> findBeforeDate(LocalDateTime date) {
+        return delegate.findBeforeDate(date);
+    }
+
+    @Override
+    public Collection<Reservation> findBetween(LocalDateTime start, LocalDateTime end) {
+        return delegate.findBetween(start, end);
+    }
+
+    @Override
+    public List<Reservation> findOverlapping(String roomId, LocalDateTime start, LocalDateTime end) {
+        return delegate.findOverlapping(roomId, start, end);
+    }
+
+    @Override
+    public List<ReservationSummary> findSummariesByRoomId(String roomId) {
+        return delegate.findSummariesByRoomId(roomId);
+    }
+
+    @Override
+    public List<ReservationSummary> findSummariesByStudentId(String studentId) {
+        return delegate.findSummariesByStudentId(studentId);
+    }
+
+    @Override
+    public Set<String> findExistingIds(Collection<String> ids) {
+        return delegate.findExistingIds(ids);
+    }
+
+    @Override
+    public List<ReservationSummary> findSummariesBetween(LocalDateTime start, LocalDateTime end) {
+        return delegate.findSummariesBetween(start, end);
+    }
+
+    @Override
+    public List<Reservation> findPage(String afterId, int limit) {
+        return delegate.findPage(afterId, limit);
+    }
+
+    @Override
+    public Stream<Reservation> streamAll() {
+        return delegate.streamAll();
+    }
+
+    /**
+     * Exécute {@code action} sans écriture concurrente, et renvoie le numéro du dernier enregistrement
+     * journalisé : le dépôt en mémoire reflète exactement le journal jusqu'à ce numéro
+     */
+    public long quiesce(Runnable action) {
+        try (StripedLocks.Held ignored = idLocks.lockEverything()) {
+            action.run();
+            return journal.lastSequence();
+        }
+    }
+
+    /**
+     * Numéro du dernier enregistrement journalisé
+     */
+    public long lastSequence() {
+        return journal.lastSequence();
+    }
+
+    /**
+     * Retire du journal les enregistrements jusqu'à {@code sequence} inclus, déjà couverts par un instantané
+     */
+    public void truncateThrough(long sequence) {
+        journal.truncateThrough(sequence);
+    }
+
+    @Override
+    public void close() {
+        journal.close();
+    }
+}
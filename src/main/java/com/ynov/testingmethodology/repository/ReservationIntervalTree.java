@@ -0,0 +1,206 @@
+package com.ynov.testingmethodology.repository;
+
+import com.ynov.testingmethodology.model.Reservation;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Arbre d'intervalles (AVL augmenté) des réservations d'une salle.
+ * Chaque noeud est trié par (début, id) et connaît la fin maximale de son sous-arbre,
+ * ce qui permet de trouver les chevauchements en O(log n + k).
+ * Les bornes sont copiées à l'insertion : l'arbre ne dépend pas des setters de Reservation.
+ */
+final class ReservationIntervalTree {
+
+    private static final class Node {
+        final LocalDateTime start;
+        final LocalDateTime end;
+        final String id;
+        Reservation reservation;
+        LocalDateTime maxEnd;
+        int height = 1;
+        Node left;
+        Node right;
+
+        Node(LocalDateTime start, LocalDateTime end, String id, Reservation reservation) {
+            this.start = start;
+            this.end = end;
+            this.id = id;
+            this.reservation = reservation;
+            this.maxEnd = end;
+        }
+    }
+
+    private Node root;
+    private int size;
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Insère une réservation sur l'intervalle [start, end[ (remplace une entrée de même clé)
+     */
+    void insert(LocalDateTime start, LocalDateTime end, String id, Reservation reservation) {
+        root = insert(root, start, end, id, reservation);
+    }
+
+    /**
+     * Retire l'entrée indexée avec ce début et cet id
+     */
+    void remove(LocalDateTime start, String id) {
+        root = remove(root, start, id);
+    }
+
+    /**
+     * Ajoute à {@code out} les réservations dont l'intervalle chevauche [start, end[
+     */
+    void collectOverlapping(LocalDateTime start, LocalDateTime end, List<Reservation> out) {
+        collectOverlapping(root, start, end, out);
+    }
+
+    /**
+     * Ajoute à {@code out} toutes les réservations, triées par heure de début
+     */
+    void collectAll(List<Reservation> out) {
+        collectAll(root, out);
+    }
+
+    private static int compare(LocalDateTime start, String id, Node node) {
+        int cmp = start.compareTo(node.start);
+        return cmp != 0 ? cmp : id.compareTo(node.id);
+    }
+
+    private Node insert(Node node, LocalDateTime start, LocalDateTime end, String id, Reservation reservation) {
+        if (node == null) {
+            size++;
+            return new Node(start, end, id, reservation);
+        }
+        int cmp = compare(start, id, node);
+        if (cmp < 0) {
+            node.left = insert(node.left, start, end, id, reservation);
+        } else if (cmp > 0) {
+            node.right = insert(node.right, start, end, id, reservation);
+        } else {
+            // Même clé : l'intervalle est identique, seule la référence change
+            node.reservation = reservation;
+            return node;
+        }
+        return balance(node);
+    }
+
+    private Node remove(Node node, LocalDateTime start, String id) {
+        if (node == null) {
+            return null;
+        }
+        int cmp = compare(start, id, node);
+        if (cmp < 0) {
+            node.left = remove(node.left, start, id);
+        } else if (cmp > 0) {
+            node.right = remove(node.right, start, id);
+        } else {
+            size--;
+            if (node.left == null) {
+                return node.right;
+            }
+            if (node.right == null) {
+                return node.left;
+            }
+            Node successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            Node replacement = new Node(successor.start, successor.end, successor.id, successor.reservation);
+            // remove() décrémente size une seconde fois pour le successeur
+            size++;
+            replacement.right = remove(node.right, successor.start, successor.id);
+            replacement.left = node.left;
+            node = replacement;
+        }
+        return balance(node);
+    }
+
+    private static void collectOverlapping(Node node, LocalDateTime start, LocalDateTime end, List<Reservation> out) {
+        if (node == null || !node.maxEnd.isAfter(start)) {
+            // Aucun intervalle du sous-arbre ne se termine après le début recherché
+            return;
+        }
+        collectOverlapping(node.left, start, end, out);
+        if (!node.start.isBefore(end)) {
+            // Tout le sous-arbre droit commence après la fin recherchée
+            return;
+        }
+        if (node.end.isAfter(start)) {
+            out.add(node.reservation);
+        }
+        collectOverlapping(node.right, start, end, out);
+    }
+
+    private static void collectAll(Node node, List<Reservation> out) {
+        if (node == null) {
+            return;
+        }
+        collectAll(node.left, out);
+        out.add(node.reservation);
+        collectAll(node.right, out);
+    }
+
+    // === Equilibrage AVL ===
+
+    private static int height(Node node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static void update(Node node) {
+        node.height = 1 + Math.max(height(node.left), height(node.right));
+        LocalDateTime max = node.end;
+        if (node.left != null && node.left.maxEnd.isAfter(max)) {
+            max = node.left.maxEnd;
+        }
+        if (node.right != null && node.right.maxEnd.isAfter(max)) {
+            max = node.right.maxEnd;
+        }
+        node.maxEnd = max;
+    }
+
+    private static Node rotateRight(Node node) {
+        Node pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private static Node rotateLeft(Node node) {
+        Node pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private static Node balance(Node node) {
+        update(node);
+        int factor = height(node.left) - height(node.right);
+        if (factor > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+        if (factor < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+}
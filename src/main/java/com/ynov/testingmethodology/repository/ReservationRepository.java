@@ -1,13 +1,49 @@
 package com.ynov.testingmethodology.repository;
 
 import com.ynov.testingmethodology.model.Reservation;
+import com.ynov.testingmethodology.model.ReservationSummary;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 public interface ReservationRepository {
+
+    /**
+     * Enregistre la réservation sans contrôle de version (création, rechargement)
+     */
     Reservation save(Reservation reservation);
+
+    /**
+     * Remplace une réservation existante si sa version enregistrée est encore {@code reservation.getVersion()}
+     * (comparer-échanger) ; la version est alors incrémentée, dans le dépôt comme sur l'objet.
+     *
+     * @throws StaleReservationException si la réservation a été modifiée ou supprimée depuis sa lecture
+     */
+    Reservation update(Reservation reservation);
+
+    /**
+     * Enregistre un lot de réservations
+     */
+    List<Reservation> saveAll(Collection<Reservation> reservations);
+
+    /**
+     * Ids de {@code ids} déjà enregistrés
+     */
+    default Set<String> findExistingIds(Collection<String> ids) {
+        Set<String> existing = new HashSet<>();
+        for (String id : ids) {
+            if (findById(id).isPresent()) {
+                existing.add(id);
+            }
+        }
+        return existing;
+    }
+
     List<Reservation> findAll();
     List<Reservation> findByStudentId(String studentId);
     List<Reservation> findByRoomId(String roomId);
@@ -16,4 +52,48 @@ public interface ReservationRepository {
     List<Reservation> findAfterDate(LocalDateTime date);
 
     List<Reservation> findBeforeDate(LocalDateTime date);
+
+    /**
+     * Réservations de la salle dont l'intervalle [start, end[ chevauche celui donné
+     */
+    List<Reservation> findOverlapping(String roomId, LocalDateTime start, LocalDateTime end);
+
+    /**
+     * Réservations qui commencent dans [start, end[, triées par heure de début
+     */
+    Collection<Reservation> findBetween(LocalDateTime start, LocalDateTime end);
+
+    /**
+     * Au plus {@code limit} réservations d'id strictement supérieur à {@code afterId}
+     * (null pour partir du début), triées par id
+     */
+    List<Reservation> findPage(String afterId, int limit);
+
+    /**
+     * Parcours paresseux de toutes les réservations, sans copie intermédiaire
+     */
+    Stream<Reservation> streamAll();
+
+    /**
+     * Vues allégées des réservations de la salle, triées par heure de début.
+     * Par défaut dérivées de {@link #findByRoomId(String)} ; un dépôt peut les produire sans
+     * matérialiser les réservations.
+     */
+    default List<ReservationSummary> findSummariesByRoomId(String roomId) {
+        return findByRoomId(roomId).stream().map(ReservationSummary::of).toList();
+    }
+
+    /**
+     * Vues allégées des réservations de l'étudiant, dans l'ordre de {@link #findByStudentId(String)}
+     */
+    default List<ReservationSummary> findSummariesByStudentId(String studentId) {
+        return findByStudentId(studentId).stream().map(ReservationSummary::of).toList();
+    }
+
+    /**
+     * Vues allégées des réservations qui commencent dans [start, end[, triées par heure de début
+     */
+    default List<ReservationSummary> findSummariesBetween(LocalDateTime start, LocalDateTime end) {
+        return findBetween(start, end).stream().map(ReservationSummary::of).toList();
+    }
 }
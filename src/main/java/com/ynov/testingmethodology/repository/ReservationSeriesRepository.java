@@ -0,0 +1,15 @@
+package com.ynov.testingmethodology.repository;
+
+import com.ynov.testingmethodology.model.ReservationSeries;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface ReservationSeriesRepository {
+    ReservationSeries save(ReservationSeries series);
+    Optional<ReservationSeries> findById(String id);
+    List<ReservationSeries> findAll();
+    List<ReservationSeries> findByRoomId(String roomId);
+    List<ReservationSeries> findByStudentId(String studentId);
+    void delete(ReservationSeries series);
+}
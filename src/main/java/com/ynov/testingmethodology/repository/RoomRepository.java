@@ -1,8 +1,13 @@
 package com.ynov.testingmethodology.repository;
 
 import com.ynov.testingmethodology.model.Room;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 public interface RoomRepository {
     Room save(Room room);
@@ -11,4 +16,54 @@ public interface RoomRepository {
     void deleteById(String id);
     boolean existsByID(String id);
 
+    /**
+     * Enregistre un lot de salles
+     */
+    default List<Room> saveAll(Collection<Room> rooms) {
+        List<Room> saved = new ArrayList<>(rooms.size());
+        for (Room room : rooms) {
+            saved.add(save(room));
+        }
+        return saved;
+    }
+
+    /**
+     * Salles connues parmi {@code ids}, dans un ordre quelconque
+     */
+    default List<Room> findAllById(Collection<String> ids) {
+        List<Room> found = new ArrayList<>();
+        for (String id : ids) {
+            findById(id).ifPresent(found::add);
+        }
+        return found;
+    }
+
+    /**
+     * Ids de {@code ids} déjà enregistrés
+     */
+    default Set<String> findExistingIds(Collection<String> ids) {
+        Set<String> existing = new HashSet<>();
+        for (String id : ids) {
+            if (existsByID(id)) {
+                existing.add(id);
+            }
+        }
+        return existing;
+    }
+
+    /**
+     * Salles d'au moins {@code minCapacity} places, de la plus petite à la plus grande
+     */
+    List<Room> findByMinCapacity(int minCapacity);
+
+    /**
+     * Au plus {@code limit} salles d'id strictement supérieur à {@code afterId}
+     * (null pour partir du début), triées par id
+     */
+    List<Room> findPage(String afterId, int limit);
+
+    /**
+     * Parcours paresseux de toutes les salles, sans copie intermédiaire
+     */
+    Stream<Room> streamAll();
 }
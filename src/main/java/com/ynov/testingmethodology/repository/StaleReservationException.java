@@ -0,0 +1,53 @@
+package com.ynov.testingmethodology.repository;
+
+/**
+ * Mise à jour refusée par {@link ReservationRepository#update(com.ynov.testingmethodology.model.Reservation)} : la réservation
+ * a été modifiée ou supprimée depuis sa lecture. Il suffit de la relire puis de réappliquer la modification.
+ */
+public class StaleReservationException extends IllegalArgumentException {
+
+    /**
+     * Version courante d'une réservation supprimée
+     */
+    public static final long DELETED = -1;
+
+    /**
+     * Version courante inconnue : l'écriture concurrente n'a été détectée qu'à l'enregistrement
+     */
+    public static final long UNKNOWN = -2;
+
+    private final String reservationId;
+    private final long expectedVersion;
+    private final long currentVersion;
+
+    public StaleReservationException(String reservationId, long expectedVersion, long currentVersion) {
+        super(message(reservationId, expectedVersion, currentVersion));
+        this.reservationId = reservationId;
+        this.expectedVersion = expectedVersion;
+        this.currentVersion = currentVersion;
+    }
+
+    private static String message(String reservationId, long expectedVersion, long currentVersion) {
+        if (currentVersion == DELETED) {
+            return "Reservation " + reservationId + " no longer exists";
+        }
+        String message = "Reservation " + reservationId + " was modified concurrently (expected version " + expectedVersion;
+        return currentVersion == UNKNOWN ? message + ")" : message + ", current version " + currentVersion + ")";
+    }
+
+    public String getReservationId() {
+        return reservationId;
+    }
+
+    public long getExpectedVersion() {
+        return expectedVersion;
+    }
+
+    /**
+     * Version enregistrée au moment du refus, {@link #DELETED} si la réservation n'existe plus,
+     * {@link #UNKNOWN} si elle n'a pas pu être relue
+     */
+    public long getCurrentVersion() {
+        return currentVersion;
+    }
+}
@@ -1,8 +1,13 @@
 package com.ynov.testingmethodology.repository;
 
 import com.ynov.testingmethodology.model.Student;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 public interface StudentRepository {
     Student save(Student student);
@@ -11,4 +16,50 @@ public interface StudentRepository {
     void deleteById(String id);
 
     boolean existsByID(String id);
+
+    /**
+     * Enregistre un lot d'étudiants
+     */
+    default List<Student> saveAll(Collection<Student> students) {
+        List<Student> saved = new ArrayList<>(students.size());
+        for (Student student : students) {
+            saved.add(save(student));
+        }
+        return saved;
+    }
+
+    /**
+     * Étudiants connus parmi {@code ids}, dans un ordre quelconque
+     */
+    default List<Student> findAllById(Collection<String> ids) {
+        List<Student> found = new ArrayList<>();
+        for (String id : ids) {
+            findById(id).ifPresent(found::add);
+        }
+        return found;
+    }
+
+    /**
+     * Ids de {@code ids} déjà enregistrés
+     */
+    default Set<String> findExistingIds(Collection<String> ids) {
+        Set<String> existing = new HashSet<>();
+        for (String id : ids) {
+            if (existsByID(id)) {
+                existing.add(id);
+            }
+        }
+        return existing;
+    }
+
+    /**
+     * Au plus {@code limit} étudiants d'id strictement supérieur à {@code afterId}
+     * (null pour partir du début), triés par id
+     */
+    List<Student> findPage(String afterId, int limit);
+
+    /**
+     * Parcours paresseux de tous les étudiants, sans copie intermédiaire
+     */
+    Stream<Student> streamAll();
 }
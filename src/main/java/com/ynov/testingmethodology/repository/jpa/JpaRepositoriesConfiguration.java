@@ -0,0 +1,15 @@
+package com.ynov.testingmethodology.repository.jpa;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+/**
+ * Active les dépôts Spring Data du profil {@code jpa} ; hors de ce profil les dépôts
+ * en mémoire sont utilisés (spring.data.jpa.repositories.enabled=false)
+ */
+@Configuration
+@Profile("jpa")
+@EnableJpaRepositories(basePackageClasses = JpaRepositoriesConfiguration.class)
+class JpaRepositoriesConfiguration {
+}
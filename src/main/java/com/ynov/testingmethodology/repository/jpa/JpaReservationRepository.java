@@ -0,0 +1,318 @@
+package com.ynov.testingmethodology.repository.jpa;
+
+import com.ynov.testingmethodology.model.Reservation;
+import com.ynov.testingmethodology.model.ReservationSummary;
+import com.ynov.testingmethodology.model.Student;
+import com.ynov.testingmethodology.repository.CursorPage;
+import com.ynov.testingmethodology.repository.ReservationRepository;
+import com.ynov.testingmethodology.repository.StaleReservationException;
+import com.ynov.testingmethodology.service.BookingConflictException;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.OptimisticLockException;
+import jakarta.persistence.Query;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+/**
+ * Réservations stockées en base (profil {@code jpa}).
+ * La salle et les participants sont rattachés par référence (sans les relire) ; un lot est
+ * inséré en une transaction, regroupé en requêtes JDBC par {@code hibernate.jdbc.batch_size}.
+ * Les étudiants relus n'ont pas leurs propres réservations chargées.
+ * <p>
+ * Chaque écriture verrouille en base les salles et les participants, puis vérifie les chevauchements
+ * de tout le lot en une requête, dans la même transaction : des instances qui partagent la base ne peuvent pas réserver le même
+ * créneau. Les occurrences des séries restent contrôlées par le service.
+ */
+@Repository
+@Profile("jpa")
+@Transactional(readOnly = true)
+public class JpaReservationRepository implements ReservationRepository {
+
+    private static final int STREAM_PAGE = 500;
+    // Réservations contrôlées par requête de chevauchement, pour borner le nombre de paramètres
+    private static final int CONFLICT_CHUNK = 200;
+
+    private final ReservationEntityRepository entities;
+    private final RoomEntityRepository rooms;
+    private final StudentEntityRepository students;
+    private final EntityManager entityManager;
+
+    JpaReservationRepository(ReservationEntityRepository entities, RoomEntityRepository rooms,
+                             StudentEntityRepository students, EntityManager entityManager) {
+        this.entities = entities;
+        this.rooms = rooms;
+        this.students = students;
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Insertion seule, sans relire la réservation : une réservation déjà en base se modifie par
+     * {@link #update(Reservation)}, la clé primaire refuse un doublon. Seuls le verrouillage
+     * des participants et le contrôle des chevauchements sont faits avant l'insertion.
+     */
+    @Override
+    @Transactional
+    public Reservation save(Reservation reservation) {
+        checkConflicts(List.of(reservation));
+        write(reservation, null);
+        return reservation;
+    }
+
+    /**
+     * La version lue est comparée d'abord ; l'UPDATE, conditionné par la version, est envoyé
+     * aussitôt pour détecter une transaction concurrente qui l'aurait modifiée entre-temps
+     */
+    @Override
+    @Transactional
+    public Reservation update(Reservation reservation) {
+        long expected = reservation.getVersion();
+        ReservationEntity entity = entities.findById(reservation.getId()).orElseThrow(() ->
+                new StaleReservationException(reservation.getId(), expected, StaleReservationException.DELETED));
+        if (entity.getVersion() != expected) {
+            throw new StaleReservationException(reservation.getId(), expected, entity.getVersion());
+        }
+        checkConflicts(List.of(reservation));
+        write(reservation, entity);
+        try {
+            entityManager.flush();
+        } catch (OptimisticLockException e) {
+            throw new StaleReservationException(reservation.getId(), expected, StaleReservationException.UNKNOWN);
+        }
+        reservation.setVersion(entity.getVersion());
+        return reservation;
+    }
+
+    /**
+     * Tout le lot est vérifié avant la première insertion, pour que les requêtes de contrôle
+     * ne vident pas les insertions en attente et que celles-ci restent groupées
+     */
+    @Override
+    @Transactional
+    public List<Reservation> saveAll(Collection<Reservation> reservations) {
+        checkConflicts(reservations);
+        for (Reservation reservation : reservations) {
+            write(reservation, null);
+        }
+        return new ArrayList<>(reservations);
+    }
+
+    @Override
+    public Set<String> findExistingIds(Collection<String> ids) {
+        return new HashSet<>(entities.findExistingIds(ids));
+    }
+
+    @Override
+    public List<Reservation> findAll() {
+        return toModels(entities.findAllSorted());
+    }
+
+    @Override
+    public List<Reservation> findByStudentId(String studentId) {
+        return toModels(entities.findByStudent(studentId));
+    }
+
+    @Override
+    public List<Reservation> findByRoomId(String roomId) {
+        return toModels(entities.findByRoom(roomId));
+    }
+
+    @Override
+    @Transactional
+    public void delete(Reservation reservation) {
+        entities.deleteById(reservation.getId());
+    }
+
+    @Override
+    public Optional<Reservation> findById(String reservationId) {
+        return entities.findById(reservationId).map(ReservationEntity::toModel);
+    }
+
+    @Override
+    public List<Reservation> findAfterDate(LocalDateTime date) {
+        return toModels(entities.findStartingAfter(date));
+    }
+
+    @Override
+    public List<Reservation> findBeforeDate(LocalDateTime date) {
+        return toModels(entities.findStartingBefore(date));
+    }
+
+    @Override
+    public List<Reservation> findOverlapping(String roomId, LocalDateTime start, LocalDateTime end) {
+        return toModels(entities.findOverlapping(roomId, start, end));
+    }
+
+    @Override
+    public Collection<Reservation> findBetween(LocalDateTime start, LocalDateTime end) {
+        if (!start.isBefore(end)) {
+            return List.of();
+        }
+        return toModels(entities.findStartingBetween(start, end));
+    }
+
+    @Override
+    public List<ReservationSummary> findSummariesByRoomId(String roomId) {
+        return entities.summarizeByRoom(roomId);
+    }
+
+    @Override
+    public List<ReservationSummary> findSummariesByStudentId(String studentId) {
+        return entities.summarizeByStudent(studentId);
+    }
+
+    @Override
+    public List<ReservationSummary> findSummariesBetween(LocalDateTime start, LocalDateTime end) {
+        if (!start.isBefore(end)) {
+            return List.of();
+        }
+        return entities.summarizeStartingBetween(start, end);
+    }
+
+    @Override
+    public List<Reservation> findPage(String afterId, int limit) {
+        List<ReservationEntity> page = afterId == null
+                ? entities.findAllByOrderByIdAsc(Limit.of(limit))
+                : entities.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(limit));
+        return toModels(page);
+    }
+
+    /**
+     * Lu par pages successives, chacune dans sa propre transaction
+     */
+    @Override
+    public Stream<Reservation> streamAll() {
+        return CursorPage.walk(this::findPage, Reservation::getId, STREAM_PAGE);
+    }
+
+    /**
+     * Verrouille (SELECT ... FOR UPDATE) les salles puis les étudiants concernés, une requête chacun,
+     * puis refuse toute réservation qui chevauche une réservation enregistrée de la même salle
+     * ou d'un même participant
+     */
+    private void checkConflicts(Collection<Reservation> reservations) {
+        Set<String> roomIds = new TreeSet<>();
+        Set<String> studentIds = new TreeSet<>();
+        for (Reservation reservation : reservations) {
+            roomIds.add(reservation.getRoom().getId());
+            reservation.getStudents().forEach(student -> studentIds.add(student.getId()));
+        }
+        Set<String> missingRooms = new TreeSet<>(roomIds);
+        rooms.lockAllById(roomIds).forEach(room -> missingRooms.remove(room.getId()));
+        if (!missingRooms.isEmpty()) {
+            throw new IllegalArgumentException("Room does not exist with id: " + missingRooms.iterator().next());
+        }
+        if (!studentIds.isEmpty()) {
+            Set<String> missingStudents = new TreeSet<>(studentIds);
+            students.lockAllById(studentIds).forEach(student -> missingStudents.remove(student.getId()));
+            if (!missingStudents.isEmpty()) {
+                throw new IllegalArgumentException("Student does not exist with id: " + missingStudents.iterator().next());
+            }
+        }
+        List<Reservation> batch = new ArrayList<>(reservations);
+        for (int from = 0; from < batch.size(); from += CONFLICT_CHUNK) {
+            checkOverlaps(batch.subList(from, Math.min(batch.size(), from + CONFLICT_CHUNK)));
+        }
+    }
+
+    /**
+     * Une requête pour tout le lot : ses créneaux, passés comme table dérivée, sont joints aux réservations
+     * enregistrées par (room_id, start_time) pour les salles, et par la table de jointure pour les participants
+     */
+    private void checkOverlaps(List<Reservation> batch) {
+        StringBuilder sql = new StringBuilder("select 'ROOM', b.id, b.room_id from (values ");
+        List<Object> parameters = new ArrayList<>();
+        StringBuilder intervals = new StringBuilder();
+        StringBuilder participants = new StringBuilder();
+        List<Object> participantParameters = new ArrayList<>();
+        for (Reservation reservation : batch) {
+            if (!intervals.isEmpty()) {
+                intervals.append(", ");
+            }
+            intervals.append("(cast(? as varchar), cast(? as varchar), cast(? as timestamp), cast(? as timestamp))");
+            parameters.add(reservation.getId());
+            parameters.add(reservation.getRoom().getId());
+            parameters.add(reservation.getStartTime());
+            parameters.add(reservation.getEndTime());
+            for (Student student : reservation.getStudents()) {
+                if (!participants.isEmpty()) {
+                    participants.append(", ");
+                }
+                participants.append("(cast(? as varchar), cast(? as varchar), cast(? as timestamp), cast(? as timestamp))");
+                participantParameters.add(reservation.getId());
+                participantParameters.add(student.getId());
+                participantParameters.add(reservation.getStartTime());
+                participantParameters.add(reservation.getEndTime());
+            }
+        }
+        sql.append(intervals).append(") as b(id, room_id, start_time, end_time)"
+                + " join reservation r on r.room_id = b.room_id and r.start_time < b.end_time"
+                + " and r.end_time > b.start_time and r.id <> b.id");
+        if (!participants.isEmpty()) {
+            sql.append(" union all select 'STUDENT', b.id, b.student_id from (values ").append(participants)
+                    .append(") as b(id, student_id, start_time, end_time)"
+                            + " join reservation_student rs on rs.student_id = b.student_id"
+                            + " join reservation r on r.id = rs.reservation_id and r.start_time < b.end_time"
+                            + " and r.end_time > b.start_time and r.id <> b.id");
+            parameters.addAll(participantParameters);
+        }
+        Query query = entityManager.createNativeQuery(sql.toString());
+        for (int i = 0; i < parameters.size(); i++) {
+            query.setParameter(i + 1, parameters.get(i));
+        }
+        Set<String> busyRooms = new HashSet<>();
+        Map<String, Set<String>> busyStudents = new HashMap<>();
+        for (Object row : query.getResultList()) {
+            Object[] conflict = (Object[]) row;
+            if ("ROOM".equals(conflict[0])) {
+                busyRooms.add((String) conflict[1]);
+            } else {
+                busyStudents.computeIfAbsent((String) conflict[1], id -> new TreeSet<>()).add((String) conflict[2]);
+            }
+        }
+        // Conflits signalés dans l'ordre du lot, salle avant participants comme dans le service
+        for (Reservation reservation : batch) {
+            if (busyRooms.contains(reservation.getId())) {
+                throw new BookingConflictException(BookingConflictException.Kind.ROOM, "Room " + reservation.getRoom().getId()
+                        + " is already booked between " + reservation.getStartTime() + " and " + reservation.getEndTime());
+            }
+            Set<String> busy = busyStudents.get(reservation.getId());
+            if (busy != null) {
+                throw new BookingConflictException(BookingConflictException.Kind.STUDENT, "Student(s) " + String.join(", ", busy)
+                        + " already have a reservation between " + reservation.getStartTime() + " and " + reservation.getEndTime());
+            }
+        }
+    }
+
+    private void write(Reservation reservation, ReservationEntity entity) {
+        RoomEntity room = entityManager.getReference(RoomEntity.class, reservation.getRoom().getId());
+        List<StudentEntity> students = new ArrayList<>(reservation.getStudents().size());
+        for (Student student : reservation.getStudents()) {
+            students.add(entityManager.getReference(StudentEntity.class, student.getId()));
+        }
+        if (entity == null) {
+            entity = new ReservationEntity(reservation.getId());
+            entity.update(reservation, room, students);
+            entityManager.persist(entity);
+        } else {
+            entity.update(reservation, room, students);
+        }
+    }
+
+    private static List<Reservation> toModels(List<ReservationEntity> page) {
+        return page.stream().map(ReservationEntity::toModel).toList();
+    }
+}
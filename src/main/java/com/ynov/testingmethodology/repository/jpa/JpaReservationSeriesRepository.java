@@ -0,0 +1,82 @@
+package com.ynov.testingmethodology.repository.jpa;
+
+import com.ynov.testingmethodology.model.ReservationSeries;
+import com.ynov.testingmethodology.model.Student;
+import com.ynov.testingmethodology.repository.ReservationSeriesRepository;
+import jakarta.persistence.EntityManager;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Réservations récurrentes stockées en base (profil {@code jpa}), une ligne par règle
+ */
+@Repository
+@Profile("jpa")
+@Transactional(readOnly = true)
+public class JpaReservationSeriesRepository implements ReservationSeriesRepository {
+
+    private final ReservationSeriesEntityRepository entities;
+    private final EntityManager entityManager;
+
+    JpaReservationSeriesRepository(ReservationSeriesEntityRepository entities, EntityManager entityManager) {
+        this.entities = entities;
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Crée ou remplace la série (les séries sont peu nombreuses, la lecture préalable est négligeable)
+     */
+    @Override
+    @Transactional
+    public ReservationSeries save(ReservationSeries series) {
+        RoomEntity room = entityManager.getReference(RoomEntity.class, series.getRoom().getId());
+        List<StudentEntity> students = new ArrayList<>(series.getStudents().size());
+        for (Student student : series.getStudents()) {
+            students.add(entityManager.getReference(StudentEntity.class, student.getId()));
+        }
+        ReservationSeriesEntity entity = entities.findById(series.getId()).orElse(null);
+        if (entity == null) {
+            entity = new ReservationSeriesEntity(series.getId());
+            entity.update(series, room, students);
+            entityManager.persist(entity);
+        } else {
+            entity.update(series, room, students);
+        }
+        return series;
+    }
+
+    @Override
+    public Optional<ReservationSeries> findById(String id) {
+        return entities.findById(id).map(ReservationSeriesEntity::toModel);
+    }
+
+    @Override
+    public List<ReservationSeries> findAll() {
+        return toModels(entities.findAllSorted());
+    }
+
+    @Override
+    public List<ReservationSeries> findByRoomId(String roomId) {
+        return toModels(entities.findByRoom(roomId));
+    }
+
+    @Override
+    public List<ReservationSeries> findByStudentId(String studentId) {
+        return toModels(entities.findByStudent(studentId));
+    }
+
+    @Override
+    @Transactional
+    public void delete(ReservationSeries series) {
+        entities.deleteById(series.getId());
+    }
+
+    private static List<ReservationSeries> toModels(List<ReservationSeriesEntity> page) {
+        return page.stream().map(ReservationSeriesEntity::toModel).toList();
+    }
+}
@@ -0,0 +1,126 @@
+package com.ynov.testingmethodology.repository.jpa;
+
+import com.ynov.testingmethodology.model.Room;
+import com.ynov.testingmethodology.repository.CursorPage;
+import com.ynov.testingmethodology.repository.RoomRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Salles stockées en base (profil {@code jpa}), indexées par capacité
+ */
+@Repository
+@Profile("jpa")
+@Transactional(readOnly = true)
+public class JpaRoomRepository implements RoomRepository {
+
+    private static final int STREAM_PAGE = 500;
+
+    private final RoomEntityRepository entities;
+
+    JpaRoomRepository(RoomEntityRepository entities) {
+        this.entities = entities;
+    }
+
+    @Override
+    @Transactional
+    public Room save(Room room) {
+        RoomEntity entity = entities.findById(room.getId()).orElse(null);
+        if (entity == null) {
+            entities.save(new RoomEntity(room));
+        } else {
+            entity.update(room);
+        }
+        return room;
+    }
+
+    @Override
+    public Optional<Room> findById(String id) {
+        return entities.findById(id).map(RoomEntity::toModel);
+    }
+
+    @Override
+    public List<Room> findAll() {
+        return toModels(entities.findAllByOrderByIdAsc(Limit.unlimited()));
+    }
+
+    @Override
+    @Transactional
+    public void deleteById(String id) {
+        entities.deleteById(id);
+    }
+
+    @Override
+    public boolean existsByID(String id) {
+        return entities.existsById(id);
+    }
+
+    /**
+     * Les entités déjà présentes sont lues en une requête ; les nouvelles sont insérées par lots JDBC
+     */
+    @Override
+    @Transactional
+    public List<Room> saveAll(Collection<Room> rooms) {
+        Map<String, RoomEntity> existing = entities.findAllById(rooms.stream().map(Room::getId).toList()).stream()
+                .collect(Collectors.toMap(RoomEntity::getId, Function.identity()));
+        List<RoomEntity> created = new ArrayList<>();
+        for (Room room : rooms) {
+            RoomEntity entity = existing.get(room.getId());
+            if (entity == null) {
+                created.add(new RoomEntity(room));
+            } else {
+                entity.update(room);
+            }
+        }
+        entities.saveAll(created);
+        return new ArrayList<>(rooms);
+    }
+
+    @Override
+    public List<Room> findAllById(Collection<String> ids) {
+        return toModels(entities.findAllById(ids));
+    }
+
+    @Override
+    public Set<String> findExistingIds(Collection<String> ids) {
+        return new HashSet<>(entities.findExistingIds(ids));
+    }
+
+    @Override
+    public List<Room> findByMinCapacity(int minCapacity) {
+        return toModels(entities.findByCapacityGreaterThanEqualOrderByCapacityAscIdAsc(minCapacity));
+    }
+
+    @Override
+    public List<Room> findPage(String afterId, int limit) {
+        List<RoomEntity> page = afterId == null
+                ? entities.findAllByOrderByIdAsc(Limit.of(limit))
+                : entities.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(limit));
+        return toModels(page);
+    }
+
+    /**
+     * Lu par pages successives, chacune dans sa propre transaction
+     */
+    @Override
+    public Stream<Room> streamAll() {
+        return CursorPage.walk(this::findPage, Room::getId, STREAM_PAGE);
+    }
+
+    private static List<Room> toModels(List<RoomEntity> page) {
+        return page.stream().map(RoomEntity::toModel).toList();
+    }
+}
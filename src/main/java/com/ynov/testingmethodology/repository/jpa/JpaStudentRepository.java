@@ -0,0 +1,121 @@
+package com.ynov.testingmethodology.repository.jpa;
+
+import com.ynov.testingmethodology.model.Student;
+import com.ynov.testingmethodology.repository.CursorPage;
+import com.ynov.testingmethodology.repository.StudentRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Étudiants stockés en base (profil {@code jpa})
+ */
+@Repository
+@Profile("jpa")
+@Transactional(readOnly = true)
+public class JpaStudentRepository implements StudentRepository {
+
+    private static final int STREAM_PAGE = 500;
+
+    private final StudentEntityRepository entities;
+
+    JpaStudentRepository(StudentEntityRepository entities) {
+        this.entities = entities;
+    }
+
+    @Override
+    @Transactional
+    public Student save(Student student) {
+        StudentEntity entity = entities.findById(student.getId()).orElse(null);
+        if (entity == null) {
+            entities.save(new StudentEntity(student));
+        } else {
+            entity.update(student);
+        }
+        return student;
+    }
+
+    @Override
+    public Optional<Student> findById(String id) {
+        return entities.findById(id).map(StudentEntity::toModel);
+    }
+
+    @Override
+    public List<Student> findAll() {
+        return toModels(entities.findAllByOrderByIdAsc(Limit.unlimited()));
+    }
+
+    @Override
+    @Transactional
+    public void deleteById(String id) {
+        entities.deleteById(id);
+    }
+
+    @Override
+    public boolean existsByID(String id) {
+        return entities.existsById(id);
+    }
+
+    /**
+     * Les entités déjà présentes sont lues en une requête ; les nouvelles sont insérées par lots JDBC
+     */
+    @Override
+    @Transactional
+    public List<Student> saveAll(Collection<Student> students) {
+        Map<String, StudentEntity> existing = entities.findAllById(students.stream().map(Student::getId).toList()).stream()
+                .collect(Collectors.toMap(StudentEntity::getId, Function.identity()));
+        List<StudentEntity> created = new ArrayList<>();
+        for (Student student : students) {
+            StudentEntity entity = existing.get(student.getId());
+            if (entity == null) {
+                created.add(new StudentEntity(student));
+            } else {
+                entity.update(student);
+            }
+        }
+        entities.saveAll(created);
+        return new ArrayList<>(students);
+    }
+
+    @Override
+    public List<Student> findAllById(Collection<String> ids) {
+        return toModels(entities.findAllById(ids));
+    }
+
+    @Override
+    public Set<String> findExistingIds(Collection<String> ids) {
+        return new HashSet<>(entities.findExistingIds(ids));
+    }
+
+    @Override
+    public List<Student> findPage(String afterId, int limit) {
+        List<StudentEntity> page = afterId == null
+                ? entities.findAllByOrderByIdAsc(Limit.of(limit))
+                : entities.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(limit));
+        return toModels(page);
+    }
+
+    /**
+     * Lu par pages successives, chacune dans sa propre transaction
+     */
+    @Override
+    public Stream<Student> streamAll() {
+        return CursorPage.walk(this::findPage, Student::getId, STREAM_PAGE);
+    }
+
+    private static List<Student> toModels(List<StudentEntity> page) {
+        return page.stream().map(StudentEntity::toModel).toList();
+    }
+}
@@ -0,0 +1,29 @@
+package com.ynov.testingmethodology.repository.jpa;
+
+import jakarta.persistence.MappedSuperclass;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Transient;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * Entité à id attribué par l'application : sans cet indicateur, chaque insertion serait
+ * précédée d'un SELECT (merge) et ne pourrait pas être regroupée en lot JDBC.
+ */
+@MappedSuperclass
+abstract class PersistableEntity implements Persistable<String> {
+
+    @Transient
+    private boolean isNew = true;
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        isNew = false;
+    }
+}
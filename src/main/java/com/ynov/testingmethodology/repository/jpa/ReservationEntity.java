@@ -0,0 +1,95 @@
+package com.ynov.testingmethodology.repository.jpa;
+
+import com.ynov.testingmethodology.model.Reservation;
+import com.ynov.testingmethodology.model.Student;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.JoinTable;
+import jakarta.persistence.ManyToMany;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OrderColumn;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Réservation en base. L'index (room_id, start_time) sert le calendrier d'une salle et la
+ * recherche de chevauchements ; la table de jointure est indexée dans les deux sens.
+ */
+@Entity
+@Table(name = "reservation", indexes = {
+        @Index(name = "idx_reservation_room_start", columnList = "room_id, start_time"),
+        @Index(name = "idx_reservation_start", columnList = "start_time, id")
+})
+class ReservationEntity extends PersistableEntity {
+
+    @Id
+    private String id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "room_id", nullable = false)
+    private RoomEntity room;
+
+    @ManyToMany(fetch = FetchType.LAZY)
+    @JoinTable(name = "reservation_student",
+            joinColumns = @JoinColumn(name = "reservation_id"),
+            inverseJoinColumns = @JoinColumn(name = "student_id"),
+            indexes = @Index(name = "idx_reservation_student_student", columnList = "student_id"))
+    @OrderColumn(name = "position")
+    private List<StudentEntity> students = new ArrayList<>();
+
+    @Column(name = "start_time", nullable = false)
+    private LocalDateTime startTime;
+
+    @Column(name = "end_time", nullable = false)
+    private LocalDateTime endTime;
+
+    // Vérifiée et incrémentée par chaque UPDATE (where version = ?) ; 0 pour les lignes antérieures
+    @Version
+    @Column(name = "version", columnDefinition = "bigint default 0 not null")
+    private long version;
+
+    protected ReservationEntity() {
+    }
+
+    ReservationEntity(String id) {
+        this.id = id;
+    }
+
+    /**
+     * Recopie la réservation ; la salle et les participants sont des références déjà résolues
+     */
+    void update(Reservation reservation, RoomEntity room, List<StudentEntity> students) {
+        this.room = room;
+        this.students.clear();
+        this.students.addAll(students);
+        this.startTime = reservation.getStartTime();
+        this.endTime = reservation.getEndTime();
+    }
+
+    @Override
+    public String getId() {
+        return id;
+    }
+
+    long getVersion() {
+        return version;
+    }
+
+    Reservation toModel() {
+        List<Student> participants = new ArrayList<>(students.size());
+        for (StudentEntity student : students) {
+            participants.add(student.toModel());
+        }
+        Reservation reservation = new Reservation(id, participants, room.toModel(), startTime, endTime);
+        reservation.setVersion(version);
+        return reservation;
+    }
+}
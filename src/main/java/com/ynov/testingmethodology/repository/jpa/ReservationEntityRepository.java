@@ -0,0 +1,71 @@
+package com.ynov.testingmethodology.repository.jpa;
+
+import com.ynov.testingmethodology.model.ReservationSummary;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Les participants sont chargés par lots (default_batch_fetch_size) et la salle par jointure,
+ * pour éviter une requête par réservation
+ */
+interface ReservationEntityRepository extends JpaRepository<ReservationEntity, String> {
+
+    @Query("select r from ReservationEntity r join fetch r.room order by r.startTime, r.id")
+    List<ReservationEntity> findAllSorted();
+
+    @Query("select r from ReservationEntity r join fetch r.room where r.room.id = :roomId order by r.startTime, r.id")
+    List<ReservationEntity> findByRoom(@Param("roomId") String roomId);
+
+    @Query("select r from ReservationEntity r join fetch r.room"
+            + " where exists (select 1 from ReservationEntity o join o.students s where o = r and s.id = :studentId)"
+            + " order by r.startTime, r.id")
+    List<ReservationEntity> findByStudent(@Param("studentId") String studentId);
+
+    @Query("select r from ReservationEntity r join fetch r.room where r.startTime > :date order by r.startTime, r.id")
+    List<ReservationEntity> findStartingAfter(@Param("date") LocalDateTime date);
+
+    @Query("select r from ReservationEntity r join fetch r.room where r.startTime < :date order by r.startTime, r.id")
+    List<ReservationEntity> findStartingBefore(@Param("date") LocalDateTime date);
+
+    @Query("select r from ReservationEntity r join fetch r.room"
+            + " where r.startTime >= :start and r.startTime < :end order by r.startTime, r.id")
+    List<ReservationEntity> findStartingBetween(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    /**
+     * Chevauchement évalué en base sur l'index (room_id, start_time)
+     */
+    @Query("select r from ReservationEntity r join fetch r.room"
+            + " where r.room.id = :roomId and r.startTime < :end and r.endTime > :start order by r.startTime, r.id")
+    List<ReservationEntity> findOverlapping(@Param("roomId") String roomId,
+                                            @Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    /**
+     * Projections lues directement en base : ni les entités ni les participants ne sont chargés
+     */
+    @Query("select new com.ynov.testingmethodology.model.ReservationSummary(r.id, r.room.id, r.startTime, r.endTime, size(r.students))"
+            + " from ReservationEntity r where r.room.id = :roomId order by r.startTime, r.id")
+    List<ReservationSummary> summarizeByRoom(@Param("roomId") String roomId);
+
+    @Query("select new com.ynov.testingmethodology.model.ReservationSummary(r.id, r.room.id, r.startTime, r.endTime, size(r.students))"
+            + " from ReservationEntity r"
+            + " where exists (select 1 from ReservationEntity o join o.students s where o = r and s.id = :studentId)"
+            + " order by r.startTime, r.id")
+    List<ReservationSummary> summarizeByStudent(@Param("studentId") String studentId);
+
+    @Query("select new com.ynov.testingmethodology.model.ReservationSummary(r.id, r.room.id, r.startTime, r.endTime, size(r.students))"
+            + " from ReservationEntity r where r.startTime >= :start and r.startTime < :end order by r.startTime, r.id")
+    List<ReservationSummary> summarizeStartingBetween(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    List<ReservationEntity> findByIdGreaterThanOrderByIdAsc(String afterId, Limit limit);
+
+    List<ReservationEntity> findAllByOrderByIdAsc(Limit limit);
+
+    @Query("select e.id from ReservationEntity e where e.id in :ids")
+    List<String> findExistingIds(@Param("ids") Collection<String> ids);
+}
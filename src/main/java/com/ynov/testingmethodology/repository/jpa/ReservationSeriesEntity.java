@@ -0,0 +1,92 @@
+package com.ynov.testingmethodology.repository.jpa;
+
+import com.ynov.testingmethodology.model.ReservationSeries;
+import com.ynov.testingmethodology.model.Student;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.JoinTable;
+import jakarta.persistence.ManyToMany;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OrderColumn;
+import jakarta.persistence.Table;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Règle d'une réservation récurrente en base ; les occurrences ne sont pas stockées
+ */
+@Entity
+@Table(name = "reservation_series", indexes = @Index(name = "idx_series_room", columnList = "room_id"))
+class ReservationSeriesEntity extends PersistableEntity {
+
+    @Id
+    private String id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "room_id", nullable = false)
+    private RoomEntity room;
+
+    @ManyToMany(fetch = FetchType.LAZY)
+    @JoinTable(name = "reservation_series_student",
+            joinColumns = @JoinColumn(name = "series_id"),
+            inverseJoinColumns = @JoinColumn(name = "student_id"),
+            indexes = @Index(name = "idx_series_student_student", columnList = "student_id"))
+    @OrderColumn(name = "position")
+    private List<StudentEntity> students = new ArrayList<>();
+
+    @Column(name = "first_date", nullable = false)
+    private LocalDate firstDate;
+
+    @Column(name = "last_date", nullable = false)
+    private LocalDate lastDate;
+
+    @Column(name = "start_time", nullable = false)
+    private LocalTime startTime;
+
+    @Column(name = "end_time", nullable = false)
+    private LocalTime endTime;
+
+    @Column(name = "interval_weeks", nullable = false)
+    private int intervalWeeks;
+
+    protected ReservationSeriesEntity() {
+    }
+
+    ReservationSeriesEntity(String id) {
+        this.id = id;
+    }
+
+    /**
+     * Recopie la série ; la salle et les participants sont des références déjà résolues
+     */
+    void update(ReservationSeries series, RoomEntity room, List<StudentEntity> students) {
+        this.room = room;
+        this.students.clear();
+        this.students.addAll(students);
+        this.firstDate = series.getFirstDate();
+        this.lastDate = series.getLastDate();
+        this.startTime = series.getStartTime();
+        this.endTime = series.getEndTime();
+        this.intervalWeeks = series.getIntervalWeeks();
+    }
+
+    @Override
+    public String getId() {
+        return id;
+    }
+
+    ReservationSeries toModel() {
+        List<Student> participants = new ArrayList<>(students.size());
+        for (StudentEntity student : students) {
+            participants.add(student.toModel());
+        }
+        return new ReservationSeries(id, participants, room.toModel(), firstDate, lastDate, startTime, endTime, intervalWeeks);
+    }
+}
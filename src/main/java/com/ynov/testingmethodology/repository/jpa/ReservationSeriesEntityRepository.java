@@ -0,0 +1,21 @@
+package com.ynov.testingmethodology.repository.jpa;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+interface ReservationSeriesEntityRepository extends JpaRepository<ReservationSeriesEntity, String> {
+
+    @Query("select s from ReservationSeriesEntity s join fetch s.room order by s.id")
+    List<ReservationSeriesEntity> findAllSorted();
+
+    @Query("select s from ReservationSeriesEntity s join fetch s.room where s.room.id = :roomId order by s.id")
+    List<ReservationSeriesEntity> findByRoom(@Param("roomId") String roomId);
+
+    @Query("select s from ReservationSeriesEntity s join fetch s.room"
+            + " where exists (select 1 from ReservationSeriesEntity o join o.students p where o = s and p.id = :studentId)"
+            + " order by s.id")
+    List<ReservationSeriesEntity> findByStudent(@Param("studentId") String studentId);
+}
@@ -0,0 +1,43 @@
+package com.ynov.testingmethodology.repository.jpa;
+
+import com.ynov.testingmethodology.model.Room;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+@Entity
+@Table(name = "room", indexes = @Index(name = "idx_room_capacity", columnList = "capacity, id"))
+class RoomEntity extends PersistableEntity {
+
+    @Id
+    private String id;
+
+    @Column(nullable = false)
+    private String name;
+
+    private Integer capacity;
+
+    protected RoomEntity() {
+    }
+
+    RoomEntity(Room room) {
+        this.id = room.getId();
+        update(room);
+    }
+
+    void update(Room room) {
+        this.name = room.getName();
+        this.capacity = room.getCapacity();
+    }
+
+    @Override
+    public String getId() {
+        return id;
+    }
+
+    Room toModel() {
+        return new Room(id, name, capacity);
+    }
+}
@@ -0,0 +1,43 @@
+package com.ynov.testingmethodology.repository.jpa;
+
+import com.ynov.testingmethodology.model.Student;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+@Entity
+@Table(name = "student")
+class StudentEntity extends PersistableEntity {
+
+    @Id
+    private String id;
+
+    @Column(name = "first_name", nullable = false)
+    private String firstName;
+
+    @Column(name = "last_name", nullable = false)
+    private String lastName;
+
+    protected StudentEntity() {
+    }
+
+    StudentEntity(Student student) {
+        this.id = student.getId();
+        update(student);
+    }
+
+    void update(Student student) {
+        this.firstName = student.getFirstName();
+        this.lastName = student.getLastName();
+    }
+
+    @Override
+    public String getId() {
+        return id;
+    }
+
+    Student toModel() {
+        return new Student(id, firstName, lastName);
+    }
+}
@@ -0,0 +1,28 @@
+package com.ynov.testingmethodology.repository.jpa;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+interface StudentEntityRepository extends JpaRepository<StudentEntity, String> {
+
+    List<StudentEntity> findByIdGreaterThanOrderByIdAsc(String afterId, Limit limit);
+
+    List<StudentEntity> findAllByOrderByIdAsc(Limit limit);
+
+    @Query("select e.id from StudentEntity e where e.id in :ids")
+    List<String> findExistingIds(@Param("ids") Collection<String> ids);
+
+    /**
+     * Verrouille les lignes en une requête (SELECT ... FOR UPDATE), dans l'ordre des ids
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select e from StudentEntity e where e.id in :ids order by e.id")
+    List<StudentEntity> lockAllById(@Param("ids") Collection<String> ids);
+}
@@ -0,0 +1,148 @@
+package com.ynov.testingmethodology.schedule;
+
+import com.ynov.testingmethodology.ids.EntityIds;
+import com.ynov.testingmethodology.ids.IdDictionary;
+import com.ynov.testingmethodology.model.Reservation;
+import com.ynov.testingmethodology.model.ReservationSeries;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Disponibilités des salles sous forme de bitmaps de créneaux par (salle, jour).
+ * Un test de conflit se résume à un masque et une comparaison.
+ */
+@Component
+public class RoomAvailability {
+
+    private final SlotOccupancy occupancy = new SlotOccupancy();
+    private final IdDictionary roomIds;
+
+    public RoomAvailability() {
+        this(new EntityIds());
+    }
+
+    @Autowired
+    public RoomAvailability(EntityIds ids) {
+        this.roomIds = ids.rooms();
+    }
+
+    /**
+     * Indique si la salle est libre sur [start, end[ (bornes alignées sur la grille)
+     */
+    public boolean isFree(String roomId, LocalDateTime start, LocalDateTime end) {
+        int room = roomIds.handleOf(roomId);
+        // Salle jamais rencontrée : rien n'y est réservé
+        return room == IdDictionary.ABSENT || occupancy.isFree(room, start.toLocalDate(), SlotGrid.mask(start, end), null);
+    }
+
+    /**
+     * Indique si la salle de la réservation est libre, sans compter la réservation elle-même
+     * (cas d'une mise à jour)
+     */
+    public boolean isFree(Reservation reservation) {
+        return isFree(reservation, reservation.getId());
+    }
+
+    /**
+     * Indique si la salle de la réservation est libre, en ignorant les créneaux posés par
+     * {@code ignoredReservationId} (null pour une création : rien n'est ignoré)
+     */
+    public boolean isFree(Reservation reservation, String ignoredReservationId) {
+        int room = roomIds.handleOf(reservation.getRoom().getId());
+        if (room == IdDictionary.ABSENT) {
+            return true;
+        }
+        LocalDateTime start = reservation.getStartTime();
+        return occupancy.isFree(room, start.toLocalDate(),
+                SlotGrid.mask(start, reservation.getEndTime()), ignoredReservationId);
+    }
+
+    /**
+     * Marque les créneaux de la réservation comme occupés (remplace ses créneaux précédents)
+     */
+    public void occupy(Reservation reservation) {
+        LocalDateTime start = reservation.getStartTime();
+        int room = roomIds.intern(reservation.getRoom().getId());
+        occupancy.claim(reservation.getId(), new int[]{room}, start.toLocalDate(),
+                SlotGrid.mask(start, reservation.getEndTime()));
+    }
+
+    /**
+     * Libère les créneaux d'une réservation
+     */
+    public void release(String reservationId) {
+        occupancy.release(reservationId);
+    }
+
+    /**
+     * Liste les plages libres d'une salle pour une journée (vide hors jours ouvrables)
+     */
+    public List<TimeSlot> getAvailabilities(String roomId, LocalDate date) {
+        List<TimeSlot> result = new ArrayList<>();
+        if (!SlotGrid.isWorkingDay(date)) {
+            return result;
+        }
+        int room = roomIds.handleOf(roomId);
+        long busy = room == IdDictionary.ABSENT ? 0L : occupancy.occupied(room, date);
+        long free = ~busy & SlotGrid.FULL_DAY;
+        while (free != 0) {
+            int from = Long.numberOfTrailingZeros(free);
+            int to = Long.numberOfTrailingZeros(~(free >>> from)) + from;
+            result.add(new TimeSlot(SlotGrid.slotStart(date, from), SlotGrid.slotStart(date, to)));
+            free &= ~(((1L << (to - from)) - 1) << from);
+        }
+        return result;
+    }
+
+    /**
+     * Marque les créneaux de toutes les occurrences d'une série pour la salle, sous un seul claim
+     * (remplace le précédent claim de la série)
+     */
+    public void occupy(ReservationSeries series) {
+        int[] owners = {roomIds.intern(series.getRoom().getId())};
+        LocalDateTime start = series.getFirstDate().atTime(series.getStartTime());
+        long mask = SlotGrid.mask(start, series.getFirstDate().atTime(series.getEndTime()));
+        occupancy.claim(SlotOccupancy.seriesKey(series.getId()), owners,
+                series.dates().mapToInt(date -> (int) date.toEpochDay()).toArray(), mask);
+    }
+
+    /**
+     * Libère les créneaux de toutes les occurrences d'une série
+     */
+    public void release(ReservationSeries series) {
+        occupancy.release(SlotOccupancy.seriesKey(series.getId()));
+    }
+
+    /**
+     * Reconstruit les bitmaps à partir d'un ensemble de réservations
+     */
+    public void rebuild(Collection<Reservation> reservations) {
+        rebuild(reservations, List.of());
+    }
+
+    /**
+     * Reconstruit les bitmaps à partir des réservations ponctuelles et des séries
+     */
+    public void rebuild(Collection<Reservation> reservations, Collection<ReservationSeries> series) {
+        occupancy.clear();
+        for (Reservation reservation : reservations) {
+            occupy(reservation);
+        }
+        for (ReservationSeries s : series) {
+            occupy(s);
+        }
+    }
+
+    /**
+     * Nombre de réservations indexées, une série comptant pour une
+     */
+    public int size() {
+        return occupancy.size();
+    }
+}
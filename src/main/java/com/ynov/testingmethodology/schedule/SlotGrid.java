@@ -0,0 +1,71 @@
+package com.ynov.testingmethodology.schedule;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * Grille horaire du cahier des charges : de 08h00 à 20h00, jours ouvrables,
+ * par créneaux de 30 minutes. Une journée compte 24 créneaux, soit un bit chacun dans un long.
+ */
+public final class SlotGrid {
+
+    public static final LocalTime OPENING = LocalTime.of(8, 0);
+    public static final LocalTime CLOSING = LocalTime.of(20, 0);
+    public static final int SLOT_MINUTES = 30;
+    public static final int SLOTS_PER_DAY = (CLOSING.toSecondOfDay() - OPENING.toSecondOfDay()) / (SLOT_MINUTES * 60);
+    public static final long FULL_DAY = (1L << SLOTS_PER_DAY) - 1;
+
+    private SlotGrid() {
+    }
+
+    /**
+     * Indique si la date est un jour ouvrable (lundi à vendredi)
+     */
+    public static boolean isWorkingDay(LocalDate date) {
+        DayOfWeek day = date.getDayOfWeek();
+        return day != DayOfWeek.SATURDAY && day != DayOfWeek.SUNDAY;
+    }
+
+    /**
+     * Indique si l'heure tombe exactement sur une limite de créneau
+     */
+    public static boolean isAligned(LocalDateTime time) {
+        return time.getMinute() % SLOT_MINUTES == 0 && time.getSecond() == 0 && time.getNano() == 0;
+    }
+
+    /**
+     * Indique si [start, end[ tient dans une seule journée, entre l'ouverture et la fermeture
+     */
+    public static boolean isWithinOpeningHours(LocalDateTime start, LocalDateTime end) {
+        if (start.toLocalDate().equals(end.toLocalDate())) {
+            return !start.toLocalTime().isBefore(OPENING) && !end.toLocalTime().isAfter(CLOSING);
+        }
+        // Une fin à minuit n'est jamais dans les horaires d'ouverture
+        return false;
+    }
+
+    /**
+     * Index du créneau commençant à l'heure donnée (0 pour 08h00)
+     */
+    public static int slotIndex(LocalTime time) {
+        return (time.toSecondOfDay() - OPENING.toSecondOfDay()) / (SLOT_MINUTES * 60);
+    }
+
+    /**
+     * Masque des créneaux couverts par [start, end[, supposé valide sur la grille
+     */
+    public static long mask(LocalDateTime start, LocalDateTime end) {
+        int from = slotIndex(start.toLocalTime());
+        int to = slotIndex(end.toLocalTime());
+        return ((1L << (to - from)) - 1) << from;
+    }
+
+    /**
+     * Début du créneau d'index donné
+     */
+    public static LocalDateTime slotStart(LocalDate date, int slot) {
+        return date.atTime(OPENING).plusMinutes((long) slot * SLOT_MINUTES);
+    }
+}
@@ -0,0 +1,177 @@
+package com.ynov.testingmethodology.schedule;
+
+import com.ynov.testingmethodology.ids.HandleTable;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bitmaps d'occupation par propriétaire (salle, étudiant...) et par jour, un bit par créneau.
+ * Les propriétaires sont désignés par leur handle de dictionnaire et leurs jours par un indice
+ * de tableau : une sonde ne fait aucun calcul de hachage.
+ * Chaque réservation enregistrée garde la trace des bits qu'elle a posés ("claim"),
+ * ce qui permet de la retirer sans relire ses anciennes bornes. Une série pose un seul claim
+ * pour toutes ses occurrences (mêmes propriétaires, même masque, plusieurs jours).
+ */
+final class SlotOccupancy {
+
+    // Jours triés par ordre croissant
+    private record Claim(int[] owners, int[] epochDays, long mask) {
+        boolean covers(int owner, int day) {
+            if (Arrays.binarySearch(epochDays, day) < 0) {
+                return false;
+            }
+            for (int candidate : owners) {
+                if (candidate == owner) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Bitmaps d'un propriétaire sur une plage de jours contiguë, élargie au besoin.
+     * Les écritures se font sous le moniteur du propriétaire, les lectures sans verrou.
+     */
+    private static final class OwnerDays {
+        private record Days(int firstDay, AtomicLongArray bits) {
+        }
+
+        private volatile Days days;
+
+        long get(int epochDay) {
+            Days current = days;
+            if (current == null) {
+                return 0L;
+            }
+            int index = epochDay - current.firstDay();
+            return index < 0 || index >= current.bits().length() ? 0L : current.bits().get(index);
+        }
+
+        synchronized void or(int epochDay, long mask) {
+            Days current = ensureCovers(epochDay);
+            int index = epochDay - current.firstDay();
+            current.bits().set(index, current.bits().get(index) | mask);
+        }
+
+        synchronized void andNot(int epochDay, long mask) {
+            Days current = days;
+            int index = current == null ? -1 : epochDay - current.firstDay();
+            if (index >= 0 && index < current.bits().length()) {
+                current.bits().set(index, current.bits().get(index) & ~mask);
+            }
+        }
+
+        private Days ensureCovers(int epochDay) {
+            Days current = days;
+            if (current == null) {
+                current = new Days(epochDay, new AtomicLongArray(64));
+            } else if (epochDay < current.firstDay() || epochDay >= current.firstDay() + current.bits().length()) {
+                int first = Math.min(current.firstDay(), epochDay);
+                int last = Math.max(current.firstDay() + current.bits().length(), epochDay + 1);
+                // Double la plage pour amortir les extensions successives
+                int length = Math.max(last - first, current.bits().length() * 2);
+                if (epochDay < current.firstDay()) {
+                    first = last - length;
+                }
+                AtomicLongArray grown = new AtomicLongArray(length);
+                for (int i = 0; i < current.bits().length(); i++) {
+                    grown.set(current.firstDay() - first + i, current.bits().get(i));
+                }
+                current = new Days(first, grown);
+            } else {
+                return current;
+            }
+            days = current;
+            return current;
+        }
+    }
+
+    private final HandleTable<OwnerDays> bitmaps = new HandleTable<>();
+    private final ConcurrentHashMap<String, Claim> claims = new ConcurrentHashMap<>();
+
+    /**
+     * Créneaux occupés d'un propriétaire pour un jour donné
+     */
+    long occupied(int owner, LocalDate date) {
+        OwnerDays days = bitmaps.get(owner);
+        return days == null ? 0L : days.get((int) date.toEpochDay());
+    }
+
+    /**
+     * Indique si aucun des créneaux du masque n'est occupé, en ignorant ceux posés
+     * par la réservation {@code ignoredReservationId} (cas d'une mise à jour)
+     */
+    boolean isFree(int owner, LocalDate date, long mask, String ignoredReservationId) {
+        long busy = occupied(owner, date);
+        if ((busy & mask) == 0) {
+            return true;
+        }
+        if (ignoredReservationId != null) {
+            Claim own = claims.get(ignoredReservationId);
+            if (own != null && own.covers(owner, (int) date.toEpochDay())) {
+                busy &= ~own.mask();
+            }
+        }
+        return (busy & mask) == 0;
+    }
+
+    /**
+     * Clé du claim d'une série : les ids de réservation ne contiennent pas '#', et ceux
+     * des occurrences ("idSérie#date") ont une date après le séparateur
+     */
+    static String seriesKey(String seriesId) {
+        return seriesId + "#";
+    }
+
+    /**
+     * Pose les bits de la réservation pour chacun des propriétaires (remplace son éventuel claim précédent)
+     */
+    void claim(String reservationId, int[] owners, LocalDate date, long mask) {
+        claim(reservationId, owners, new int[]{(int) date.toEpochDay()}, mask);
+    }
+
+    /**
+     * Pose le même masque sur plusieurs jours (jours triés par ordre croissant)
+     */
+    void claim(String reservationId, int[] owners, int[] epochDays, long mask) {
+        release(reservationId);
+        for (int owner : owners) {
+            OwnerDays days = bitmaps.computeIfAbsent(owner, OwnerDays::new);
+            for (int epochDay : epochDays) {
+                days.or(epochDay, mask);
+            }
+        }
+        claims.put(reservationId, new Claim(owners, epochDays, mask));
+    }
+
+    /**
+     * Libère les bits posés par la réservation
+     */
+    void release(String reservationId) {
+        Claim claim = claims.remove(reservationId);
+        if (claim == null) {
+            return;
+        }
+        for (int owner : claim.owners()) {
+            OwnerDays days = bitmaps.get(owner);
+            if (days != null) {
+                for (int epochDay : claim.epochDays()) {
+                    days.andNot(epochDay, claim.mask());
+                }
+            }
+        }
+    }
+
+    int size() {
+        return claims.size();
+    }
+
+    void clear() {
+        claims.clear();
+        bitmaps.clear();
+    }
+}
@@ -0,0 +1,141 @@
+package com.ynov.testingmethodology.schedule;
+
+import com.ynov.testingmethodology.ids.EntityIds;
+import com.ynov.testingmethodology.ids.IdDictionary;
+import com.ynov.testingmethodology.model.Reservation;
+import com.ynov.testingmethodology.model.ReservationSeries;
+import com.ynov.testingmethodology.model.Student;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Emploi du temps des étudiants sous forme de bitmaps de créneaux par (étudiant, jour).
+ * Vérifier qu'un groupe est disponible coûte une sonde par étudiant, quel que soit
+ * le nombre de réservations qu'il possède déjà.
+ */
+@Component
+public class StudentSchedule {
+
+    private final SlotOccupancy occupancy = new SlotOccupancy();
+    private final IdDictionary studentIds;
+
+    public StudentSchedule() {
+        this(new EntityIds());
+    }
+
+    @Autowired
+    public StudentSchedule(EntityIds ids) {
+        this.studentIds = ids.students();
+    }
+
+    /**
+     * Indique si l'étudiant est libre sur [start, end[ (bornes alignées sur la grille)
+     */
+    public boolean isFree(String studentId, LocalDateTime start, LocalDateTime end) {
+        int student = studentIds.handleOf(studentId);
+        return student == IdDictionary.ABSENT || occupancy.isFree(student, start.toLocalDate(), SlotGrid.mask(start, end), null);
+    }
+
+    /**
+     * Identifiants des participants déjà occupés sur le créneau de la réservation,
+     * sans compter la réservation elle-même (cas d'une mise à jour)
+     */
+    public List<String> getConflictingStudents(Reservation reservation) {
+        return getConflictingStudents(reservation, reservation.getId());
+    }
+
+    /**
+     * Identifiants des participants déjà occupés sur le créneau de la réservation, en ignorant
+     * les créneaux posés par {@code ignoredReservationId} (null pour une création)
+     */
+    public List<String> getConflictingStudents(Reservation reservation, String ignoredReservationId) {
+        LocalDateTime start = reservation.getStartTime();
+        LocalDate date = start.toLocalDate();
+        long mask = SlotGrid.mask(start, reservation.getEndTime());
+        List<String> conflicts = new ArrayList<>();
+        for (Student student : reservation.getStudents()) {
+            int handle = studentIds.handleOf(student.getId());
+            if (handle != IdDictionary.ABSENT && !occupancy.isFree(handle, date, mask, ignoredReservationId)) {
+                conflicts.add(student.getId());
+            }
+        }
+        return conflicts;
+    }
+
+    /**
+     * Marque les créneaux de la réservation comme occupés pour chacun de ses participants
+     */
+    public void occupy(Reservation reservation) {
+        List<Student> students = reservation.getStudents();
+        int[] handles = new int[students.size()];
+        for (int i = 0; i < handles.length; i++) {
+            handles[i] = studentIds.intern(students.get(i).getId());
+        }
+        LocalDateTime start = reservation.getStartTime();
+        occupancy.claim(reservation.getId(), handles, start.toLocalDate(),
+                SlotGrid.mask(start, reservation.getEndTime()));
+    }
+
+    /**
+     * Libère les créneaux d'une réservation pour tous ses participants
+     */
+    public void release(String reservationId) {
+        occupancy.release(reservationId);
+    }
+
+    /**
+     * Marque les créneaux de toutes les occurrences d'une série pour chacun des participants, sous un seul claim
+     * (remplace le précédent claim de la série)
+     */
+    public void occupy(ReservationSeries series) {
+        List<Student> students = series.getStudents();
+        int[] owners = new int[students.size()];
+        for (int i = 0; i < owners.length; i++) {
+            owners[i] = studentIds.intern(students.get(i).getId());
+        }
+        LocalDateTime start = series.getFirstDate().atTime(series.getStartTime());
+        long mask = SlotGrid.mask(start, series.getFirstDate().atTime(series.getEndTime()));
+        occupancy.claim(SlotOccupancy.seriesKey(series.getId()), owners,
+                series.dates().mapToInt(date -> (int) date.toEpochDay()).toArray(), mask);
+    }
+
+    /**
+     * Libère les créneaux de toutes les occurrences d'une série
+     */
+    public void release(ReservationSeries series) {
+        occupancy.release(SlotOccupancy.seriesKey(series.getId()));
+    }
+
+    /**
+     * Reconstruit les bitmaps à partir d'un ensemble de réservations
+     */
+    public void rebuild(Collection<Reservation> reservations) {
+        rebuild(reservations, List.of());
+    }
+
+    /**
+     * Reconstruit les bitmaps à partir des réservations ponctuelles et des séries
+     */
+    public void rebuild(Collection<Reservation> reservations, Collection<ReservationSeries> series) {
+        occupancy.clear();
+        for (Reservation reservation : reservations) {
+            occupy(reservation);
+        }
+        for (ReservationSeries s : series) {
+            occupy(s);
+        }
+    }
+
+    /**
+     * Nombre de réservations indexées, une série comptant pour une
+     */
+    public int size() {
+        return occupancy.size();
+    }
+}
@@ -0,0 +1,9 @@
+package com.ynov.testingmethodology.schedule;
+
+import java.time.LocalDateTime;
+
+/**
+ * Plage horaire [start, end[
+ */
+public record TimeSlot(LocalDateTime start, LocalDateTime end) {
+}
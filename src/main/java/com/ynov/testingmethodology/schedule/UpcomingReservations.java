@@ -0,0 +1,174 @@
+package com.ynov.testingmethodology.schedule;
+
+import com.ynov.testingmethodology.model.Reservation;
+import com.ynov.testingmethodology.model.ReservationSummary;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Partition « à venir » des réservations : seules celles qui commencent strictement après
+ * le dernier instant observé y sont gardées, triées par début puis par id.
+ * La partition avance avec le temps (à chaque lecture et via un tic périodique) en retirant
+ * les réservations commencées ; les réservations passées restent servies par le dépôt.
+ * Les lectures rendent des vues non modifiables sur les index triés, maintenus à chaque écriture :
+ * aucune copie n'est faite, quelle que soit la fréquence des réservations.
+ */
+public class UpcomingReservations implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(UpcomingReservations.class);
+
+    private record Key(LocalDateTime start, String id) {
+    }
+
+    private static final Comparator<Key> ORDER = Comparator.comparing(Key::start).thenComparing(Key::id);
+
+    // Écrits sous le moniteur, lus sans verrou au travers des vues
+    private final ConcurrentSkipListMap<Key, Reservation> byStart = new ConcurrentSkipListMap<>(ORDER);
+    private final ConcurrentSkipListMap<Key, ReservationSummary> summaries = new ConcurrentSkipListMap<>(ORDER);
+    private final Collection<Reservation> view = Collections.unmodifiableCollection(byStart.values());
+    private final Collection<ReservationSummary> summaryView = Collections.unmodifiableCollection(summaries.values());
+    private final Map<String, Key> keys = new HashMap<>();
+    private volatile boolean seeded;
+    private LocalDateTime watermark;
+    private ScheduledExecutorService ticker;
+
+    /**
+     * Réservations qui commencent après {@code now}, triées par début ; la partition est
+     * chargée au premier appel via {@code seed} (réservations commençant après la date donnée).
+     * La vue suit les écritures suivantes, son parcours est faiblement cohérent.
+     */
+    public Collection<Reservation> upcoming(LocalDateTime now, Function<LocalDateTime, List<Reservation>> seed) {
+        refresh(now, seed);
+        return view;
+    }
+
+    /**
+     * Vues allégées des réservations à venir, voir {@link #upcoming(LocalDateTime, Function)}
+     */
+    public Collection<ReservationSummary> upcomingSummaries(LocalDateTime now, Function<LocalDateTime, List<Reservation>> seed) {
+        refresh(now, seed);
+        return summaryView;
+    }
+
+    /**
+     * Retire de la partition les réservations qui commencent au plus tard à {@code now}
+     */
+    public synchronized void advance(LocalDateTime now) {
+        if (!seeded || !now.isAfter(watermark)) {
+            return;
+        }
+        watermark = now;
+        while (!byStart.isEmpty() && !byStart.firstKey().start().isAfter(now)) {
+            Map.Entry<Key, Reservation> first = byStart.pollFirstEntry();
+            summaries.remove(first.getKey());
+            keys.remove(first.getValue().getId());
+        }
+    }
+
+    /**
+     * Enregistre une réservation créée ou modifiée
+     */
+    public synchronized void add(Reservation reservation) {
+        if (!seeded) {
+            // Sera lue dans le dépôt au premier chargement
+            return;
+        }
+        remove(reservation.getId());
+        if (reservation.getStartTime().isAfter(watermark)) {
+            put(reservation);
+        }
+    }
+
+    public synchronized void remove(String reservationId) {
+        Key key = keys.remove(reservationId);
+        if (key != null) {
+            byStart.remove(key);
+            summaries.remove(key);
+        }
+    }
+
+    public synchronized int size() {
+        return byStart.size();
+    }
+
+    /**
+     * Vide la partition : elle sera rechargée depuis le dépôt à la prochaine lecture
+     */
+    public synchronized void invalidate() {
+        byStart.clear();
+        summaries.clear();
+        keys.clear();
+        seeded = false;
+    }
+
+    /**
+     * Démarre le tic qui fait avancer la partition toutes les {@code period}
+     */
+    public synchronized void start(Duration period) {
+        if (ticker != null) {
+            throw new IllegalStateException("Upcoming ticker already started");
+        }
+        ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "upcoming-reservations-ticker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleAtFixedRate(() -> {
+            try {
+                advance(LocalDateTime.now());
+            } catch (RuntimeException e) {
+                log.warn("Upcoming reservations tick failed", e);
+            }
+        }, period.toMillis(), period.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public synchronized void close() {
+        if (ticker != null) {
+            ticker.shutdownNow();
+            ticker = null;
+        }
+    }
+
+    /**
+     * Charge la partition au premier appel, puis la fait avancer si sa première réservation a commencé
+     */
+    private void refresh(LocalDateTime now, Function<LocalDateTime, List<Reservation>> seed) {
+        // Lecture sans verrou : la première clé suffit à savoir si la partition doit avancer
+        if (seeded) {
+            Map.Entry<Key, Reservation> first = byStart.firstEntry();
+            if (first == null || first.getKey().start().isAfter(now)) {
+                return;
+            }
+        }
+        synchronized (this) {
+            if (!seeded) {
+                seed.apply(now).forEach(this::put);
+                seeded = true;
+                watermark = now;
+            }
+            advance(now);
+        }
+    }
+
+    private void put(Reservation reservation) {
+        Key key = new Key(reservation.getStartTime(), reservation.getId());
+        keys.put(reservation.getId(), key);
+        byStart.put(key, reservation);
+        summaries.put(key, ReservationSummary.of(reservation));
+    }
+}
@@ -0,0 +1,277 @@
+package com.ynov.testingmethodology.service;
+
+import com.ynov.testingmethodology.model.Reservation;
+import com.ynov.testingmethodology.model.ReservationSeries;
+import com.ynov.testingmethodology.model.ReservationSummary;
+import com.ynov.testingmethodology.model.Room;
+import com.ynov.testingmethodology.model.Student;
+import com.ynov.testingmethodology.repository.CursorPage;
+import com.ynov.testingmethodology.schedule.TimeSlot;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+/**
+ * Variantes asynchrones des services de réservation : chaque appel est exécuté sur l'exécuteur
+ * du service et retourne un {@link CompletableFuture}, ce qui permet d'enchaîner ou de paralléliser
+ * des lectures indépendantes au lieu de les attendre une à une.
+ * Un refus du service synchrone complète le futur en erreur avec la même exception.
+ *
+ * <ul>
+ *     <li>{@code booking.async.threads} : 0 (par défaut) pour un thread virtuel par appel,
+ *     sinon taille d'un pool fixe de threads</li>
+ * </ul>
+ */
+@Service
+public class AsyncBookingService implements AutoCloseable {
+
+    private final ReservationService reservationService;
+    private final RoomService roomService;
+    private final StudentService studentService;
+    private final ExecutorService executor;
+
+    @Autowired
+    public AsyncBookingService(ReservationService reservationService, RoomService roomService, StudentService studentService,
+                               @Value("${booking.async.threads:0}") int threads) {
+        this(reservationService, roomService, studentService, executor(threads));
+    }
+
+    /**
+     * Service exécuté sur {@code executor}, qui est arrêté par {@link #close()}
+     */
+    public AsyncBookingService(ReservationService reservationService, RoomService roomService, StudentService studentService,
+                               ExecutorService executor) {
+        this.reservationService = reservationService;
+        this.roomService = roomService;
+        this.studentService = studentService;
+        this.executor = executor;
+    }
+
+    private static ExecutorService executor(int threads) {
+        if (threads < 0) {
+            throw new IllegalArgumentException("Async thread count must not be negative");
+        }
+        return threads == 0
+                ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("booking-async-", 0).factory())
+                : Executors.newFixedThreadPool(threads, Thread.ofPlatform().name("booking-async-", 0).daemon().factory());
+    }
+
+    // Réservations
+
+    public CompletableFuture<Reservation> createReservation(Reservation reservation) {
+        return async(() -> reservationService.createReservation(reservation));
+    }
+
+    public CompletableFuture<List<Reservation>> createReservations(List<Reservation> reservations) {
+        return async(() -> reservationService.createReservations(reservations));
+    }
+
+    public CompletableFuture<Reservation> updateReservation(Reservation reservation) {
+        return async(() -> reservationService.updateReservation(reservation));
+    }
+
+    public CompletableFuture<Void> deleteReservation(String reservationId) {
+        return run(() -> reservationService.deleteReservation(reservationId));
+    }
+
+    public CompletableFuture<List<Reservation>> getAllReservations() {
+        return async(reservationService::getAllReservations);
+    }
+
+    public CompletableFuture<CursorPage<Reservation>> getReservationsPage(String cursor, int limit) {
+        return async(() -> reservationService.getReservationsPage(cursor, limit));
+    }
+
+    public CompletableFuture<List<Reservation>> getReservationsByStudent(String studentId) {
+        return async(() -> reservationService.getReservationsByStudent(studentId));
+    }
+
+    public CompletableFuture<List<Reservation>> getReservationsByRoom(String roomId) {
+        return async(() -> reservationService.getReservationsByRoom(roomId));
+    }
+
+    public CompletableFuture<List<ReservationSummary>> getRoomCalendar(String roomId) {
+        return async(() -> reservationService.getRoomCalendar(roomId));
+    }
+
+    public CompletableFuture<List<ReservationSummary>> getStudentCalendar(String studentId) {
+        return async(() -> reservationService.getStudentCalendar(studentId));
+    }
+
+    public CompletableFuture<Integer> removeStudentFromReservations(String studentId) {
+        return async(() -> reservationService.removeStudentFromReservations(studentId));
+    }
+
+    public CompletableFuture<Integer> cancelRoomReservations(String roomId) {
+        return async(() -> reservationService.cancelRoomReservations(roomId));
+    }
+
+    public CompletableFuture<ReservationSeries> createSeries(ReservationSeries series) {
+        return async(() -> reservationService.createSeries(series));
+    }
+
+    public CompletableFuture<Void> deleteSeries(String seriesId) {
+        return run(() -> reservationService.deleteSeries(seriesId));
+    }
+
+    public CompletableFuture<Collection<Reservation>> getUpcomingReservations() {
+        return async(reservationService::getUpcomingReservations);
+    }
+
+    public CompletableFuture<Collection<ReservationSummary>> getUpcomingSummaries() {
+        return async(reservationService::getUpcomingSummaries);
+    }
+
+    public CompletableFuture<List<Reservation>> getPastReservations() {
+        return async(reservationService::getPastReservations);
+    }
+
+    public CompletableFuture<Collection<Reservation>> getReservationsBetween(LocalDateTime start, LocalDateTime end) {
+        return async(() -> reservationService.getReservationsBetween(start, end));
+    }
+
+    public CompletableFuture<List<ReservationSummary>> getSummariesBetween(LocalDateTime start, LocalDateTime end) {
+        return async(() -> reservationService.getSummariesBetween(start, end));
+    }
+
+    // Salles
+
+    public CompletableFuture<Room> addRoom(Room room) {
+        return async(() -> roomService.addRoom(room));
+    }
+
+    public CompletableFuture<Void> deleteRoom(String id) {
+        return run(() -> roomService.deleteRoom(id));
+    }
+
+    public CompletableFuture<Optional<Room>> getRoomById(String id) {
+        return async(() -> roomService.getRoomById(id));
+    }
+
+    public CompletableFuture<List<Room>> getAllRooms() {
+        return async(roomService::getAllRooms);
+    }
+
+    public CompletableFuture<CursorPage<Room>> getRoomsPage(String cursor, int limit) {
+        return async(() -> roomService.getRoomsPage(cursor, limit));
+    }
+
+    public CompletableFuture<List<TimeSlot>> getAvailabilities(String id, LocalDate date) {
+        return async(() -> roomService.getAvailabilities(id, date));
+    }
+
+    public CompletableFuture<List<Room>> findAvailableRooms(int minCapacity, LocalDateTime start, LocalDateTime end) {
+        return async(() -> roomService.findAvailableRooms(minCapacity, start, end));
+    }
+
+    // Étudiants
+
+    public CompletableFuture<Student> registerStudent(Student student) {
+        return async(() -> studentService.registerStudent(student));
+    }
+
+    public CompletableFuture<Void> deleteStudent(String id) {
+        return run(() -> studentService.deleteStudent(id));
+    }
+
+    public CompletableFuture<List<Student>> getAllStudents() {
+        return async(studentService::getAllStudents);
+    }
+
+    public CompletableFuture<CursorPage<Student>> getStudentsPage(String cursor, int limit) {
+        return async(() -> studentService.getStudentsPage(cursor, limit));
+    }
+
+    public CompletableFuture<Optional<Student>> getStudentById(String id) {
+        return async(() -> studentService.getStudentById(id));
+    }
+
+    // Enchaînements courants
+
+    /**
+     * Cherche les étudiants en parallèle ; le résultat garde l'ordre des ids.
+     * Un étudiant inconnu complète le futur avec une {@link IllegalArgumentException}
+     */
+    public CompletableFuture<List<Student>> getStudentsByIds(List<String> studentIds) {
+        if (studentIds == null) {
+            return CompletableFuture.failedFuture(new IllegalArgumentException("Student ids are required"));
+        }
+        List<CompletableFuture<Student>> lookups = new ArrayList<>(studentIds.size());
+        for (String id : studentIds) {
+            lookups.add(getStudentById(id).thenApply(found -> found.orElseThrow(
+                    () -> new IllegalArgumentException("Student does not exists with id :" + id))));
+        }
+        return allOf(lookups);
+    }
+
+    /**
+     * Réserve une salle pour des étudiants désignés par leurs ids : la salle et les étudiants
+     * sont cherchés en parallèle, puis la réservation est créée
+     */
+    public CompletableFuture<Reservation> book(String reservationId, String roomId, List<String> studentIds,
+                                               LocalDateTime start, LocalDateTime end) {
+        CompletableFuture<Room> room = getRoomById(roomId).thenApply(found -> found.orElseThrow(
+                () -> new IllegalArgumentException("Room does not exists with id :" + roomId)));
+        return room.thenCombine(getStudentsByIds(studentIds),
+                        (r, students) -> new Reservation(reservationId, new ArrayList<>(students), r, start, end))
+                .thenCompose(this::createReservation);
+    }
+
+    /**
+     * Réserve la plus petite salle libre assez grande pour le groupe : la recherche de salles
+     * et celle des étudiants sont menées en parallèle
+     */
+    public CompletableFuture<Reservation> bookFirstAvailableRoom(String reservationId, List<String> studentIds,
+                                                                 LocalDateTime start, LocalDateTime end) {
+        CompletableFuture<List<Student>> students = getStudentsByIds(studentIds);
+        CompletableFuture<Room> room = findAvailableRooms(Math.max(studentIds == null ? 0 : studentIds.size(), 1), start, end)
+                .thenApply(rooms -> rooms.stream().findFirst().orElseThrow(
+                        () -> new IllegalArgumentException("No room available between " + start + " and " + end)));
+        return room.thenCombine(students,
+                        (r, group) -> new Reservation(reservationId, new ArrayList<>(group), r, start, end))
+                .thenCompose(this::createReservation);
+    }
+
+    /**
+     * Attend tous les futurs et retourne leurs résultats dans le même ordre ;
+     * échoue dès que l'un d'eux échoue
+     */
+    public static <T> CompletableFuture<List<T>> allOf(List<CompletableFuture<T>> futures) {
+        CompletableFuture<List<T>> result = CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> futures.stream().map(CompletableFuture::join).toList());
+        // Sans attendre les autres lorsqu'une recherche a déjà échoué
+        futures.forEach(future -> future.whenComplete((value, failure) -> {
+            if (failure != null) {
+                result.completeExceptionally(failure);
+            }
+        }));
+        return result;
+    }
+
+    /**
+     * Arrête l'exécuteur ; les appels déjà lancés se terminent
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+
+    private <T> CompletableFuture<T> async(Supplier<T> call) {
+        return CompletableFuture.supplyAsync(call, executor);
+    }
+
+    private CompletableFuture<Void> run(Runnable call) {
+        return CompletableFuture.runAsync(call, executor);
+    }
+}
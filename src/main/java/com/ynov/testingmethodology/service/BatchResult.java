@@ -0,0 +1,76 @@
+package com.ynov.testingmethodology.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+/**
+ * Résultat d'un enregistrement par lot, où chaque élément est accepté ou refusé séparément
+ *
+ * @param saved    éléments enregistrés, dans l'ordre du lot
+ * @param rejected raison du refus de chaque élément écarté, par position dans le lot
+ */
+public record BatchResult<T>(List<T> saved, SortedMap<Integer, String> rejected) {
+
+    static <T> BatchResult<T> of(List<T> saved, String[] errors) {
+        TreeMap<Integer, String> rejected = new TreeMap<>();
+        for (int i = 0; i < errors.length; i++) {
+            if (errors[i] != null) {
+                rejected.put(i, errors[i]);
+            }
+        }
+        return new BatchResult<>(List.copyOf(saved), Collections.unmodifiableSortedMap(rejected));
+    }
+
+    /**
+     * Premier tri d'un lot : les règles de validation sont vérifiées en parallèle, puis les ids
+     * répétés dans le lot ou déjà enregistrés (cherchés en un seul appel) sont écartés.
+     *
+     * @return la raison du refus de chaque élément, null pour ceux qui sont retenus
+     */
+    static <T> String[] screen(List<T> items, Consumer<T> validator, Function<T, String> idOf,
+                               Function<Collection<String>, Set<String>> existing, String label) {
+        String[] errors = new String[items.size()];
+        IntStream.range(0, items.size()).parallel().forEach(i -> {
+            try {
+                validator.accept(items.get(i));
+            } catch (IllegalArgumentException e) {
+                errors[i] = e.getMessage();
+            }
+        });
+        Set<String> ids = new HashSet<>();
+        for (int i = 0; i < items.size(); i++) {
+            if (errors[i] == null && !ids.add(idOf.apply(items.get(i)))) {
+                errors[i] = "Duplicate id " + idOf.apply(items.get(i)) + " in batch";
+            }
+        }
+        Set<String> known = ids.isEmpty() ? Set.of() : existing.apply(ids);
+        for (int i = 0; i < items.size(); i++) {
+            if (errors[i] == null && known.contains(idOf.apply(items.get(i)))) {
+                errors[i] = label + " already exists with id " + idOf.apply(items.get(i));
+            }
+        }
+        return errors;
+    }
+
+    /**
+     * Éléments retenus par {@link #screen}, dans l'ordre du lot
+     */
+    static <T> List<T> accepted(List<T> items, String[] errors) {
+        List<T> accepted = new ArrayList<>();
+        for (int i = 0; i < items.size(); i++) {
+            if (errors[i] == null) {
+                accepted.add(items.get(i));
+            }
+        }
+        return accepted;
+    }
+}
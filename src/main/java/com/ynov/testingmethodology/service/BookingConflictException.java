@@ -0,0 +1,34 @@
+package com.ynov.testingmethodology.service;
+
+/**
+ * Réservation refusée parce que la salle ou un participant est déjà pris sur le créneau.
+ * Reste une {@link IllegalArgumentException} pour les appelants existants.
+ */
+public class BookingConflictException extends IllegalArgumentException {
+
+    public enum Kind {
+        ROOM("Room"),
+        STUDENT("Student");
+
+        private final String label;
+
+        Kind(String label) {
+            this.label = label;
+        }
+
+        public String label() {
+            return label;
+        }
+    }
+
+    private final Kind kind;
+
+    public BookingConflictException(Kind kind, String message) {
+        super(message);
+        this.kind = kind;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+}
@@ -1,39 +1,218 @@
 package com.ynov.testingmethodology.service;
 
+import com.ynov.testingmethodology.concurrent.StripedLocks;
+import com.ynov.testingmethodology.metrics.BookingMetrics;
 import com.ynov.testingmethodology.model.Reservation;
+import com.ynov.testingmethodology.model.ReservationSeries;
+import com.ynov.testingmethodology.model.ReservationSummary;
+import com.ynov.testingmethodology.model.Student;
+import com.ynov.testingmethodology.repository.CursorPage;
 import com.ynov.testingmethodology.repository.ReservationRepository;
+import com.ynov.testingmethodology.repository.ReservationSeriesRepository;
+import com.ynov.testingmethodology.repository.RoomRepository;
+import com.ynov.testingmethodology.repository.StaleReservationException;
+import com.ynov.testingmethodology.repository.StudentRepository;
+import com.ynov.testingmethodology.schedule.RoomAvailability;
+import com.ynov.testingmethodology.schedule.SlotGrid;
+import com.ynov.testingmethodology.schedule.StudentSchedule;
+import com.ynov.testingmethodology.schedule.UpcomingReservations;
+import io.micrometer.core.annotation.Timed;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 @Service
 public class ReservationService {
     private final ReservationRepository reservationRepo;
+    private final ReservationSeriesRepository seriesRepo;
+    private final RoomRepository roomRepo;
+    private final StudentRepository studentRepo;
+    private final RoomAvailability roomAvailability;
+    private final StudentSchedule studentSchedule;
+    static final int MAX_UPDATE_ATTEMPTS = 5;
+
+    // Sérialise uniquement les réservations qui partagent une salle ou un étudiant
+    private final StripedLocks bookingLocks = new StripedLocks(256);
+    private final UpcomingReservations upcoming = new UpcomingReservations();
 
     @Autowired
-    public ReservationService(ReservationRepository reservationRepo) {
+    public ReservationService(ReservationRepository reservationRepo, ReservationSeriesRepository seriesRepo,
+                              RoomRepository roomRepo, StudentRepository studentRepo,
+                              RoomAvailability roomAvailability, StudentSchedule studentSchedule,
+                              BookingMetrics metrics) {
         this.reservationRepo = reservationRepo;
+        this.seriesRepo = seriesRepo;
+        this.roomRepo = roomRepo;
+        this.studentRepo = studentRepo;
+        this.roomAvailability = roomAvailability;
+        this.studentSchedule = studentSchedule;
+        metrics.gauge("booking.index.claims", "Reservations held by the occupancy index",
+                roomAvailability, RoomAvailability::size, "index", "room");
+        metrics.gauge("booking.index.claims", "Reservations held by the occupancy index",
+                studentSchedule, StudentSchedule::size, "index", "student");
+        metrics.gauge("booking.upcoming.size", "Reservations in the upcoming partition",
+                upcoming, UpcomingReservations::size);
     }
 
     /**
      * Crée une nouvelle réservation après validation
      */
+    @Timed(BookingMetrics.OPERATION)
     public Reservation createReservation(Reservation reservation) {
         validate(reservation);
+        checkPlainId(reservation);
         if (reservation.getStartTime().isBefore(LocalDateTime.now())){
             throw new IllegalArgumentException("Start and end times can't be before now");
         }
-        return reservationRepo.save(reservation);
+        return book(reservation, null);
+    }
+
+    /**
+     * Crée un lot de réservations (import d'emploi du temps) : tout ou rien.
+     * Les conflits internes au lot sont détectés par un balayage trié par salle et par étudiant,
+     * puis le lot entier est comparé aux réservations existantes sous un seul verrouillage.
+     */
+    @Timed(BookingMetrics.OPERATION)
+    public List<Reservation> createReservations(List<Reservation> reservations) {
+        if (reservations == null || reservations.isEmpty()) {
+            throw new IllegalArgumentException("Reservations are required");
+        }
+        LocalDateTime now = LocalDateTime.now();
+        Set<String> ids = new HashSet<>();
+        Map<String, List<Reservation>> byRoom = new HashMap<>();
+        Map<String, List<Reservation>> byStudent = new HashMap<>();
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; i < reservations.size(); i++) {
+            Reservation reservation = reservations.get(i);
+            try {
+                validate(reservation);
+                checkPlainId(reservation);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Reservation #" + i + ": " + e.getMessage());
+            }
+            if (reservation.getStartTime().isBefore(now)) {
+                throw new IllegalArgumentException("Reservation #" + i + ": Start and end times can't be before now");
+            }
+            if (!ids.add(reservation.getId())) {
+                throw new IllegalArgumentException("Reservation #" + i + ": duplicate id " + reservation.getId());
+            }
+            byRoom.computeIfAbsent(reservation.getRoom().getId(), k -> new ArrayList<>()).add(reservation);
+            for (Student student : reservation.getStudents()) {
+                byStudent.computeIfAbsent(student.getId(), k -> new ArrayList<>()).add(reservation);
+            }
+            keys.addAll(lockKeys(reservation));
+        }
+        sweepConflicts(byRoom, BookingConflictException.Kind.ROOM);
+        sweepConflicts(byStudent, BookingConflictException.Kind.STUDENT);
 
+        try (StripedLocks.Held ignored = bookingLocks.lockAll(keys)) {
+            Set<String> existing = reservationRepo.findExistingIds(ids);
+            for (int i = 0; i < reservations.size(); i++) {
+                Reservation reservation = reservations.get(i);
+                if (existing.contains(reservation.getId())) {
+                    throw new IllegalArgumentException("Reservation #" + i + ": Reservation already exists with id " + reservation.getId());
+                }
+                try {
+                    checkParticipantsExist(reservation);
+                } catch (IllegalArgumentException e) {
+                    throw new IllegalArgumentException("Reservation #" + i + ": " + e.getMessage());
+                }
+                checkRoomAvailability(reservation, null);
+                checkStudentsAvailability(reservation, null);
+            }
+            List<Reservation> saved = reservationRepo.saveAll(reservations);
+            for (Reservation reservation : reservations) {
+                roomAvailability.occupy(reservation);
+                studentSchedule.occupy(reservation);
+                upcoming.add(reservation);
+            }
+            return saved;
+        }
     }
 
     /**
-     * Met à jour une réservation existante
+     * Importe un lot de réservations, chacune acceptée ou refusée séparément (createReservations
+     * est tout ou rien) : validation en parallèle, ids répétés ou déjà enregistrés écartés en un seul
+     * appel, puis conflits vérifiés dans l'ordre du lot sous un seul verrouillage ; les réservations
+     * retenues sont enregistrées en un seul saveAll.
      */
+    @Timed(BookingMetrics.OPERATION)
+    public BatchResult<Reservation> importReservations(List<Reservation> reservations) {
+        if (reservations == null) {
+            throw new IllegalArgumentException("Reservations are required");
+        }
+        LocalDateTime now = LocalDateTime.now();
+        String[] errors = BatchResult.screen(reservations, reservation -> {
+            validate(reservation);
+            checkPlainId(reservation);
+            if (reservation.getStartTime().isBefore(now)) {
+                throw new IllegalArgumentException("Start and end times can't be before now");
+            }
+        }, Reservation::getId, reservationRepo::findExistingIds, "Reservation");
+        List<String> keys = new ArrayList<>();
+        for (Reservation reservation : BatchResult.accepted(reservations, errors)) {
+            keys.addAll(lockKeys(reservation));
+        }
+
+        try (StripedLocks.Held ignored = bookingLocks.lockAll(keys)) {
+            List<Reservation> accepted = new ArrayList<>();
+            for (int i = 0; i < reservations.size(); i++) {
+                Reservation reservation = reservations.get(i);
+                if (errors[i] != null) {
+                    continue;
+                }
+                try {
+                    checkParticipantsExist(reservation);
+                    checkRoomAvailability(reservation, null);
+                    checkStudentsAvailability(reservation, null);
+                } catch (IllegalArgumentException e) {
+                    errors[i] = e.getMessage();
+                    continue;
+                }
+                // Occupée tout de suite pour que les lignes suivantes du lot la voient
+                roomAvailability.occupy(reservation);
+                studentSchedule.occupy(reservation);
+                accepted.add(reservation);
+            }
+            List<Reservation> saved;
+            try {
+                saved = accepted.isEmpty() ? List.of() : reservationRepo.saveAll(accepted);
+            } catch (RuntimeException e) {
+                for (Reservation reservation : accepted) {
+                    roomAvailability.release(reservation.getId());
+                    studentSchedule.release(reservation.getId());
+                }
+                throw e;
+            }
+            accepted.forEach(upcoming::add);
+            return BatchResult.of(saved, errors);
+        }
+    }
+
+    /**
+     * Met à jour une réservation existante, si elle n'a pas changé depuis sa lecture
+     *
+     * @throws StaleReservationException si sa version n'est plus la version enregistrée
+     */
+    @Timed(BookingMetrics.OPERATION)
     public Reservation updateReservation(Reservation reservation) {
+        return update(reservation);
+    }
+
+    private Reservation update(Reservation reservation) {
         if (reservation == null || reservation.getId() == null || reservation.getId().trim().isEmpty()) {
             throw new IllegalArgumentException("Reservation id is required for update");
         }
@@ -43,65 +222,658 @@ public class ReservationService {
         if (existing.isEmpty()) {
             throw new IllegalArgumentException("Reservation does not exist with id: " + reservation.getId());
         }
-        return reservationRepo.save(reservation);
+        return book(reservation, existing.get());
     }
 
     /**
-     * Retourne toutes les réservations
+     * Applique {@code change} à une copie de la réservation courante puis l'enregistre. Si une autre
+     * mise à jour passe entre la lecture et l'écriture, la modification est rejouée sur la nouvelle
+     * version, au plus {@value #MAX_UPDATE_ATTEMPTS} fois ; les essais rejoués ne sont pas mesurés
+     * comme des opérations distinctes.
      */
+    @Timed(BookingMetrics.OPERATION)
+    public Reservation modifyReservation(String reservationId, Consumer<Reservation> change) {
+        for (int attempt = 1; ; attempt++) {
+            Reservation current = reservationRepo.findById(reservationId)
+                    .orElseThrow(() -> new IllegalArgumentException("Reservation does not exist with id: " + reservationId));
+            Reservation modified = current.copy();
+            change.accept(modified);
+            try {
+                return update(modified);
+            } catch (StaleReservationException e) {
+                if (attempt == MAX_UPDATE_ATTEMPTS || e.getCurrentVersion() == StaleReservationException.DELETED) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    /**
+     * Retourne toutes les réservations, suivies des occurrences des séries
+     */
+    @Timed(BookingMetrics.OPERATION)
     public List<Reservation> getAllReservations() {
-        return reservationRepo.findAll();
+        List<Reservation> result = reservationRepo.findAll();
+        List<ReservationSeries> series = seriesRepo.findAll();
+        if (series.isEmpty()) {
+            return result;
+        }
+        List<Reservation> all = new ArrayList<>(result);
+        series.forEach(s -> s.occurrences().forEach(all::add));
+        return all;
+    }
+
+    /**
+     * Page de réservations triées par id ; {@code cursor} est le curseur de la page précédente (null pour la première)
+     */
+    @Timed(BookingMetrics.OPERATION)
+    public CursorPage<Reservation> getReservationsPage(String cursor, int limit) {
+        CursorPage.checkLimit(limit);
+        return CursorPage.of(reservationRepo.findPage(cursor, limit + 1), limit, Reservation::getId);
+    }
+
+    /**
+     * Parcours incrémental de toutes les réservations puis des occurrences des séries,
+     * sans les charger en une liste
+     */
+    public Stream<Reservation> streamAllReservations() {
+        // Séries lues seulement une fois les réservations parcourues
+        return Stream.concat(reservationRepo.streamAll(),
+                Stream.of(seriesRepo).flatMap(repo -> repo.findAll().stream()).flatMap(ReservationSeries::occurrences));
+    }
+
+    /**
+     * Parcours des réservations et occurrences qui peuvent répondre à une sélection, lues par l'index
+     * le plus sélectif disponible : salle, puis étudiant, puis plage de début [from, to[ ; sans aucun
+     * critère, tout est parcouru. Les critères non couverts par l'index restent à appliquer par l'appelant.
+     */
+    public Stream<Reservation> streamCandidates(String roomId, String studentId, LocalDateTime from, LocalDateTime to) {
+        if (roomId != null) {
+            return Stream.concat(reservationRepo.findByRoomId(roomId).stream(),
+                    seriesRepo.findByRoomId(roomId).stream().flatMap(ReservationSeries::occurrences));
+        }
+        if (studentId != null) {
+            return Stream.concat(reservationRepo.findByStudentId(studentId).stream(),
+                    seriesRepo.findByStudentId(studentId).stream().flatMap(ReservationSeries::occurrences));
+        }
+        if (from == null && to == null) {
+            return streamAllReservations();
+        }
+        Collection<Reservation> found;
+        if (from == null) {
+            found = reservationRepo.findBeforeDate(to);
+        } else if (to == null) {
+            found = reservationRepo.findAfterDate(from.minusNanos(1));
+        } else {
+            found = reservationRepo.findBetween(from, to);
+        }
+        LocalDateTime start = from == null ? LocalDateTime.MIN : from;
+        LocalDateTime end = to == null ? LocalDateTime.MAX : to;
+        return Stream.concat(found.stream(),
+                Stream.of(seriesRepo).flatMap(repo -> repo.findAll().stream()).flatMap(series -> series.occurrencesBetween(start, end)));
     }
 
     /**
      * Recherche les réservations d'un étudiant
      */
+    @Timed(BookingMetrics.OPERATION)
     public List<Reservation> getReservationsByStudent(String studentId) {
         if (studentId == null || studentId.trim().isEmpty()) {
             throw new IllegalArgumentException("Student id is required");
         }
-        return reservationRepo.findByStudentId(studentId);
+        List<Reservation> result = reservationRepo.findByStudentId(studentId);
+        return withOccurrences(result, seriesRepo.findByStudentId(studentId));
     }
 
     /**
      * Recherche les réservations d'une salle
      */
+    @Timed(BookingMetrics.OPERATION)
     public List<Reservation> getReservationsByRoom(String roomId) {
         if (roomId == null || roomId.trim().isEmpty()) {
             throw new IllegalArgumentException("Room id is required");
         }
-        return reservationRepo.findByRoomId(roomId);
+        List<Reservation> result = reservationRepo.findByRoomId(roomId);
+        return withOccurrences(result, seriesRepo.findByRoomId(roomId));
+    }
+
+    /**
+     * Calendrier allégé d'une salle (réservations et occurrences des séries), trié par heure de début
+     */
+    @Timed(BookingMetrics.OPERATION)
+    public List<ReservationSummary> getRoomCalendar(String roomId) {
+        if (roomId == null || roomId.trim().isEmpty()) {
+            throw new IllegalArgumentException("Room id is required");
+        }
+        return withOccurrenceSummaries(reservationRepo.findSummariesByRoomId(roomId), seriesRepo.findByRoomId(roomId));
+    }
+
+    /**
+     * Calendrier allégé d'un étudiant (réservations et occurrences des séries)
+     */
+    @Timed(BookingMetrics.OPERATION)
+    public List<ReservationSummary> getStudentCalendar(String studentId) {
+        if (studentId == null || studentId.trim().isEmpty()) {
+            throw new IllegalArgumentException("Student id is required");
+        }
+        return withOccurrenceSummaries(reservationRepo.findSummariesByStudentId(studentId), seriesRepo.findByStudentId(studentId));
     }
 
     /**
      * Supprime une réservation par son id
      */
+    @Timed(BookingMetrics.OPERATION)
     public void deleteReservation(String reservationId) {
         if (reservationId == null || reservationId.trim().isEmpty()) {
             throw new IllegalArgumentException("Reservation id is required");
         }
-        Optional<Reservation> existing = reservationRepo.findById(reservationId);
-        if (existing.isEmpty()) {
+        boolean deleted = withStoredReservation(reservationId, current -> {
+            cancel(current);
+            return true;
+        });
+        if (!deleted) {
             throw new IllegalArgumentException("Reservation does not exist with id: " + reservationId);
         }
-        reservationRepo.delete(existing.get());
+    }
+
+    /**
+     * Retire un étudiant de toutes ses réservations et séries (suppression en cascade).
+     * Seules ses réservations sont parcourues, via l'index étudiant → réservations ; chacune est remplacée
+     * par une copie sans l'étudiant (version vérifiée et incrémentée), ou annulée s'il n'y reste personne.
+     * A appeler une fois l'étudiant supprimé, comme {@link #cancelRoomReservations(String)}.
+     *
+     * @return nombre de réservations et de séries annulées
+     */
+    @Timed(BookingMetrics.OPERATION)
+    public int removeStudentFromReservations(String studentId) {
+        awaitBookings(studentId);
+        int cancelled = 0;
+        for (Reservation found : reservationRepo.findByStudentId(studentId)) {
+            boolean emptied = withStoredReservation(found.getId(), current -> {
+                if (current.getStudents().stream().noneMatch(student -> studentId.equals(student.getId()))) {
+                    return false;
+                }
+                Reservation remaining = current.copy();
+                remaining.removeStudent(studentId);
+                if (remaining.getStudents().isEmpty()) {
+                    cancel(current);
+                    return true;
+                }
+                reservationRepo.update(remaining);
+                // Reprend les créneaux pour les seuls participants restants
+                studentSchedule.occupy(remaining);
+                upcoming.add(remaining);
+                return false;
+            });
+            if (emptied) {
+                cancelled++;
+            }
+        }
+        for (ReservationSeries found : seriesRepo.findByStudentId(studentId)) {
+            try (StripedLocks.Held ignored = bookingLocks.lockAll(lockKeys(found.occurrence(found.getFirstDate())))) {
+                // Les participants d'une série ne changent que sous ces verrous : la relecture a les mêmes clés
+                Optional<ReservationSeries> current = seriesRepo.findById(found.getId());
+                if (current.isEmpty()) {
+                    continue;
+                }
+                ReservationSeries series = current.get();
+                List<Student> remaining = new ArrayList<>(series.getStudents());
+                if (!remaining.removeIf(student -> studentId.equals(student.getId()))) {
+                    continue;
+                }
+                if (remaining.isEmpty()) {
+                    seriesRepo.delete(series);
+                    releaseOccurrences(series);
+                    cancelled++;
+                } else {
+                    // La série enregistrée est remplacée, jamais modifiée sur place
+                    ReservationSeries replacement = series.copy();
+                    replacement.setStudents(remaining);
+                    seriesRepo.save(replacement);
+                    studentSchedule.occupy(replacement);
+                    replacement.occurrences().forEach(upcoming::add);
+                }
+            }
+        }
+        return cancelled;
+    }
+
+    /**
+     * Annule toutes les réservations et séries d'une salle (suppression en cascade),
+     * via l'index salle → réservations. A appeler une fois la salle supprimée : les réservations en cours
+     * qui l'ont vue exister sont attendues, les suivantes sont refusées.
+     *
+     * @return nombre de réservations et de séries annulées
+     */
+    @Timed(BookingMetrics.OPERATION)
+    public int cancelRoomReservations(String roomId) {
+        awaitBookings(roomId);
+        int cancelled = 0;
+        for (Reservation found : reservationRepo.findByRoomId(roomId)) {
+            boolean removed = withStoredReservation(found.getId(), current -> {
+                // Déplacée dans une autre salle entre-temps : elle n'est plus concernée
+                if (current.getRoom() == null || !roomId.equals(current.getRoom().getId())) {
+                    return false;
+                }
+                cancel(current);
+                return true;
+            });
+            if (removed) {
+                cancelled++;
+            }
+        }
+        for (ReservationSeries series : seriesRepo.findByRoomId(roomId)) {
+            try (StripedLocks.Held ignored = bookingLocks.lockAll(lockKeys(series.occurrence(series.getFirstDate())))) {
+                seriesRepo.delete(series);
+                releaseOccurrences(series);
+                cancelled++;
+            }
+        }
+        return cancelled;
+    }
+
+    /**
+     * Crée une réservation récurrente. Toutes les occurrences sont vérifiées en une passe
+     * sous un seul verrouillage ; seule la règle est stockée, et chaque index d'occupation
+     * lui associe un seul claim couvrant tous ses jours.
+     */
+    @Timed(BookingMetrics.OPERATION)
+    public ReservationSeries createSeries(ReservationSeries series) {
+        validateSeries(series);
+        if (series.getFirstDate().atTime(series.getStartTime()).isBefore(LocalDateTime.now())) {
+            throw new IllegalArgumentException("Start and end times can't be before now");
+        }
+        List<String> keys = lockKeys(series.occurrence(series.getFirstDate()));
+        keys.add(series.getId());
+        try (StripedLocks.Held ignored = bookingLocks.lockAll(keys)) {
+            if (seriesRepo.findById(series.getId()).isPresent()) {
+                throw new IllegalArgumentException("Series already exists with id " + series.getId());
+            }
+            checkParticipantsExist(series.occurrence(series.getFirstDate()));
+            series.occurrences().forEach(occurrence -> {
+                checkRoomAvailability(occurrence, null);
+                checkStudentsAvailability(occurrence, null);
+            });
+            ReservationSeries saved = seriesRepo.save(series);
+            roomAvailability.occupy(series);
+            studentSchedule.occupy(series);
+            series.occurrences().forEach(upcoming::add);
+            return saved;
+        }
+    }
+
+    /**
+     * Supprime une réservation récurrente et libère toutes ses occurrences
+     */
+    @Timed(BookingMetrics.OPERATION)
+    public void deleteSeries(String seriesId) {
+        if (seriesId == null || seriesId.trim().isEmpty()) {
+            throw new IllegalArgumentException("Series id is required");
+        }
+        Optional<ReservationSeries> existing = seriesRepo.findById(seriesId);
+        if (existing.isEmpty()) {
+            throw new IllegalArgumentException("Series does not exist with id: " + seriesId);
+        }
+        ReservationSeries series = existing.get();
+        try (StripedLocks.Held ignored = bookingLocks.lockAll(lockKeys(series.occurrence(series.getFirstDate())))) {
+            seriesRepo.delete(series);
+            releaseOccurrences(series);
+        }
+    }
+
+    /**
+     * Reconstruit les index d'occupation à partir des dépôts, après un rechargement au démarrage
+     */
+    public void rebuildIndexes() {
+        List<Reservation> all = reservationRepo.findAll();
+        List<ReservationSeries> series = seriesRepo.findAll();
+        roomAvailability.rebuild(all, series);
+        studentSchedule.rebuild(all, series);
+        upcoming.invalidate();
+    }
+
+    /**
+     * Exécute {@code action} pendant qu'aucune réservation ne peut être créée, modifiée ou supprimée
+     * (instantané cohérent des dépôts)
+     */
+    public void whileBookingsPaused(Runnable action) {
+        try (StripedLocks.Held ignored = bookingLocks.lockEverything()) {
+            action.run();
+        }
     }
 
     /**
      * Retourne les réservations à venir
      */
-    public List<Reservation> getUpcomingReservations() {
-        return reservationRepo.findAfterDate(LocalDateTime.now());
+    @Timed(BookingMetrics.OPERATION)
+    public Collection<Reservation> getUpcomingReservations() {
+        // Servies par la partition à venir, chargée une fois depuis le dépôt ; vue non modifiable
+        return upcoming.upcoming(LocalDateTime.now(), this::findAfterDate);
+    }
+
+    /**
+     * Partition des réservations à venir, pour démarrer son tic périodique
+     */
+    public UpcomingReservations getUpcomingPartition() {
+        return upcoming;
+    }
+
+    /**
+     * Vues allégées des réservations à venir, servies par la même partition ; vue non modifiable
+     */
+    @Timed(BookingMetrics.OPERATION)
+    public Collection<ReservationSummary> getUpcomingSummaries() {
+        return upcoming.upcomingSummaries(LocalDateTime.now(), this::findAfterDate);
     }
 
     /**
-     * Retourne les réservations passées 
+     * Retourne les réservations passées, occurrences des séries comprises
      */
+    @Timed(BookingMetrics.OPERATION)
     public List<Reservation> getPastReservations() {
-        return reservationRepo.findBeforeDate(LocalDateTime.now());
+        LocalDateTime now = LocalDateTime.now();
+        return merged(reservationRepo.findBeforeDate(now), occurrencesBetween(LocalDateTime.MIN, now));
     }
 
 
+    /**
+     * Retourne les réservations qui commencent entre deux dates, triées par heure de début
+     */
+    @Timed(BookingMetrics.OPERATION)
+    public Collection<Reservation> getReservationsBetween(LocalDateTime start, LocalDateTime end) {
+        if (start == null || end == null) {
+            throw new IllegalArgumentException("Start time and end time are required");
+        }
+        if (end.isBefore(start)) {
+            throw new IllegalArgumentException("End time must be after start time");
+        }
+        Collection<Reservation> found = reservationRepo.findBetween(start, end);
+        List<Reservation> occurrences = occurrencesBetween(start, end);
+        return occurrences.isEmpty() ? found : merged(new ArrayList<>(found), occurrences);
+    }
+
+    /**
+     * Vues allégées des réservations qui commencent entre deux dates, triées par heure de début
+     */
+    @Timed(BookingMetrics.OPERATION)
+    public List<ReservationSummary> getSummariesBetween(LocalDateTime start, LocalDateTime end) {
+        if (start == null || end == null) {
+            throw new IllegalArgumentException("Start time and end time are required");
+        }
+        if (end.isBefore(start)) {
+            throw new IllegalArgumentException("End time must be after start time");
+        }
+        List<Reservation> occurrences = occurrencesBetween(start, end);
+        List<ReservationSummary> summaries = reservationRepo.findSummariesBetween(start, end);
+        if (occurrences.isEmpty()) {
+            return summaries;
+        }
+        List<ReservationSummary> result = new ArrayList<>(summaries);
+        occurrences.stream().map(ReservationSummary::of).forEach(result::add);
+        result.sort(Comparator.comparing(ReservationSummary::startTime));
+        return result;
+    }
+
+    /**
+     * Vérifie les conflits puis enregistre la réservation, de façon atomique
+     * vis-à-vis des autres réservations de la même salle ou des mêmes étudiants.
+     * Une création ({@code previous} null) refuse un id déjà enregistré ; seule une mise à jour
+     * ignore les créneaux déjà posés par la réservation. Si l'écriture échoue, les index ne sont pas modifiés.
+     *
+     * @param previous état enregistré lu avant la mise à jour : sa salle et ses participants sont
+     *                 aussi verrouillés, puisque leurs créneaux sont libérés par le déplacement
+     */
+    private Reservation book(Reservation reservation, Reservation previous) {
+        boolean update = previous != null;
+        List<String> keys = lockKeys(reservation);
+        if (update) {
+            keys.addAll(lockKeys(previous));
+        }
+        try (StripedLocks.Held ignored = bookingLocks.lockAll(keys)) {
+            if (!update && reservationRepo.findById(reservation.getId()).isPresent()) {
+                throw new IllegalArgumentException("Reservation already exists with id " + reservation.getId());
+            }
+            if (update && previous.getVersion() != reservation.getVersion()) {
+                // Les clés verrouillées ne sont celles de l'état enregistré que pour la version lue
+                throw new StaleReservationException(reservation.getId(), reservation.getVersion(), previous.getVersion());
+            }
+            checkParticipantsExist(reservation);
+            String ownId = update ? reservation.getId() : null;
+            checkRoomAvailability(reservation, ownId);
+            checkStudentsAvailability(reservation, ownId);
+            Reservation saved = update ? reservationRepo.update(reservation) : reservationRepo.save(reservation);
+            roomAvailability.occupy(reservation);
+            studentSchedule.occupy(reservation);
+            upcoming.add(reservation);
+            return saved;
+        }
+    }
+
+    /**
+     * Balayage par groupe (salle ou étudiant) : une fois triées par début, deux réservations
+     * se chevauchent dès qu'un début précède la plus grande fin déjà vue
+     */
+    private static void sweepConflicts(Map<String, List<Reservation>> groups, BookingConflictException.Kind kind) {
+        for (Map.Entry<String, List<Reservation>> group : groups.entrySet()) {
+            List<Reservation> sorted = group.getValue();
+            if (sorted.size() < 2) {
+                continue;
+            }
+            sorted.sort(Comparator.comparing(Reservation::getStartTime));
+            Reservation latest = sorted.get(0);
+            for (int i = 1; i < sorted.size(); i++) {
+                Reservation current = sorted.get(i);
+                if (current.getStartTime().isBefore(latest.getEndTime())) {
+                    throw new BookingConflictException(kind, kind.label() + " " + group.getKey() + " is booked by both "
+                            + latest.getId() + " and " + current.getId());
+                }
+                if (current.getEndTime().isAfter(latest.getEndTime())) {
+                    latest = current;
+                }
+            }
+        }
+    }
+
+    /**
+     * Réservations qui commencent strictement après la date, occurrences des séries comprises
+     * (chargement de la partition à venir)
+     */
+    private List<Reservation> findAfterDate(LocalDateTime date) {
+        return merged(reservationRepo.findAfterDate(date), occurrencesBetween(date.plusNanos(1), LocalDateTime.MAX));
+    }
+
+    /**
+     * Occurrences des séries qui commencent dans [start, end[ ; seules les dates concernées sont générées
+     */
+    private List<Reservation> occurrencesBetween(LocalDateTime start, LocalDateTime end) {
+        List<Reservation> result = new ArrayList<>();
+        for (ReservationSeries series : seriesRepo.findAll()) {
+            series.occurrencesBetween(start, end).forEach(result::add);
+        }
+        return result;
+    }
+
+    /**
+     * Fusionne réservations et occurrences par heure de début ; sans occurrence, la collection
+     * du dépôt est rendue telle quelle
+     */
+    private static List<Reservation> merged(List<Reservation> reservations, List<Reservation> occurrences) {
+        if (occurrences.isEmpty()) {
+            return reservations;
+        }
+        List<Reservation> result = new ArrayList<>(reservations);
+        result.addAll(occurrences);
+        result.sort(Comparator.comparing(Reservation::getStartTime));
+        return result;
+    }
+
+    /**
+     * Ajoute aux réservations ponctuelles les occurrences des séries, le tout trié par heure de début
+     */
+    private static List<Reservation> withOccurrences(List<Reservation> reservations, List<ReservationSeries> series) {
+        if (series.isEmpty()) {
+            return reservations;
+        }
+        List<Reservation> result = new ArrayList<>(reservations);
+        for (ReservationSeries s : series) {
+            s.occurrences().forEach(result::add);
+        }
+        result.sort(Comparator.comparing(Reservation::getStartTime));
+        return result;
+    }
+
+    private static List<ReservationSummary> withOccurrenceSummaries(List<ReservationSummary> summaries,
+                                                                    List<ReservationSeries> series) {
+        if (series.isEmpty()) {
+            return summaries;
+        }
+        List<ReservationSummary> result = new ArrayList<>(summaries);
+        for (ReservationSeries s : series) {
+            s.occurrences().map(ReservationSummary::of).forEach(result::add);
+        }
+        result.sort(Comparator.comparing(ReservationSummary::startTime));
+        return result;
+    }
+
+    /**
+     * Valide une réservation récurrente : la règle elle-même, puis sa première occurrence,
+     * dont toutes les autres partagent le jour de la semaine et les horaires
+     */
+    private void validateSeries(ReservationSeries series) {
+        if (series == null) {
+            throw new IllegalArgumentException("Series is null");
+        }
+        if (series.getId() == null || series.getId().trim().isEmpty()) {
+            throw new IllegalArgumentException("Series id is required");
+        }
+        if (series.getFirstDate() == null || series.getLastDate() == null) {
+            throw new IllegalArgumentException("First date and last date are required");
+        }
+        if (series.getLastDate().isBefore(series.getFirstDate())) {
+            throw new IllegalArgumentException("Last date must not be before first date");
+        }
+        if (series.getIntervalWeeks() <= 0) {
+            throw new IllegalArgumentException("Interval must be at least one week");
+        }
+        if (series.getStartTime() == null || series.getEndTime() == null) {
+            throw new IllegalArgumentException("Start time and end time are required");
+        }
+        validate(series.occurrence(series.getFirstDate()));
+    }
+
+    /**
+     * Exécute {@code action} sur l'état enregistré de la réservation, relu sous ses verrous ; si elle a été
+     * déplacée entre la lecture et le verrouillage, on reprend avec ses nouvelles clés.
+     *
+     * @return le résultat de {@code action}, false si la réservation n'existe pas (ou plus)
+     */
+    private boolean withStoredReservation(String reservationId, Predicate<Reservation> action) {
+        while (true) {
+            Optional<Reservation> existing = reservationRepo.findById(reservationId);
+            if (existing.isEmpty()) {
+                return false;
+            }
+            List<String> keys = lockKeys(existing.get());
+            try (StripedLocks.Held ignored = bookingLocks.lockAll(keys)) {
+                Optional<Reservation> current = reservationRepo.findById(reservationId);
+                if (current.isEmpty()) {
+                    return false;
+                }
+                if (lockKeys(current.get()).equals(keys)) {
+                    return action.test(current.get());
+                }
+            }
+        }
+    }
+
+    /**
+     * Attend les réservations qui tiennent le verrou d'une salle ou d'un étudiant : elles ont vérifié
+     * son existence sous ce verrou, elles sont donc enregistrées (et visibles des index) à la sortie
+     */
+    private void awaitBookings(String key) {
+        bookingLocks.lock(key).close();
+    }
+
+    /**
+     * Sous les verrous de la réservation : la salle et les participants existent toujours
+     * (une suppression en cascade passe par {@link #awaitBookings(String)})
+     */
+    private void checkParticipantsExist(Reservation reservation) {
+        if (!roomRepo.existsByID(reservation.getRoom().getId())) {
+            throw new IllegalArgumentException("Room does not exist with id: " + reservation.getRoom().getId());
+        }
+        for (Student student : reservation.getStudents()) {
+            if (!studentRepo.existsByID(student.getId())) {
+                throw new IllegalArgumentException("Student does not exist with id: " + student.getId());
+            }
+        }
+    }
+
+    /**
+     * Supprime la réservation et libère ses créneaux ; appelé sous le verrou de la réservation
+     */
+    private void cancel(Reservation reservation) {
+        reservationRepo.delete(reservation);
+        roomAvailability.release(reservation.getId());
+        studentSchedule.release(reservation.getId());
+        upcoming.remove(reservation.getId());
+    }
+
+    private void releaseOccurrences(ReservationSeries series) {
+        roomAvailability.release(series);
+        studentSchedule.release(series);
+        series.dates().forEach(date -> upcoming.remove(series.occurrence(date).getId()));
+    }
+
+    /**
+     * Le séparateur '#' est réservé aux occurrences des séries ("idSérie#date")
+     */
+    private static void checkPlainId(Reservation reservation) {
+        if (reservation.getId().indexOf('#') >= 0) {
+            throw new IllegalArgumentException("Reservation id must not contain '#': " + reservation.getId());
+        }
+    }
+
+    /**
+     * Clés de verrouillage d'une réservation : son id, sa salle et chacun de ses participants.
+     * L'id sérialise deux créations concurrentes du même id, même dans des salles différentes.
+     */
+    private static List<String> lockKeys(Reservation reservation) {
+        List<String> keys = new ArrayList<>();
+        keys.add(reservation.getId());
+        if (reservation.getRoom() != null) {
+            keys.add(reservation.getRoom().getId());
+        }
+        if (reservation.getStudents() != null) {
+            for (Student student : reservation.getStudents()) {
+                keys.add(student.getId());
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * Vérifie qu'aucune autre réservation n'occupe la salle sur le même créneau ;
+     * {@code ownId} désigne les créneaux à ignorer (ceux de la réservation mise à jour)
+     */
+    private void checkRoomAvailability(Reservation reservation, String ownId) {
+        if (!roomAvailability.isFree(reservation, ownId)) {
+            throw new BookingConflictException(BookingConflictException.Kind.ROOM, "Room " + reservation.getRoom().getId()
+                    + " is already booked between " + reservation.getStartTime() + " and " + reservation.getEndTime());
+        }
+    }
+
+    /**
+     * Vérifie qu'aucun participant n'a déjà une réservation sur le même créneau
+     */
+    private void checkStudentsAvailability(Reservation reservation, String ownId) {
+        List<String> busy = studentSchedule.getConflictingStudents(reservation, ownId);
+        if (!busy.isEmpty()) {
+            throw new BookingConflictException(BookingConflictException.Kind.STUDENT, "Student(s) " + String.join(", ", busy)
+                    + " already have a reservation between " + reservation.getStartTime() + " and " + reservation.getEndTime());
+        }
+    }
+
     /**
      * Valide les données d'une réservation
      */
@@ -126,5 +898,15 @@ public class ReservationService {
         if (end.isBefore(start) || end.equals(start)) {
             throw new IllegalArgumentException("End time must be after start time");
         }
+        // Règles horaires : jours ouvrables, 08h00-20h00, créneaux de 30 minutes
+        if (!SlotGrid.isWorkingDay(start.toLocalDate())) {
+            throw new IllegalArgumentException("Reservations are only allowed on working days");
+        }
+        if (!SlotGrid.isWithinOpeningHours(start, end)) {
+            throw new IllegalArgumentException("Reservations must be between " + SlotGrid.OPENING + " and " + SlotGrid.CLOSING);
+        }
+        if (!SlotGrid.isAligned(start) || !SlotGrid.isAligned(end)) {
+            throw new IllegalArgumentException("Start and end times must be on " + SlotGrid.SLOT_MINUTES + " minutes slots");
+        }
     }
 }
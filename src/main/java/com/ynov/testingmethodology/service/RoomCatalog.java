@@ -0,0 +1,198 @@
+package com.ynov.testingmethodology.service;
+
+import com.ynov.testingmethodology.model.Room;
+import com.ynov.testingmethodology.repository.RoomRepository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cache du catalogue des salles : les lectures se font sans verrou sur un instantané immuable,
+ * remplacé en bloc (copie à l'écriture) à chaque ajout ou suppression.
+ * Le catalogue est chargé au premier accès ; une salle absente de l'instantané est cherchée
+ * dans le dépôt, hors verrou, puis gardée à part (salles enregistrées directement dans le dépôt,
+ * ex. chargement d'un snapshot) jusqu'à ce que {@link #findAll()} l'intègre à l'instantané.
+ */
+public class RoomCatalog {
+
+    private record Snapshot(Map<String, Room> byId, List<Room> all) {
+
+        static Snapshot of(TreeMap<String, Room> rooms) {
+            return new Snapshot(Map.copyOf(rooms), List.copyOf(rooms.values()));
+        }
+
+        TreeMap<String, Room> copy() {
+            TreeMap<String, Room> rooms = new TreeMap<>();
+            all.forEach(room -> rooms.put(room.getId(), room));
+            return rooms;
+        }
+    }
+
+    /**
+     * Salle lue dans le dépôt, avec le nombre d'écritures du catalogue au moment de la lecture
+     */
+    private record Found(Room room, long writes) {
+    }
+
+    private final RoomRepository roomRepo;
+    private final Object writeLock = new Object();
+    private volatile Snapshot snapshot;
+    // Salles trouvées dans le dépôt hors instantané ; y ajouter ne recopie rien
+    private final ConcurrentHashMap<String, Found> discovered = new ConcurrentHashMap<>();
+    // Incrémenté à chaque écriture : une salle lue avant n'est plus servie
+    private final AtomicLong writes = new AtomicLong();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public RoomCatalog(RoomRepository roomRepo) {
+        this.roomRepo = roomRepo;
+    }
+
+    public Optional<Room> findById(String id) {
+        Room room = current().byId().get(id);
+        if (room == null) {
+            Found found = discovered.get(id);
+            if (found != null && found.writes() == writes.get()) {
+                room = found.room();
+            }
+        }
+        if (room != null) {
+            hits.increment();
+            return Optional.of(room);
+        }
+        misses.increment();
+        long before = writes.get();
+        Optional<Room> found = roomRepo.findById(id);
+        found.ifPresent(stored -> discovered.put(id, new Found(stored, before)));
+        return found;
+    }
+
+    /**
+     * Toutes les salles, triées par id ; la liste retournée est immuable
+     */
+    public List<Room> findAll() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            current = current();
+        } else {
+            hits.increment();
+        }
+        if (discovered.isEmpty()) {
+            return current.all();
+        }
+        synchronized (writeLock) {
+            merge();
+            return snapshot.all();
+        }
+    }
+
+    public Room save(Room room) {
+        synchronized (writeLock) {
+            Room saved = roomRepo.save(room);
+            writes.incrementAndGet();
+            if (snapshot != null) {
+                install(saved);
+            }
+            return saved;
+        }
+    }
+
+    /**
+     * Enregistre un lot de salles ; l'instantané n'est recopié qu'une fois
+     */
+    public List<Room> saveAll(List<Room> rooms) {
+        synchronized (writeLock) {
+            List<Room> saved = roomRepo.saveAll(rooms);
+            writes.incrementAndGet();
+            if (snapshot != null) {
+                TreeMap<String, Room> copy = snapshot.copy();
+                saved.forEach(room -> copy.put(room.getId(), room));
+                snapshot = Snapshot.of(copy);
+            }
+            return saved;
+        }
+    }
+
+    public void deleteById(String id) {
+        synchronized (writeLock) {
+            roomRepo.deleteById(id);
+            writes.incrementAndGet();
+            if (snapshot != null && snapshot.byId().containsKey(id)) {
+                TreeMap<String, Room> rooms = snapshot.copy();
+                rooms.remove(id);
+                snapshot = Snapshot.of(rooms);
+            }
+        }
+    }
+
+    /**
+     * Oublie l'instantané : il sera rechargé depuis le dépôt au prochain accès
+     */
+    public void invalidate() {
+        synchronized (writeLock) {
+            writes.incrementAndGet();
+            discovered.clear();
+            snapshot = null;
+        }
+    }
+
+    public long hits() {
+        return hits.sum();
+    }
+
+    public long misses() {
+        return misses.sum();
+    }
+
+    /**
+     * Part des lectures servies par l'instantané, 1 tant qu'aucune lecture n'a eu lieu
+     */
+    public double hitRatio() {
+        long hit = hits.sum();
+        long total = hit + misses.sum();
+        return total == 0 ? 1.0 : (double) hit / total;
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        synchronized (writeLock) {
+            if (snapshot == null) {
+                misses.increment();
+                TreeMap<String, Room> rooms = new TreeMap<>();
+                roomRepo.findAll().forEach(room -> rooms.put(room.getId(), room));
+                snapshot = Snapshot.of(rooms);
+            }
+            return snapshot;
+        }
+    }
+
+    /**
+     * Intègre à l'instantané les salles trouvées dans le dépôt depuis la dernière écriture ;
+     * appelée sous le verrou d'écriture
+     */
+    private void merge() {
+        TreeMap<String, Room> rooms = current().copy();
+        long current = writes.get();
+        for (Map.Entry<String, Found> entry : discovered.entrySet()) {
+            if (entry.getValue().writes() == current) {
+                rooms.putIfAbsent(entry.getKey(), entry.getValue().room());
+            }
+            discovered.remove(entry.getKey(), entry.getValue());
+        }
+        snapshot = Snapshot.of(rooms);
+    }
+
+    private void install(Room room) {
+        TreeMap<String, Room> rooms = snapshot.copy();
+        rooms.put(room.getId(), room);
+        snapshot = Snapshot.of(rooms);
+    }
+}
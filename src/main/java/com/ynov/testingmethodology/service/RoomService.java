@@ -1,25 +1,56 @@
 package com.ynov.testingmethodology.service;
 
 
+import com.ynov.testingmethodology.ids.EntityIds;
+import com.ynov.testingmethodology.ids.IdDictionary;
+import com.ynov.testingmethodology.metrics.BookingMetrics;
 import com.ynov.testingmethodology.model.Room;
+import com.ynov.testingmethodology.repository.CursorPage;
 import com.ynov.testingmethodology.repository.RoomRepository;
+import com.ynov.testingmethodology.schedule.RoomAvailability;
+import com.ynov.testingmethodology.schedule.SlotGrid;
+import com.ynov.testingmethodology.schedule.TimeSlot;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
 
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+@Service
 public class RoomService {
 
     private final RoomRepository roomRepo;
+    private final RoomAvailability roomAvailability;
+    private final EntityIds ids;
+    private final ReservationService reservationService;
+    private final RoomCatalog catalog;
 
     @Autowired
-    public RoomService(RoomRepository roomRepo) {
+    public RoomService(RoomRepository roomRepo, RoomAvailability roomAvailability, EntityIds ids,
+                       ReservationService reservationService, BookingMetrics metrics) {
         this.roomRepo = roomRepo;
+        this.roomAvailability = roomAvailability;
+        this.ids = ids;
+        this.reservationService = reservationService;
+        this.catalog = new RoomCatalog(roomRepo);
+        metrics.gauge("booking.ids.size", "Handles allocated by the id dictionary",
+                ids.rooms(), IdDictionary::size, "entity", "room");
+        metrics.counter("booking.room.catalog.requests", "Room catalog lookups",
+                catalog, RoomCatalog::hits, "result", "hit");
+        metrics.counter("booking.room.catalog.requests", "Room catalog lookups",
+                catalog, RoomCatalog::misses, "result", "miss");
+        metrics.gauge("booking.room.catalog.hit.ratio", "Share of room catalog lookups served from the snapshot",
+                catalog, RoomCatalog::hitRatio);
     }
 
+    @Timed(BookingMetrics.OPERATION)
     public Room addRoom(Room room) {
         verify(room);
 
@@ -27,26 +58,128 @@ public class RoomService {
             throw new IllegalArgumentException("Room already exists with id "+room.getId());
         }
 
-        return roomRepo.save(room);
+        Room saved = catalog.save(room);
+        // Attribue dès l'ajout le handle utilisé par les index internes
+        ids.rooms().intern(saved.getId());
+        return saved;
     }
 
+    /**
+     * Ajoute un lot de salles (import) : les règles d'addRoom sont vérifiées en parallèle,
+     * les ids déjà connus sont cherchés en un seul appel et les salles retenues sont enregistrées
+     * en un seul saveAll. Une salle refusée n'interrompt pas le reste du lot.
+     */
+    @Timed(BookingMetrics.OPERATION)
+    public BatchResult<Room> addRooms(List<Room> rooms) {
+        if (rooms == null) {
+            throw new IllegalArgumentException("Rooms are required");
+        }
+        String[] errors = BatchResult.screen(rooms, this::verify, Room::getId, roomRepo::findExistingIds, "Room");
+        List<Room> accepted = BatchResult.accepted(rooms, errors);
+        List<Room> saved = accepted.isEmpty() ? List.of() : catalog.saveAll(accepted);
+        saved.forEach(room -> ids.rooms().intern(room.getId()));
+        return BatchResult.of(saved, errors);
+    }
+
+    /**
+     * Supprime une salle et annule toutes ses réservations
+     */
+    @Timed(BookingMetrics.OPERATION)
     public void deleteRoom(String id) {
         if (!roomRepo.existsByID(id)) {
             throw new IllegalArgumentException("Room does not exists with id :" + id);
         }
 
-        roomRepo.deleteById(id);
+        // Supprimée d'abord : une réservation concurrente la voit absente, ou est annulée par la cascade
+        catalog.deleteById(id);
+        reservationService.cancelRoomReservations(id);
     }
 
+    @Timed(BookingMetrics.OPERATION)
     public Optional<Room> getRoomById(String id) {
         if (id ==null || id.trim().isEmpty()){
             throw new IllegalArgumentException("Room id is null or empty");
         }
-        return roomRepo.findById(id);
+        return catalog.findById(id);
     }
 
+    /**
+     * Toutes les salles, triées par id, servies par le cache du catalogue ; la liste est immuable
+     */
+    @Timed(BookingMetrics.OPERATION)
     public List<Room> getAllRooms() {
-        return roomRepo.findAll();
+        return catalog.findAll();
+    }
+
+    /**
+     * Cache du catalogue des salles, pour ses compteurs de succès et d'échecs
+     */
+    public RoomCatalog getCatalog() {
+        return catalog;
+    }
+
+    /**
+     * Page de salles triées par id ; {@code cursor} est le curseur de la page précédente (null pour la première)
+     */
+    @Timed(BookingMetrics.OPERATION)
+    public CursorPage<Room> getRoomsPage(String cursor, int limit) {
+        CursorPage.checkLimit(limit);
+        return CursorPage.of(roomRepo.findPage(cursor, limit + 1), limit, Room::getId);
+    }
+
+    /**
+     * Parcours incrémental de toutes les salles, sans les charger en une liste
+     */
+    public Stream<Room> streamAllRooms() {
+        return roomRepo.streamAll();
+    }
+
+    /**
+     * Liste les plages libres d'une salle pour une journée
+     */
+    @Timed(BookingMetrics.OPERATION)
+    public List<TimeSlot> getAvailabilities(String id, LocalDate date) {
+        if (id ==null || id.trim().isEmpty()){
+            throw new IllegalArgumentException("Room id is null or empty");
+        }
+        if (date == null) {
+            throw new IllegalArgumentException("Date is required");
+        }
+        if (!roomRepo.existsByID(id)) {
+            throw new IllegalArgumentException("Room does not exists with id :" + id);
+        }
+        return roomAvailability.getAvailabilities(id, date);
+    }
+
+    /**
+     * Cherche les salles d'au moins {@code minCapacity} places libres sur [start, end[,
+     * de la plus petite à la plus grande
+     */
+    @Timed(BookingMetrics.OPERATION)
+    public List<Room> findAvailableRooms(int minCapacity, LocalDateTime start, LocalDateTime end) {
+        if (minCapacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive integer");
+        }
+        if (start == null || end == null) {
+            throw new IllegalArgumentException("Start time and end time are required");
+        }
+        if (!end.isAfter(start)) {
+            throw new IllegalArgumentException("End time must be after start time");
+        }
+        if (!SlotGrid.isWorkingDay(start.toLocalDate()) || !SlotGrid.isWithinOpeningHours(start, end)) {
+            // Hors des horaires de réservation, aucune salle ne peut être libre
+            return new ArrayList<>();
+        }
+        if (!SlotGrid.isAligned(start) || !SlotGrid.isAligned(end)) {
+            throw new IllegalArgumentException("Start and end times must be on " + SlotGrid.SLOT_MINUTES + " minutes slots");
+        }
+        List<Room> result = new ArrayList<>();
+        for (Room room : roomRepo.findByMinCapacity(minCapacity)) {
+            if (roomAvailability.isFree(room.getId(), start, end)) {
+                result.add(room);
+            }
+        }
+        return result;
     }
 
     private void verify(Room room) {
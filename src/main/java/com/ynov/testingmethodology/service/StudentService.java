@@ -1,24 +1,38 @@
 package com.ynov.testingmethodology.service;
 
+import com.ynov.testingmethodology.ids.EntityIds;
+import com.ynov.testingmethodology.ids.IdDictionary;
+import com.ynov.testingmethodology.metrics.BookingMetrics;
 import com.ynov.testingmethodology.model.Student;
 import com.ynov.testingmethodology.model.Reservation;
+import com.ynov.testingmethodology.repository.CursorPage;
 import com.ynov.testingmethodology.repository.StudentRepository;
 import com.ynov.testingmethodology.repository.ReservationRepository;
+import io.micrometer.core.annotation.Timed;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 @Service
 public class StudentService {
     private final StudentRepository studentRepo;
+    private final EntityIds ids;
+    private final ReservationService reservationService;
 
     @Autowired
-    public StudentService(StudentRepository studentRepo) {
+    public StudentService(StudentRepository studentRepo, EntityIds ids, ReservationService reservationService,
+                          BookingMetrics metrics) {
         this.studentRepo = studentRepo;
+        this.ids = ids;
+        this.reservationService = reservationService;
+        metrics.gauge("booking.ids.size", "Handles allocated by the id dictionary",
+                ids.students(), IdDictionary::size, "entity", "student");
     }
 
+    @Timed(BookingMetrics.OPERATION)
     public Student registerStudent(Student student) {
         validate(student);
 
@@ -26,22 +40,67 @@ public class StudentService {
             throw new IllegalArgumentException("Student already exists");
         }
 
-        return studentRepo.save(student);
+        Student saved = studentRepo.save(student);
+        // Attribue dès l'inscription le handle utilisé par les index internes
+        ids.students().intern(saved.getId());
+        return saved;
     }
 
+    /**
+     * Inscrit un lot d'étudiants (import) : les règles de registerStudent sont vérifiées en parallèle,
+     * les ids déjà inscrits sont cherchés en un seul appel et les étudiants retenus sont enregistrés
+     * en un seul saveAll. Un étudiant refusé n'interrompt pas le reste du lot.
+     */
+    @Timed(BookingMetrics.OPERATION)
+    public BatchResult<Student> registerStudents(List<Student> students) {
+        if (students == null) {
+            throw new IllegalArgumentException("Students are required");
+        }
+        String[] errors = BatchResult.screen(students, this::validate, Student::getId,
+                studentRepo::findExistingIds, "Student");
+        List<Student> accepted = BatchResult.accepted(students, errors);
+        List<Student> saved = accepted.isEmpty() ? List.of() : studentRepo.saveAll(accepted);
+        saved.forEach(student -> ids.students().intern(student.getId()));
+        return BatchResult.of(saved, errors);
+    }
 
+
+    /**
+     * Supprime un étudiant et le retire de ses réservations ; celles dont il était le seul participant sont annulées
+     */
+    @Timed(BookingMetrics.OPERATION)
     public void deleteStudent(String id) {
         if (!studentRepo.existsByID(id)) {
             throw new IllegalArgumentException("Student does not exists with id :" + id);
         }
 
+        // Supprimé d'abord : une réservation concurrente le voit absent, ou est reprise par la cascade
         studentRepo.deleteById(id);
+        reservationService.removeStudentFromReservations(id);
     }
 
+    @Timed(BookingMetrics.OPERATION)
     public List<Student> getAllStudents() {
         return studentRepo.findAll();
     }
 
+    /**
+     * Page d'étudiants triés par id ; {@code cursor} est le curseur de la page précédente (null pour la première)
+     */
+    @Timed(BookingMetrics.OPERATION)
+    public CursorPage<Student> getStudentsPage(String cursor, int limit) {
+        CursorPage.checkLimit(limit);
+        return CursorPage.of(studentRepo.findPage(cursor, limit + 1), limit, Student::getId);
+    }
+
+    /**
+     * Parcours incrémental de tous les étudiants, sans les charger en une liste
+     */
+    public Stream<Student> streamAllStudents() {
+        return studentRepo.streamAll();
+    }
+
+    @Timed(BookingMetrics.OPERATION)
     public Optional<Student> getStudentById(String id) {
         if (id ==null || id.trim().isEmpty()){
             throw new IllegalArgumentException("Student id is null");
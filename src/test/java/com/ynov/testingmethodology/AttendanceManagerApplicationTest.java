@@ -0,0 +1,32 @@
+package com.ynov.testingmethodology;
+
+import com.ynov.testingmethodology.controller.RoomResource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@DisplayName("Application Tests")
+public class AttendanceManagerApplicationTest {
+
+    @Autowired
+    private TestRestTemplate rest;
+
+    @Test
+    @DisplayName("Context - should serve the room API")
+    void contextLoads_andServesRooms() {
+        // When
+        ResponseEntity<RoomResource> created = rest.postForEntity("/api/rooms", new RoomResource("r1", "Room A", 30), RoomResource.class);
+        ResponseEntity<RoomResource> found = rest.getForEntity("/api/rooms/r1", RoomResource.class);
+
+        // Then
+        assertEquals(HttpStatus.CREATED, created.getStatusCode());
+        assertEquals(new RoomResource("r1", "Room A", 30), found.getBody());
+    }
+}
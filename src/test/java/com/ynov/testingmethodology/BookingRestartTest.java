@@ -0,0 +1,92 @@
+package com.ynov.testingmethodology;
+
+import com.ynov.testingmethodology.model.Reservation;
+import com.ynov.testingmethodology.model.Room;
+import com.ynov.testingmethodology.model.Student;
+import com.ynov.testingmethodology.schedule.UpcomingReservations;
+import com.ynov.testingmethodology.service.ReservationService;
+import com.ynov.testingmethodology.service.RoomService;
+import com.ynov.testingmethodology.service.StudentService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.NestedExceptionUtils;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Booking Restart Tests")
+public class BookingRestartTest {
+
+    @TempDir
+    Path dir;
+
+    private ConfigurableApplicationContext start(String... properties) {
+        return new SpringApplicationBuilder(AttendanceManagerApplication.class)
+                .properties("server.port=0")
+                .properties(properties)
+                .run();
+    }
+
+    @Test
+    @DisplayName("Restart with snapshot and journal - should restore rooms, students and reservations")
+    void restart_shouldRestoreEverything() {
+        assertRestored("booking.store=map");
+    }
+
+    @Test
+    @DisplayName("Restart on the columnar store - should restore rooms, students and reservations")
+    void restart_onColumnarStore_shouldRestoreEverything() {
+        assertRestored("booking.store=columnar");
+    }
+
+    private void assertRestored(String store) {
+        // Given
+        String[] persistence = {store,
+                "booking.snapshot.path=" + dir.resolve("bookings.snapshot"),
+                "booking.journal.path=" + dir.resolve("reservations.journal")};
+        LocalDateTime start = LocalDateTime.now().plusDays(1).withHour(10).truncatedTo(ChronoUnit.HOURS);
+        UpcomingReservations stopped;
+        try (ConfigurableApplicationContext context = start(persistence)) {
+            Room room = context.getBean(RoomService.class).addRoom(new Room("r1", "Room A", 30));
+            Student student = context.getBean(StudentService.class).registerStudent(new Student("s1", "John", "Doe"));
+            context.getBean(ReservationService.class).createReservation(
+                    new Reservation("res1", new ArrayList<>(List.of(student)), room, start, start.plusHours(2)));
+            stopped = context.getBean(ReservationService.class).getUpcomingPartition();
+        }
+        // Le tic a été arrêté à la fermeture du contexte : il peut être redémarré
+        assertDoesNotThrow(() -> stopped.start(Duration.ofSeconds(1)));
+        stopped.close();
+
+        // When
+        try (ConfigurableApplicationContext context = start(persistence)) {
+
+            // Then
+            assertTrue(context.getBean(RoomService.class).getRoomById("r1").isPresent());
+            assertTrue(context.getBean(StudentService.class).getStudentById("s1").isPresent());
+            ReservationService reservations = context.getBean(ReservationService.class);
+            assertEquals(List.of("res1"), reservations.getReservationsByRoom("r1").stream().map(Reservation::getId).toList());
+            // Les index d'occupation ont été reconstruits : le créneau reste pris
+            assertThrows(IllegalArgumentException.class, () -> reservations.createReservation(
+                    new Reservation("res2", new ArrayList<>(), context.getBean(RoomService.class).getRoomById("r1").orElseThrow(),
+                            start, start.plusHours(1))));
+        }
+    }
+
+    @Test
+    @DisplayName("Journal without snapshot - should refuse to start")
+    void journalAlone_shouldFailToStart() {
+        Exception failure = assertThrows(Exception.class,
+                () -> start("booking.journal.path=" + dir.resolve("reservations.journal")).close());
+        assertEquals("booking.journal.path requires booking.snapshot.path",
+                NestedExceptionUtils.getMostSpecificCause(failure).getMessage());
+    }
+}
@@ -0,0 +1,76 @@
+package com.ynov.testingmethodology.controller;
+
+import com.ynov.testingmethodology.model.Reservation;
+import com.ynov.testingmethodology.model.Room;
+import com.ynov.testingmethodology.model.Student;
+import com.ynov.testingmethodology.service.BookingConflictException;
+import com.ynov.testingmethodology.service.ReservationService;
+import com.ynov.testingmethodology.service.RoomService;
+import com.ynov.testingmethodology.service.StudentService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(ReservationController.class)
+@DisplayName("Reservation Controller Tests")
+public class ReservationControllerTest {
+
+    private static final String BODY = """
+            {"id":"res1","roomId":"r1","studentIds":["s1"],
+             "startTime":"2030-06-25T10:00:00","endTime":"2030-06-25T12:00:00"}""";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private ReservationService reservationService;
+    @MockitoBean
+    private RoomService roomService;
+    @MockitoBean
+    private StudentService studentService;
+
+    @BeforeEach
+    void setUp() {
+        when(roomService.getRoomById("r1")).thenReturn(Optional.of(new Room("r1", "Room A", 30)));
+        when(studentService.getStudentById("s1")).thenReturn(Optional.of(new Student("s1", "John", "Doe")));
+    }
+
+    @Test
+    @DisplayName("POST - should create the reservation and return it by ids")
+    void create_ShouldReturnCreated() throws Exception {
+        // Given
+        when(reservationService.createReservation(any(Reservation.class))).thenAnswer(call -> call.getArgument(0));
+
+        // When & Then
+        mockMvc.perform(post("/api/reservations").contentType(MediaType.APPLICATION_JSON).content(BODY))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.roomId").value("r1"))
+                .andExpect(jsonPath("$.studentIds[0]").value("s1"));
+    }
+
+    @Test
+    @DisplayName("POST - should answer 409 when the slot is already booked")
+    void create_withConflict_ShouldReturnConflict() throws Exception {
+        // Given
+        when(reservationService.createReservation(any(Reservation.class)))
+                .thenThrow(new BookingConflictException(BookingConflictException.Kind.ROOM, "Room r1 is already booked"));
+
+        // When & Then
+        mockMvc.perform(post("/api/reservations").contentType(MediaType.APPLICATION_JSON).content(BODY))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.message").value("Room r1 is already booked"));
+    }
+}
@@ -0,0 +1,105 @@
+package com.ynov.testingmethodology.exporter;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ynov.testingmethodology.model.Reservation;
+import com.ynov.testingmethodology.model.Room;
+import com.ynov.testingmethodology.model.Student;
+import com.ynov.testingmethodology.service.ReservationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Reservation Exporter Tests")
+public class ReservationExporterTest {
+
+    @Mock
+    private ReservationService reservationService;
+
+    private ReservationExporter exporter;
+    private Reservation res1;
+    private Reservation res2;
+
+    @BeforeEach
+    void setUp() {
+        exporter = new ReservationExporter(reservationService);
+        Student s1 = new Student("s1", "John", "Doe");
+        Student s2 = new Student("s2", "Jane", "Smith");
+        res1 = new Reservation("res1", new ArrayList<>(List.of(s1, s2)), new Room("r1", "Room A", 30),
+                LocalDateTime.of(2025, 6, 25, 10, 0), LocalDateTime.of(2025, 6, 25, 12, 0));
+        res2 = new Reservation("res,2", new ArrayList<>(List.of(s2)), new Room("r2", "Room B", 40),
+                LocalDateTime.of(2025, 6, 26, 8, 0), LocalDateTime.of(2025, 6, 26, 9, 0));
+    }
+
+    @Test
+    @DisplayName("CSV - should write the import columns and quote fields holding a comma")
+    void export_csv_shouldWriteImportColumns() throws IOException {
+        // Given
+        when(reservationService.streamCandidates(null, null, null, null)).thenReturn(Stream.of(res1, res2));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        long count = exporter.export(ExportFilter.all(), ReservationExporter.Format.CSV, out);
+
+        // Then
+        assertEquals(2, count);
+        assertEquals("""
+                id,roomId,studentIds,startTime,endTime
+                res1,r1,s1;s2,2025-06-25T10:00,2025-06-25T12:00
+                "res,2",r2,s2,2025-06-26T08:00,2025-06-26T09:00
+                """, out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("JSON Lines to a file channel - should write one filtered reservation per line")
+    void export_jsonLines_shouldApplyFilter(@TempDir Path dir) throws IOException {
+        // Given
+        Path file = dir.resolve("reservations.jsonl");
+        ExportFilter filter = new ExportFilter(null, "s2", LocalDateTime.of(2025, 6, 26, 0, 0), null);
+        // Candidats lus par l'index de l'étudiant ; la date reste filtrée par l'export
+        when(reservationService.streamCandidates(null, "s2", filter.from(), null)).thenReturn(Stream.of(res1, res2));
+
+        // When
+        long count;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            count = exporter.export(filter, ReservationExporter.Format.JSON_LINES, channel);
+        }
+
+        // Then
+        assertEquals(1, count);
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(1, lines.size());
+        JsonNode json = new ObjectMapper().readTree(lines.get(0));
+        assertEquals("res,2", json.get("id").asText());
+        assertEquals("s2", json.get("studentIds").get(0).asText());
+        assertEquals("2025-06-26T08:00", json.get("startTime").asText());
+    }
+
+    @Test
+    @DisplayName("Filter with an empty date range - should throw IllegalArgumentException")
+    void filter_withEmptyRange_shouldThrow() {
+        LocalDateTime at = LocalDateTime.of(2025, 6, 26, 0, 0);
+
+        assertThrows(IllegalArgumentException.class, () -> new ExportFilter(null, null, at, at));
+    }
+}
@@ -0,0 +1,113 @@
+package com.ynov.testingmethodology.importer;
+
+import com.ynov.testingmethodology.ids.EntityIds;
+import com.ynov.testingmethodology.metrics.BookingMetrics;
+import com.ynov.testingmethodology.repository.InMemoryReservationRepository;
+import com.ynov.testingmethodology.repository.InMemoryReservationSeriesRepository;
+import com.ynov.testingmethodology.repository.InMemoryRoomRepository;
+import com.ynov.testingmethodology.repository.InMemoryStudentRepository;
+import com.ynov.testingmethodology.schedule.RoomAvailability;
+import com.ynov.testingmethodology.schedule.StudentSchedule;
+import com.ynov.testingmethodology.service.ReservationService;
+import com.ynov.testingmethodology.service.RoomService;
+import com.ynov.testingmethodology.service.StudentService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CSV Importer Tests")
+public class CsvImporterTest {
+
+    private InMemoryStudentRepository studentRepo;
+    private InMemoryRoomRepository roomRepo;
+    private InMemoryReservationRepository reservationRepo;
+    private RoomService roomService;
+    private CsvImporter importer;
+
+    @BeforeEach
+    void setUp() {
+        studentRepo = new InMemoryStudentRepository();
+        roomRepo = new InMemoryRoomRepository();
+        reservationRepo = new InMemoryReservationRepository();
+        EntityIds ids = new EntityIds();
+        BookingMetrics metrics = new BookingMetrics();
+        RoomAvailability roomAvailability = new RoomAvailability();
+        ReservationService reservationService = new ReservationService(reservationRepo, new InMemoryReservationSeriesRepository(),
+                roomRepo, studentRepo, roomAvailability, new StudentSchedule(), metrics);
+        roomService = new RoomService(roomRepo, roomAvailability, ids, reservationService, metrics);
+        StudentService studentService = new StudentService(studentRepo, ids, reservationService, metrics);
+        // Blocs de deux lignes pour traverser plusieurs lots
+        importer = new CsvImporter(studentService, roomService, reservationService, studentRepo, roomRepo, 2);
+    }
+
+    private static List<Long> lines(ImportReport report) {
+        return report.errors().stream().map(ImportReport.LineError::line).toList();
+    }
+
+    @Test
+    @DisplayName("Students - should import valid lines and report the others with their line number")
+    void importStudents_shouldReportRejectedLines() throws IOException {
+        // Given
+        String csv = """
+                id,firstName,lastName
+                s1,John,Doe
+                s2,"Smith, Jr",Jane
+
+                s3,Missing
+                s1,Again,Doe
+                s4,Alice,
+                s5,Bob,Martin
+                """;
+
+        // When
+        ImportReport report = importer.importStudents(new StringReader(csv));
+
+        // Then
+        assertEquals(6, report.lines());
+        assertEquals(3, report.imported());
+        assertEquals(3, report.rejected());
+        assertEquals(List.of(5L, 6L, 7L), lines(report));
+        assertEquals("Expected 3 columns but found 2", report.errors().get(0).message());
+        assertEquals("Student already exists with id s1", report.errors().get(1).message());
+        assertEquals("Smith, Jr", studentRepo.findById("s2").orElseThrow().getFirstName());
+        assertTrue(studentRepo.existsByID("s5"));
+    }
+
+    @Test
+    @DisplayName("Reservations - should book each valid line and reject conflicts, unknown references and bad dates")
+    void importReservations_shouldRejectLinesSeparately() throws IOException {
+        // Given
+        importer.importRooms(new StringReader("id,name,capacity\nr1,Room A,30\nr2,Room B,abc\n"));
+        importer.importStudents(new StringReader("id,firstName,lastName\ns1,John,Doe\ns2,Jane,Smith\n"));
+        LocalDate monday = LocalDate.now().plusWeeks(1).with(TemporalAdjusters.next(DayOfWeek.MONDAY));
+        String csv = "id,roomId,studentIds,startTime,endTime\n"
+                + "res1,r1,s1;s2," + monday.atTime(10, 0) + "," + monday.atTime(12, 0) + "\n"
+                + "res2,r1,s1," + monday.atTime(11, 0) + "," + monday.atTime(12, 0) + "\n"
+                + "res3,r1,s9," + monday.atTime(14, 0) + "," + monday.atTime(15, 0) + "\n"
+                + "res4,r2,s1," + monday.atTime(14, 0) + "," + monday.atTime(15, 0) + "\n"
+                + "res5,r1,s2,tomorrow," + monday.atTime(15, 0) + "\n"
+                + "res6,r1,s2," + monday.atTime(14, 0) + "," + monday.atTime(15, 0) + "\n";
+
+        // When
+        ImportReport report = importer.importReservations(new StringReader(csv));
+
+        // Then
+        assertEquals(2, report.imported());
+        assertEquals(List.of(3L, 4L, 5L, 6L), lines(report));
+        assertTrue(report.errors().get(0).message().startsWith("Room r1 is already booked"));
+        assertEquals("Student does not exists with id :s9", report.errors().get(1).message());
+        assertEquals("Room does not exists with id :r2", report.errors().get(2).message());
+        assertEquals("Invalid date time: tomorrow", report.errors().get(3).message());
+        assertEquals(List.of("res1", "res6"), reservationRepo.findByRoomId("r1").stream().map(r -> r.getId()).toList());
+        assertEquals(List.of("r1"), roomService.getAllRooms().stream().map(r -> r.getId()).toList());
+    }
+}
@@ -0,0 +1,170 @@
+package com.ynov.testingmethodology.persistence;
+
+import com.ynov.testingmethodology.model.Reservation;
+import com.ynov.testingmethodology.model.ReservationSeries;
+import com.ynov.testingmethodology.model.Room;
+import com.ynov.testingmethodology.model.Student;
+import com.ynov.testingmethodology.repository.InMemoryReservationRepository;
+import com.ynov.testingmethodology.repository.InMemoryReservationSeriesRepository;
+import com.ynov.testingmethodology.repository.InMemoryRoomRepository;
+import com.ynov.testingmethodology.repository.InMemoryStudentRepository;
+import com.ynov.testingmethodology.repository.JournaledReservationRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Booking Snapshots Tests")
+public class BookingSnapshotsTest {
+
+    @TempDir
+    Path dir;
+
+    private BookingSnapshots snapshots(InMemoryStudentRepository students, InMemoryRoomRepository rooms,
+                                       InMemoryReservationSeriesRepository series, InMemoryReservationRepository reservations) {
+        return new BookingSnapshots(students, rooms, series, reservations);
+    }
+
+    @Test
+    @DisplayName("Write then load - should restore every repository")
+    void writeThenLoad_shouldRestoreState() {
+        // Given
+        InMemoryStudentRepository students = new InMemoryStudentRepository();
+        InMemoryRoomRepository rooms = new InMemoryRoomRepository();
+        InMemoryReservationSeriesRepository series = new InMemoryReservationSeriesRepository();
+        InMemoryReservationRepository reservations = new InMemoryReservationRepository();
+        Student s1 = students.save(new Student("s1", "John", "Doe"));
+        Student s2 = students.save(new Student("s2", "Jane", "Smith"));
+        Room room = rooms.save(new Room("r1", "Room A", 30));
+        series.save(new ReservationSeries("ser1", List.of(s1), room, LocalDate.of(2025, 9, 2), LocalDate.of(2025, 12, 16),
+                LocalTime.of(10, 0), LocalTime.of(12, 0), 2));
+        reservations.save(new Reservation("res1", new ArrayList<>(List.of(s1, s2)), room,
+                LocalDateTime.of(2025, 6, 25, 8, 0), LocalDateTime.of(2025, 6, 25, 10, 0)));
+        Path path = dir.resolve("bookings.snapshot");
+
+        // When
+        BookingSnapshots.Summary written = snapshots(students, rooms, series, reservations).write(path);
+        InMemoryStudentRepository loadedStudents = new InMemoryStudentRepository();
+        InMemoryRoomRepository loadedRooms = new InMemoryRoomRepository();
+        InMemoryReservationSeriesRepository loadedSeries = new InMemoryReservationSeriesRepository();
+        InMemoryReservationRepository loadedReservations = new InMemoryReservationRepository();
+        BookingSnapshots.Summary loaded = snapshots(loadedStudents, loadedRooms, loadedSeries, loadedReservations).load(path);
+
+        // Then
+        assertEquals(new BookingSnapshots.Summary(2, 1, 1, 1), written);
+        assertEquals(written, loaded);
+        assertEquals("Jane", loadedStudents.findById("s2").orElseThrow().getFirstName());
+        assertEquals(30, loadedRooms.findById("r1").orElseThrow().getCapacity());
+        ReservationSeries restoredSeries = loadedSeries.findById("ser1").orElseThrow();
+        assertEquals(2, restoredSeries.getIntervalWeeks());
+        assertEquals(LocalTime.of(10, 0), restoredSeries.getStartTime());
+        Reservation restored = loadedReservations.findById("res1").orElseThrow();
+        assertEquals(LocalDateTime.of(2025, 6, 25, 10, 0), restored.getEndTime());
+        assertEquals(List.of("res1"), loadedReservations.findByStudentId("s2").stream().map(Reservation::getId).toList());
+        // Les participants pointent sur les étudiants chargés
+        assertSame(loadedStudents.findById("s1").orElseThrow(), restored.getStudents().get(0));
+    }
+
+    @Test
+    @DisplayName("Corrupted file - should be rejected without touching the repositories")
+    void load_corruptedFile_shouldThrow() throws IOException {
+        // Given
+        InMemoryStudentRepository students = new InMemoryStudentRepository();
+        students.save(new Student("s1", "John", "Doe"));
+        Path path = dir.resolve("bookings.snapshot");
+        snapshots(students, new InMemoryRoomRepository(), new InMemoryReservationSeriesRepository(),
+                new InMemoryReservationRepository()).write(path);
+        byte[] bytes = Files.readAllBytes(path);
+        // Altère une lettre de "John" : le fichier reste lisible mais le CRC diffère
+        bytes[28] ^= 1;
+        Files.write(path, bytes);
+        InMemoryStudentRepository target = new InMemoryStudentRepository();
+
+        // When / Then
+        assertThrows(IllegalStateException.class, () -> snapshots(target, new InMemoryRoomRepository(),
+                new InMemoryReservationSeriesRepository(), new InMemoryReservationRepository()).load(path));
+        assertTrue(target.findAll().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Other format version - should be rejected")
+    void load_otherVersion_shouldThrow() throws IOException {
+        // Given
+        Path path = dir.resolve("bookings.snapshot");
+        snapshots(new InMemoryStudentRepository(), new InMemoryRoomRepository(), new InMemoryReservationSeriesRepository(),
+                new InMemoryReservationRepository()).write(path);
+        byte[] bytes = Files.readAllBytes(path);
+        // Version (int) écrite juste après le nombre magique
+        bytes[7] = 2;
+        Files.write(path, bytes);
+
+        // When
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> snapshots(new InMemoryStudentRepository(),
+                new InMemoryRoomRepository(), new InMemoryReservationSeriesRepository(),
+                new InMemoryReservationRepository()).load(path));
+
+        // Then
+        assertEquals("Unsupported snapshot version 2", e.getMessage());
+    }
+
+    @Test
+    @DisplayName("Missing file - should load nothing")
+    void load_missingFile_shouldReturnEmptySummary() {
+        assertEquals(new BookingSnapshots.Summary(0, 0, 0, 0), snapshots(new InMemoryStudentRepository(),
+                new InMemoryRoomRepository(), new InMemoryReservationSeriesRepository(),
+                new InMemoryReservationRepository()).load(dir.resolve("none.snapshot")));
+    }
+
+    @Test
+    @DisplayName("Journaled write - should record the journal position, truncate it and restore without replaying twice")
+    void write_withJournal_shouldTruncateCoveredRecords() {
+        // Given
+        InMemoryStudentRepository students = new InMemoryStudentRepository();
+        InMemoryRoomRepository rooms = new InMemoryRoomRepository();
+        InMemoryReservationSeriesRepository series = new InMemoryReservationSeriesRepository();
+        Student s1 = students.save(new Student("s1", "John", "Doe"));
+        Room room = rooms.save(new Room("r1", "Room A", 30));
+        Path journalPath = dir.resolve("reservations.journal");
+        Path path = dir.resolve("bookings.snapshot");
+        BookingSnapshots.Summary written;
+        try (JournaledReservationRepository journal = new JournaledReservationRepository(journalPath, 4096, true,
+                new InMemoryReservationRepository())) {
+            for (int i = 0; i < 10; i++) {
+                journal.save(new Reservation("res" + i, new ArrayList<>(List.of(s1)), room,
+                        LocalDateTime.of(2025, 6, 25, 8, 0), LocalDateTime.of(2025, 6, 25, 9, 0)));
+            }
+
+            // When
+            written = new BookingSnapshots(students, rooms, series, journal, Runnable::run, journal).write(path);
+            journal.delete(journal.findById("res0").orElseThrow());
+        }
+
+        // Then
+        assertEquals(10, written.journalSequence());
+        // Seule la suppression postérieure à l'instantané reste dans le journal
+        try (JournaledReservationRepository alone = new JournaledReservationRepository(journalPath, 4096, true,
+                new InMemoryReservationRepository())) {
+            assertTrue(alone.findAll().isEmpty());
+        }
+        InMemoryReservationRepository memory = new InMemoryReservationRepository();
+        BookingSnapshots.Summary loaded = snapshots(new InMemoryStudentRepository(), new InMemoryRoomRepository(),
+                new InMemoryReservationSeriesRepository(), memory).load(path);
+        assertEquals(written, loaded);
+        try (JournaledReservationRepository reopened = new JournaledReservationRepository(journalPath, 4096, true,
+                memory, loaded.journalSequence())) {
+            assertEquals(9, reopened.findAll().size());
+            assertTrue(reopened.findById("res0").isEmpty());
+            assertEquals(11, reopened.lastSequence());
+        }
+    }
+}
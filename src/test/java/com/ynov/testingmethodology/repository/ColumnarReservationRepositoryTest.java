@@ -0,0 +1,174 @@
+package com.ynov.testingmethodology.repository;
+
+import com.ynov.testingmethodology.model.Reservation;
+import com.ynov.testingmethodology.model.Room;
+import com.ynov.testingmethodology.model.Student;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Columnar Reservation Repository Tests")
+public class ColumnarReservationRepositoryTest {
+
+    private ColumnarReservationRepository repository;
+    private Student s1;
+    private Room room;
+
+    @BeforeEach
+    void setUp() {
+        repository = new ColumnarReservationRepository();
+        s1 = new Student("s1", "John", "Doe");
+        room = new Room("r1", "Room A", 30);
+    }
+
+    private static List<String> ids(Iterable<Reservation> reservations) {
+        List<String> result = new ArrayList<>();
+        reservations.forEach(res -> result.add(res.getId()));
+        return result;
+    }
+
+    @Test
+    @DisplayName("Saved reservation - should be materialized with the same values")
+    void save_shouldMaterializeSameValues() {
+        // Given
+        repository.save(new Reservation("res1", new ArrayList<>(List.of(s1)), room,
+                LocalDateTime.of(2025, 6, 25, 8, 0), LocalDateTime.of(2025, 6, 25, 9, 30)));
+
+        // When
+        Reservation found = repository.findById("res1").orElseThrow();
+
+        // Then
+        assertEquals(LocalDateTime.of(2025, 6, 25, 8, 0), found.getStartTime());
+        assertEquals(LocalDateTime.of(2025, 6, 25, 9, 30), found.getEndTime());
+        assertSame(room, found.getRoom());
+        assertEquals(List.of(s1), found.getStudents());
+        assertTrue(repository.findById("res2").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Update - should bump the stored version and reject the previous one")
+    void update_shouldCompareVersions() {
+        // Given
+        repository.save(new Reservation("res1", new ArrayList<>(List.of(s1)), room,
+                LocalDateTime.of(2025, 6, 25, 8, 0), LocalDateTime.of(2025, 6, 25, 9, 0)));
+        Reservation edit = repository.findById("res1").orElseThrow();
+        edit.setEndTime(LocalDateTime.of(2025, 6, 25, 10, 0));
+
+        // When
+        repository.update(edit);
+
+        // Then
+        Reservation found = repository.findById("res1").orElseThrow();
+        assertEquals(1, found.getVersion());
+        assertEquals(LocalDateTime.of(2025, 6, 25, 10, 0), found.getEndTime());
+        edit.setVersion(0);
+        assertThrows(StaleReservationException.class, () -> repository.update(edit));
+    }
+
+    @Test
+    @DisplayName("Seconds in times - should throw IllegalArgumentException")
+    void save_withSeconds_shouldThrow() {
+        Reservation res = new Reservation("res1", new ArrayList<>(List.of(s1)), room,
+                LocalDateTime.of(2025, 6, 25, 8, 0, 15), LocalDateTime.of(2025, 6, 25, 9, 0));
+
+        assertThrows(IllegalArgumentException.class, () -> repository.save(res));
+    }
+
+    @Test
+    @DisplayName("Deleted and moved rows - should be reused and leave the old room and student lists")
+    void delete_shouldReuseRows() {
+        // Given
+        Room other = new Room("r2", "Room B", 40);
+        Student s2 = new Student("s2", "Jane", "Smith");
+
+        // When
+        for (int i = 0; i < 100; i++) {
+            Reservation res = new Reservation("res" + i, new ArrayList<>(List.of(s1)), room,
+                    LocalDateTime.of(2025, 6, 25, 8, 0), LocalDateTime.of(2025, 6, 25, 9, 0));
+            repository.save(res);
+            repository.delete(res);
+        }
+        repository.save(new Reservation("kept", new ArrayList<>(List.of(s1)), room,
+                LocalDateTime.of(2025, 6, 25, 8, 0), LocalDateTime.of(2025, 6, 25, 9, 0)));
+        repository.save(new Reservation("kept", new ArrayList<>(List.of(s2)), other,
+                LocalDateTime.of(2025, 6, 25, 10, 0), LocalDateTime.of(2025, 6, 25, 11, 0)));
+
+        // Then
+        assertEquals(1, repository.rowCount());
+        assertTrue(repository.findByRoomId("r1").isEmpty());
+        assertTrue(repository.findByStudentId("s1").isEmpty());
+        assertEquals(List.of("kept"), ids(repository.findByRoomId("r2")));
+        assertEquals(List.of("kept"), ids(repository.findByStudentId("s2")));
+    }
+
+    @Test
+    @DisplayName("Random operations - should answer like the in-memory repository")
+    void randomOperations_shouldMatchInMemoryRepository() {
+        // Given
+        InMemoryReservationRepository reference = new InMemoryReservationRepository();
+        Random random = new Random(7);
+        List<Room> rooms = List.of(room, new Room("r2", "Room B", 40), new Room("r3", "Room C", 10));
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            students.add(new Student("s" + i, "First" + i, "Last" + i));
+        }
+        LocalDateTime origin = LocalDateTime.of(2025, 6, 23, 8, 0);
+
+        // When
+        for (int i = 0; i < 3000; i++) {
+            String id = "res" + random.nextInt(400);
+            if (random.nextInt(4) == 0) {
+                Reservation victim = new Reservation(id, null, null, null, null);
+                repository.delete(victim);
+                reference.delete(victim);
+                continue;
+            }
+            LocalDateTime start = origin.plusMinutes(30L * random.nextInt(300));
+            List<Student> group = new ArrayList<>();
+            for (int k = 0; k < random.nextInt(4); k++) {
+                group.add(students.get(random.nextInt(students.size())));
+            }
+            Reservation res = new Reservation(id, group, rooms.get(random.nextInt(rooms.size())),
+                    start, start.plusMinutes(30L * (1 + random.nextInt(6))));
+            repository.save(res);
+            reference.save(res);
+        }
+
+        // Then
+        assertEquals(reference.findAll().size(), repository.size());
+        for (Room r : rooms) {
+            assertEquals(ids(reference.findByRoomId(r.getId())), ids(repository.findByRoomId(r.getId())));
+        }
+        for (Student s : students) {
+            assertEquals(reference.findByStudentId(s.getId()).stream().map(Reservation::getId).sorted().toList(),
+                    repository.findByStudentId(s.getId()).stream().map(Reservation::getId).sorted().toList());
+        }
+        for (int q = 0; q < 50; q++) {
+            LocalDateTime from = origin.plusMinutes(30L * random.nextInt(300));
+            LocalDateTime to = from.plusHours(1 + random.nextInt(48));
+            assertEquals(ids(reference.findBetween(from, to)), ids(repository.findBetween(from, to)));
+            assertEquals(ids(reference.findOverlapping("r2", from, to)), ids(repository.findOverlapping("r2", from, to)));
+            assertEquals(ids(reference.findAfterDate(from)), ids(repository.findAfterDate(from)));
+            assertEquals(ids(reference.findBeforeDate(from)), ids(repository.findBeforeDate(from)));
+            assertEquals(reference.findSummariesBetween(from, to), repository.findSummariesBetween(from, to));
+        }
+        for (Room r : rooms) {
+            assertEquals(reference.findSummariesByRoomId(r.getId()), repository.findSummariesByRoomId(r.getId()));
+        }
+        // Parcours complet par pages, curseur sur le dernier id lu
+        String cursor = null;
+        List<Reservation> page;
+        do {
+            page = repository.findPage(cursor, 37);
+            assertEquals(ids(reference.findPage(cursor, 37)), ids(page));
+            cursor = page.isEmpty() ? cursor : page.get(page.size() - 1).getId();
+        } while (page.size() == 37);
+    }
+}
@@ -0,0 +1,286 @@
+package com.ynov.testingmethodology.repository;
+
+import com.ynov.testingmethodology.model.Reservation;
+import com.ynov.testingmethodology.model.Room;
+import com.ynov.testingmethodology.model.Student;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("In-memory Reservation Repository Tests")
+public class InMemoryReservationRepositoryTest {
+
+    private InMemoryReservationRepository repository;
+
+    private Student s1;
+    private Student s2;
+    private Room room;
+    private Room room2;
+
+    @BeforeEach
+    void setUp() {
+        repository = new InMemoryReservationRepository();
+        s1 = new Student("s1", "John", "Doe");
+        s2 = new Student("s2", "Jane", "Smith");
+        room = new Room("r1", "Room A", 30);
+        room2 = new Room("r2", "Room B", 40);
+    }
+
+    private Reservation reservation(String id, Room room, int startHour, int endHour, Student... students) {
+        return new Reservation(id, new ArrayList<>(Arrays.asList(students)), room,
+                LocalDateTime.of(2025, 6, 25, startHour, 0),
+                LocalDateTime.of(2025, 6, 25, endHour, 0));
+    }
+
+    @Nested
+    @DisplayName("findOverlapping Tests")
+    class FindOverlappingTests {
+        @Test
+        @DisplayName("Nominal case - should return only overlapping reservations of the room")
+        void findOverlapping_shouldReturnOverlappingReservations() {
+            // Given
+            Reservation morning = repository.save(reservation("res1", room, 8, 10, s1));
+            Reservation noon = repository.save(reservation("res2", room, 11, 13, s2));
+            repository.save(reservation("res3", room, 14, 16, s1));
+            repository.save(reservation("res4", room2, 9, 12, s2));
+
+            // When
+            List<Reservation> result = repository.findOverlapping("r1",
+                    LocalDateTime.of(2025, 6, 25, 9, 30),
+                    LocalDateTime.of(2025, 6, 25, 12, 0));
+
+            // Then
+            assertEquals(Arrays.asList(morning, noon), result);
+        }
+
+        @Test
+        @DisplayName("Adjacent slots - should not overlap")
+        void findOverlapping_withAdjacentSlot_shouldReturnEmptyList() {
+            // Given
+            repository.save(reservation("res1", room, 10, 12, s1));
+
+            // When
+            List<Reservation> result = repository.findOverlapping("r1",
+                    LocalDateTime.of(2025, 6, 25, 12, 0),
+                    LocalDateTime.of(2025, 6, 25, 14, 0));
+
+            // Then
+            assertTrue(result.isEmpty());
+        }
+
+        @Test
+        @DisplayName("Updated reservation - should be indexed under its new slot only")
+        void findOverlapping_afterUpdate_shouldUseNewSlot() {
+            // Given
+            Reservation res = repository.save(reservation("res1", room, 10, 12, s1));
+            res.setStartTime(LocalDateTime.of(2025, 6, 25, 15, 0));
+            res.setEndTime(LocalDateTime.of(2025, 6, 25, 16, 0));
+
+            // When
+            repository.save(res);
+
+            // Then
+            assertTrue(repository.findOverlapping("r1",
+                    LocalDateTime.of(2025, 6, 25, 10, 0),
+                    LocalDateTime.of(2025, 6, 25, 12, 0)).isEmpty());
+            assertEquals(List.of(res), repository.findOverlapping("r1",
+                    LocalDateTime.of(2025, 6, 25, 15, 30),
+                    LocalDateTime.of(2025, 6, 25, 17, 0)));
+        }
+
+        @Test
+        @DisplayName("Random intervals - should match a linear scan")
+        void findOverlapping_withRandomIntervals_shouldMatchLinearScan() {
+            // Given
+            Random random = new Random(42);
+            LocalDateTime origin = LocalDateTime.of(2025, 6, 23, 8, 0);
+            List<Reservation> all = new ArrayList<>();
+            for (int i = 0; i < 500; i++) {
+                LocalDateTime start = origin.plusMinutes(30L * random.nextInt(500));
+                LocalDateTime end = start.plusMinutes(30L * (1 + random.nextInt(8)));
+                Reservation res = new Reservation("res" + i, new ArrayList<>(List.of(s1)), room, start, end);
+                all.add(repository.save(res));
+            }
+            for (int i = 0; i < 200; i += 3) {
+                repository.delete(all.get(i));
+            }
+
+            // When / Then
+            for (int q = 0; q < 100; q++) {
+                LocalDateTime start = origin.plusMinutes(30L * random.nextInt(500));
+                LocalDateTime end = start.plusMinutes(30L * (1 + random.nextInt(8)));
+                List<Reservation> expected = new ArrayList<>();
+                for (Reservation res : repository.findByRoomId("r1")) {
+                    if (res.getStartTime().isBefore(end) && res.getEndTime().isAfter(start)) {
+                        expected.add(res);
+                    }
+                }
+                assertEquals(expected, repository.findOverlapping("r1", start, end));
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Time index Tests")
+    class TimeIndexTests {
+        @Test
+        @DisplayName("findAfterDate / findBeforeDate - should split on start time")
+        void findAfterAndBeforeDate_shouldSplitOnStartTime() {
+            // Given
+            Reservation early = repository.save(reservation("res1", room, 8, 10, s1));
+            Reservation noon = repository.save(reservation("res2", room2, 12, 13, s2));
+            Reservation late = repository.save(reservation("res3", room, 16, 18, s2));
+            LocalDateTime noonTime = LocalDateTime.of(2025, 6, 25, 12, 0);
+
+            // Then
+            assertEquals(List.of(late), repository.findAfterDate(noonTime));
+            assertEquals(List.of(early), repository.findBeforeDate(noonTime));
+            assertEquals(Arrays.asList(early, noon, late), repository.findAfterDate(noonTime.minusDays(1)));
+        }
+
+        @Test
+        @DisplayName("findBetween - should return a sorted live view of the range")
+        void findBetween_shouldReturnSortedView() {
+            // Given
+            Reservation late = repository.save(reservation("res1", room, 11, 12, s1));
+            Reservation early = repository.save(reservation("res2", room2, 9, 10, s2));
+            repository.save(reservation("res3", room, 14, 15, s2));
+
+            // When
+            Collection<Reservation> view = repository.findBetween(LocalDateTime.of(2025, 6, 25, 9, 0), LocalDateTime.of(2025, 6, 25, 14, 0));
+            Reservation added = repository.save(reservation("res4", room2, 10, 11, s1));
+
+            // Then
+            assertEquals(Arrays.asList(early, added, late), new ArrayList<>(view));
+        }
+
+        @Test
+        @DisplayName("Moved reservation - should be re-indexed on its new start time")
+        void findBetween_afterUpdate_shouldUseNewStartTime() {
+            // Given
+            Reservation res = repository.save(reservation("res1", room, 9, 10, s1));
+            res.setStartTime(LocalDateTime.of(2025, 6, 25, 15, 0));
+            res.setEndTime(LocalDateTime.of(2025, 6, 25, 16, 0));
+
+            // When
+            repository.save(res);
+
+            // Then
+            assertTrue(repository.findBetween(LocalDateTime.of(2025, 6, 25, 8, 0), LocalDateTime.of(2025, 6, 25, 12, 0)).isEmpty());
+            assertEquals(List.of(res), new ArrayList<>(repository.findBetween(
+                    LocalDateTime.of(2025, 6, 25, 12, 0), LocalDateTime.of(2025, 6, 25, 18, 0))));
+        }
+    }
+
+    @Nested
+    @DisplayName("Lookup Tests")
+    class LookupTests {
+        @Test
+        @DisplayName("findByRoomId - should return reservations sorted by start time")
+        void findByRoomId_shouldReturnSortedReservations() {
+            // Given
+            Reservation late = repository.save(reservation("res1", room, 14, 16, s1));
+            Reservation early = repository.save(reservation("res2", room, 8, 9, s2));
+
+            // Then
+            assertEquals(Arrays.asList(early, late), repository.findByRoomId("r1"));
+            assertTrue(repository.findByRoomId("r2").isEmpty());
+        }
+
+        @Test
+        @DisplayName("findByStudentId - should return reservations of the student")
+        void findByStudentId_shouldReturnReservations() {
+            // Given
+            Reservation res1 = repository.save(reservation("res1", room, 8, 10, s1, s2));
+            Reservation res2 = repository.save(reservation("res2", room2, 10, 12, s2));
+
+            // Then
+            assertEquals(List.of(res1), repository.findByStudentId("s1"));
+            assertEquals(Arrays.asList(res1, res2), repository.findByStudentId("s2"));
+        }
+
+        @Test
+        @DisplayName("delete - should remove the reservation from every index")
+        void delete_shouldRemoveFromIndexes() {
+            // Given
+            Reservation res = repository.save(reservation("res1", room, 8, 10, s1));
+
+            // When
+            repository.delete(res);
+
+            // Then
+            assertTrue(repository.findById("res1").isEmpty());
+            assertTrue(repository.findByRoomId("r1").isEmpty());
+            assertTrue(repository.findByStudentId("s1").isEmpty());
+            assertTrue(repository.findAll().isEmpty());
+        }
+
+        @Test
+        @DisplayName("findPage - should resume after the cursor in id order")
+        void findPage_shouldResumeAfterCursor() {
+            // Given
+            Reservation res3 = repository.save(reservation("res3", room, 8, 9, s1));
+            Reservation res1 = repository.save(reservation("res1", room, 10, 11, s1));
+            Reservation res2 = repository.save(reservation("res2", room2, 12, 13, s2));
+
+            // When
+            List<Reservation> first = repository.findPage(null, 2);
+            repository.delete(res2);
+            List<Reservation> second = repository.findPage(first.get(1).getId(), 2);
+
+            // Then
+            assertEquals(Arrays.asList(res1, res2), first);
+            assertEquals(List.of(res3), second);
+            assertEquals(2, repository.streamAll().count());
+        }
+    }
+
+    @Nested
+    @DisplayName("update Tests")
+    class UpdateTests {
+        @Test
+        @DisplayName("Two edits of the same version - should accept the first and reject the second")
+        void update_withStaleVersion_shouldThrow() {
+            // Given
+            repository.save(reservation("res1", room, 8, 10, s1));
+            Reservation first = repository.findById("res1").orElseThrow().copy();
+            Reservation second = repository.findById("res1").orElseThrow().copy();
+            first.setRoom(room2);
+
+            // When
+            repository.update(first);
+            StaleReservationException e = assertThrows(StaleReservationException.class, () -> repository.update(second));
+
+            // Then
+            assertEquals(1, first.getVersion());
+            assertEquals(0, e.getExpectedVersion());
+            assertEquals(1, e.getCurrentVersion());
+            assertEquals(List.of(first), repository.findByRoomId("r2"));
+            assertTrue(repository.findByRoomId("r1").isEmpty());
+        }
+
+        @Test
+        @DisplayName("Deleted reservation - should throw StaleReservationException")
+        void update_afterDelete_shouldThrow() {
+            // Given
+            Reservation res = repository.save(reservation("res1", room, 8, 10, s1));
+            Reservation edit = res.copy();
+            repository.delete(res);
+
+            // Then
+            StaleReservationException e = assertThrows(StaleReservationException.class, () -> repository.update(edit));
+            assertEquals(StaleReservationException.DELETED, e.getCurrentVersion());
+            assertTrue(repository.findAll().isEmpty());
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.ynov.testingmethodology.repository;
+
+import com.ynov.testingmethodology.model.Room;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("In-memory Room Repository Tests")
+public class InMemoryRoomRepositoryTest {
+
+    private InMemoryRoomRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new InMemoryRoomRepository();
+    }
+
+    @Test
+    @DisplayName("findByMinCapacity - should return rooms sorted by capacity")
+    void findByMinCapacity_shouldReturnSortedRooms() {
+        // Given
+        Room large = repository.save(new Room("1", "Amphi", 200));
+        Room small = repository.save(new Room("2", "Salle 101", 12));
+        Room medium = repository.save(new Room("3", "Salle 102", 30));
+
+        // Then
+        assertEquals(Arrays.asList(small, medium, large), repository.findByMinCapacity(1));
+        assertEquals(Arrays.asList(medium, large), repository.findByMinCapacity(13));
+        assertTrue(repository.findByMinCapacity(201).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Capacity change - should re-index the room")
+    void save_withNewCapacity_shouldReindex() {
+        // Given
+        Room room = repository.save(new Room("1", "Salle 101", 12));
+
+        // When
+        room.setCapacity(50);
+        repository.save(room);
+
+        // Then
+        assertEquals(List.of(room), repository.findByMinCapacity(40));
+    }
+
+    @Test
+    @DisplayName("deleteById - should remove the room from the capacity index")
+    void deleteById_shouldRemoveFromIndex() {
+        // Given
+        repository.save(new Room("1", "Salle 101", 12));
+
+        // When
+        repository.deleteById("1");
+
+        // Then
+        assertFalse(repository.existsByID("1"));
+        assertTrue(repository.findByMinCapacity(1).isEmpty());
+    }
+}
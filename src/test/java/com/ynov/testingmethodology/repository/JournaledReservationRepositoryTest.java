@@ -0,0 +1,181 @@
+package com.ynov.testingmethodology.repository;
+
+import com.ynov.testingmethodology.model.Reservation;
+import com.ynov.testingmethodology.model.Room;
+import com.ynov.testingmethodology.model.Student;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Journaled Reservation Repository Tests")
+public class JournaledReservationRepositoryTest {
+
+    @TempDir
+    Path dir;
+
+    private Path journal;
+    private Student s1;
+    private Student s2;
+    private Room room;
+
+    @BeforeEach
+    void setUp() {
+        journal = dir.resolve("reservations.journal");
+        s1 = new Student("s1", "John", "Doe");
+        s2 = new Student("s2", "Jane", "Smith");
+        room = new Room("r1", "Room A", 30);
+    }
+
+    private Reservation reservation(String id, int startHour, int endHour, Student... students) {
+        return new Reservation(id, new ArrayList<>(List.of(students)), room,
+                LocalDateTime.of(2025, 6, 25, startHour, 0),
+                LocalDateTime.of(2025, 6, 25, endHour, 0));
+    }
+
+    private JournaledReservationRepository open(int regionSize) {
+        return new JournaledReservationRepository(journal, regionSize, true, new InMemoryReservationRepository());
+    }
+
+    @Test
+    @DisplayName("Reopen after an update - should restore the version and keep rejecting stale edits")
+    void reopen_shouldRestoreVersion() {
+        // Given
+        try (JournaledReservationRepository repository = open(4096)) {
+            repository.save(reservation("res1", 8, 10, s1));
+            Reservation edit = repository.findById("res1").orElseThrow().copy();
+            edit.setStudents(new ArrayList<>(List.of(s1, s2)));
+            repository.update(edit);
+        }
+
+        // When
+        try (JournaledReservationRepository reopened = open(4096)) {
+
+            // Then
+            Reservation found = reopened.findById("res1").orElseThrow();
+            assertEquals(1, found.getVersion());
+            assertEquals(2, found.getStudents().size());
+            Reservation stale = found.copy();
+            stale.setVersion(0);
+            assertThrows(StaleReservationException.class, () -> reopened.update(stale));
+        }
+    }
+
+    @Test
+    @DisplayName("Reopen - should replay creations, updates and deletions")
+    void reopen_shouldReplayJournal() {
+        // Given
+        try (JournaledReservationRepository repository = open(4096)) {
+            repository.save(reservation("res1", 8, 10, s1, s2));
+            repository.save(reservation("res2", 10, 12, s2));
+            repository.saveAll(List.of(reservation("res3", 12, 14, s1), reservation("res4", 14, 16, s1)));
+            repository.save(reservation("res1", 16, 18, s1));
+            repository.delete(reservation("res2", 10, 12, s2));
+        }
+
+        // When
+        try (JournaledReservationRepository reopened = open(4096)) {
+
+            // Then
+            List<Reservation> all = reopened.findAll();
+            assertEquals(List.of("res1", "res3", "res4"), all.stream().map(Reservation::getId).toList());
+            Reservation moved = reopened.findById("res1").orElseThrow();
+            assertEquals(LocalDateTime.of(2025, 6, 25, 16, 0), moved.getStartTime());
+            assertEquals(List.of("s1"), moved.getStudents().stream().map(Student::getId).toList());
+            assertEquals("Room A", moved.getRoom().getName());
+            assertEquals(3, reopened.findByStudentId("s1").size());
+            assertTrue(reopened.findByStudentId("s2").isEmpty());
+            // Les salles relues sont partagées entre réservations
+            assertSame(moved.getRoom(), reopened.findById("res3").orElseThrow().getRoom());
+        }
+    }
+
+    @Test
+    @DisplayName("Many records - should span several regions")
+    void save_beyondOneRegion_shouldRollOver() {
+        // Given
+        try (JournaledReservationRepository repository = open(1024)) {
+            for (int i = 0; i < 200; i++) {
+                repository.save(reservation("res" + i, 8 + i % 10, 9 + i % 10, s1));
+            }
+        }
+
+        // When
+        try (JournaledReservationRepository reopened = open(1024)) {
+
+            // Then
+            assertEquals(200, reopened.findAll().size());
+            reopened.save(reservation("res200", 8, 9, s2));
+        }
+        try (JournaledReservationRepository reopened = open(1024)) {
+            assertEquals(201, reopened.findAll().size());
+        }
+    }
+
+    @Test
+    @DisplayName("Torn last record - should be ignored and overwritten")
+    void reopen_withCorruptedTail_shouldStopAtLastValidRecord() throws IOException {
+        // Given
+        try (JournaledReservationRepository repository = open(4096)) {
+            repository.save(reservation("res1", 8, 10, s1));
+            repository.save(reservation("res2", 10, 12, s2));
+        }
+        try (RandomAccessFile file = new RandomAccessFile(journal.toFile(), "rw")) {
+            // Altère le dernier octet non nul : la fin de res2
+            long position = file.length() - 1;
+            file.seek(position);
+            while (file.read() == 0) {
+                file.seek(--position);
+            }
+            file.seek(position);
+            file.write(0x7F);
+        }
+
+        // When
+        try (JournaledReservationRepository reopened = open(4096)) {
+            reopened.save(reservation("res3", 12, 14, s1));
+        }
+
+        // Then
+        try (JournaledReservationRepository reopened = open(4096)) {
+            assertEquals(List.of("res1", "res3"), reopened.findAll().stream().map(Reservation::getId).toList());
+        }
+    }
+
+    @Test
+    @DisplayName("Truncate - should drop covered records and keep numbering across reopen")
+    void truncateThrough_shouldKeepLaterRecordsOnly() {
+        // Given
+        long covered;
+        try (JournaledReservationRepository repository = open(1024)) {
+            for (int i = 0; i < 40; i++) {
+                repository.save(reservation("res" + i, 8, 9, s1));
+            }
+            covered = repository.lastSequence();
+            repository.save(reservation("res40", 10, 11, s2));
+
+            // When
+            repository.truncateThrough(covered);
+            repository.delete(reservation("res40", 10, 11, s2));
+            repository.save(reservation("res41", 12, 13, s2));
+            assertEquals(covered + 3, repository.lastSequence());
+        }
+
+        // Then
+        InMemoryReservationRepository memory = new InMemoryReservationRepository();
+        memory.save(reservation("res0", 8, 9, s1));
+        try (JournaledReservationRepository reopened = new JournaledReservationRepository(journal, 1024, true, memory, covered)) {
+            assertEquals(List.of("res0", "res41"), reopened.findAll().stream().map(Reservation::getId).toList());
+            assertEquals(covered + 3, reopened.lastSequence());
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package com.ynov.testingmethodology.repository.jpa;
+
+import com.ynov.testingmethodology.model.Reservation;
+import com.ynov.testingmethodology.model.ReservationSeries;
+import com.ynov.testingmethodology.model.ReservationSummary;
+import com.ynov.testingmethodology.model.Room;
+import com.ynov.testingmethodology.model.Student;
+import com.ynov.testingmethodology.repository.StaleReservationException;
+import com.ynov.testingmethodology.service.BookingConflictException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("jpa")
+@Import({JpaRepositoriesConfiguration.class, JpaReservationRepository.class, JpaRoomRepository.class, JpaStudentRepository.class,
+        JpaReservationSeriesRepository.class})
+@DisplayName("JPA Reservation Repository Tests")
+public class JpaReservationRepositoryTest {
+
+    @Autowired
+    private JpaReservationRepository repository;
+    @Autowired
+    private JpaRoomRepository rooms;
+    @Autowired
+    private JpaStudentRepository students;
+    @Autowired
+    private JpaReservationSeriesRepository series;
+
+    private Student s1;
+    private Student s2;
+    private Room room;
+
+    @BeforeEach
+    void setUp() {
+        s1 = students.save(new Student("s1", "John", "Doe"));
+        s2 = students.save(new Student("s2", "Jane", "Smith"));
+        room = rooms.save(new Room("r1", "Room A", 30));
+        rooms.save(new Room("r2", "Room B", 40));
+    }
+
+    private Reservation reservation(String id, String roomId, int startHour, int endHour, Student... participants) {
+        return new Reservation(id, new ArrayList<>(Arrays.asList(participants)), new Room(roomId, null, null),
+                LocalDateTime.of(2025, 6, 25, startHour, 0),
+                LocalDateTime.of(2025, 6, 25, endHour, 0));
+    }
+
+    private static List<String> ids(List<Reservation> reservations) {
+        return reservations.stream().map(Reservation::getId).toList();
+    }
+
+    @Test
+    @DisplayName("saveAll - should store the batch with its room and participants in order")
+    void saveAll_shouldStoreBatch() {
+        // When
+        repository.saveAll(List.of(
+                reservation("res2", "r1", 14, 16, s2, s1),
+                reservation("res1", "r1", 8, 10, s1),
+                reservation("res3", "r2", 8, 10, s2)));
+
+        // Then
+        assertEquals(List.of("res1", "res2"), ids(repository.findByRoomId("r1")));
+        assertEquals(List.of("res1", "res2"), ids(repository.findByStudentId("s1")));
+        Reservation found = repository.findById("res2").orElseThrow();
+        assertEquals("Room A", found.getRoom().getName());
+        assertEquals(List.of("s2", "s1"), found.getStudents().stream().map(Student::getId).toList());
+    }
+
+    @Test
+    @DisplayName("findOverlapping - should only return reservations of the room crossing the interval")
+    void findOverlapping_shouldUseHalfOpenIntervals() {
+        // Given
+        repository.save(reservation("res1", "r1", 8, 10, s1));
+        repository.save(reservation("res2", "r1", 10, 12, s1));
+        repository.save(reservation("res3", "r2", 9, 11, s2));
+
+        // Then
+        assertEquals(List.of("res2"), ids(repository.findOverlapping("r1",
+                LocalDateTime.of(2025, 6, 25, 10, 0), LocalDateTime.of(2025, 6, 25, 11, 0))));
+        assertTrue(repository.findOverlapping("r1",
+                LocalDateTime.of(2025, 6, 25, 12, 0), LocalDateTime.of(2025, 6, 25, 13, 0)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("update - should replace an existing reservation and keep pages in id order")
+    void update_shouldReplaceExisting() {
+        // Given
+        repository.save(reservation("res1", "r1", 8, 10, s1));
+        repository.save(reservation("res2", "r1", 10, 12, s1));
+
+        // When
+        repository.update(reservation("res1", "r2", 14, 15, s2));
+
+        // Then
+        Reservation updated = repository.findById("res1").orElseThrow();
+        assertEquals("r2", updated.getRoom().getId());
+        assertEquals(List.of("s2"), updated.getStudents().stream().map(Student::getId).toList());
+        assertTrue(repository.findByStudentId("s1").stream().noneMatch(r -> r.getId().equals("res1")));
+        assertEquals(List.of("res2"), ids(repository.findPage("res1", 10)));
+        assertEquals(2, repository.streamAll().count());
+    }
+
+    @Test
+    @DisplayName("save - should reject a reservation overlapping a stored one of the same room or student")
+    void save_shouldRejectConflicts() {
+        // Given
+        repository.save(reservation("res1", "r1", 8, 10, s1));
+
+        // Then
+        BookingConflictException room = assertThrows(BookingConflictException.class,
+                () -> repository.save(reservation("res2", "r1", 9, 11, s2)));
+        assertEquals(BookingConflictException.Kind.ROOM, room.getKind());
+        BookingConflictException student = assertThrows(BookingConflictException.class,
+                () -> repository.saveAll(List.of(reservation("res3", "r2", 9, 11, s2, s1))));
+        assertEquals(BookingConflictException.Kind.STUDENT, student.getKind());
+        assertTrue(student.getMessage().contains("s1"));
+        assertThrows(IllegalArgumentException.class, () -> repository.save(reservation("res4", "r9", 12, 13, s1)));
+    }
+
+    @Test
+    @DisplayName("saveAll - should find a conflict anywhere in the batch and store nothing")
+    void saveAll_shouldCheckWholeBatch() {
+        // Given
+        repository.save(reservation("res1", "r2", 14, 16, s1));
+
+        // When
+        BookingConflictException e = assertThrows(BookingConflictException.class, () -> repository.saveAll(List.of(
+                reservation("res2", "r1", 8, 10, s1),
+                reservation("res3", "r1", 10, 12, s2),
+                reservation("res4", "r2", 15, 17, s2))));
+
+        // Then
+        assertEquals(BookingConflictException.Kind.ROOM, e.getKind());
+        assertTrue(e.getMessage().contains("r2"));
+        assertTrue(repository.findById("res2").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Series - should be stored with their room and participants")
+    void series_shouldBeStored() {
+        // Given
+        ReservationSeries weekly = new ReservationSeries("ser1", new ArrayList<>(List.of(s1, s2)), new Room("r2", null, null),
+                LocalDate.of(2025, 9, 2), LocalDate.of(2025, 12, 16), LocalTime.of(10, 0), LocalTime.of(12, 0));
+
+        // When
+        series.save(weekly);
+        ReservationSeries remaining = weekly.copy();
+        remaining.setStudents(new ArrayList<>(List.of(s2)));
+        series.save(remaining);
+
+        // Then
+        ReservationSeries found = series.findById("ser1").orElseThrow();
+        assertEquals("Room B", found.getRoom().getName());
+        assertEquals(List.of("s2"), found.getStudents().stream().map(Student::getId).toList());
+        assertEquals(1, series.findByRoomId("r2").size());
+        assertTrue(series.findByStudentId("s1").isEmpty());
+        series.delete(found);
+        assertTrue(series.findAll().isEmpty());
+    }
+
+    @Test
+    @DisplayName("update - should increment the version and reject an edit based on an older one")
+    void update_shouldCheckVersion() {
+        // Given
+        repository.save(reservation("res1", "r1", 8, 10, s1));
+        Reservation first = repository.findById("res1").orElseThrow();
+        Reservation second = repository.findById("res1").orElseThrow();
+        first.setStudents(new ArrayList<>(List.of(s1, s2)));
+
+        // When
+        repository.update(first);
+
+        // Then
+        assertEquals(1, first.getVersion());
+        assertEquals(1, repository.findById("res1").orElseThrow().getVersion());
+        StaleReservationException e = assertThrows(StaleReservationException.class, () -> repository.update(second));
+        assertEquals(1, e.getCurrentVersion());
+        assertEquals(2, repository.findByStudentId("s2").get(0).getStudents().size());
+    }
+
+    @Test
+    @DisplayName("Summaries - should be projected in start order with the headcount")
+    void summaries_shouldBeProjected() {
+        // Given
+        repository.save(reservation("res2", "r1", 14, 16, s1, s2));
+        repository.save(reservation("res1", "r1", 8, 10, s1));
+        repository.save(reservation("res3", "r2", 8, 10, s2));
+
+        // When
+        List<ReservationSummary> byRoom = repository.findSummariesByRoomId("r1");
+
+        // Then
+        assertEquals(List.of(new ReservationSummary("res1", "r1", LocalDateTime.of(2025, 6, 25, 8, 0), LocalDateTime.of(2025, 6, 25, 10, 0), 1),
+                new ReservationSummary("res2", "r1", LocalDateTime.of(2025, 6, 25, 14, 0), LocalDateTime.of(2025, 6, 25, 16, 0), 2)), byRoom);
+        assertEquals(List.of("res3", "res2"), repository.findSummariesByStudentId("s2").stream().map(ReservationSummary::id).toList());
+        assertEquals(List.of("res1", "res3"), repository.findSummariesBetween(LocalDateTime.of(2025, 6, 25, 8, 0),
+                LocalDateTime.of(2025, 6, 25, 12, 0)).stream().map(ReservationSummary::id).toList());
+    }
+}
@@ -0,0 +1,157 @@
+package com.ynov.testingmethodology.schedule;
+
+import com.ynov.testingmethodology.model.Reservation;
+import com.ynov.testingmethodology.model.Room;
+import com.ynov.testingmethodology.model.Student;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Room Availability Tests")
+public class RoomAvailabilityTest {
+
+    private RoomAvailability availability;
+    private Room room;
+    private Student student;
+
+    @BeforeEach
+    void setUp() {
+        availability = new RoomAvailability();
+        room = new Room("r1", "Room A", 30);
+        student = new Student("s1", "John", "Doe");
+    }
+
+    private Reservation reservation(String id, int startHour, int startMinute, int endHour, int endMinute) {
+        return new Reservation(id, List.of(student), room,
+                LocalDateTime.of(2025, 6, 25, startHour, startMinute),
+                LocalDateTime.of(2025, 6, 25, endHour, endMinute));
+    }
+
+    @Nested
+    @DisplayName("SlotGrid Tests")
+    class SlotGridTests {
+        @Test
+        @DisplayName("A day has 24 slots")
+        void slotsPerDay_shouldBe24() {
+            assertEquals(24, SlotGrid.SLOTS_PER_DAY);
+        }
+
+        @Test
+        @DisplayName("mask - should set one bit per covered slot")
+        void mask_shouldCoverSlots() {
+            assertEquals(0b1L, SlotGrid.mask(LocalDateTime.of(2025, 6, 25, 8, 0), LocalDateTime.of(2025, 6, 25, 8, 30)));
+            assertEquals(0b11100L, SlotGrid.mask(LocalDateTime.of(2025, 6, 25, 9, 0), LocalDateTime.of(2025, 6, 25, 10, 30)));
+            assertEquals(SlotGrid.FULL_DAY, SlotGrid.mask(LocalDateTime.of(2025, 6, 25, 8, 0), LocalDateTime.of(2025, 6, 25, 20, 0)));
+        }
+
+        @Test
+        @DisplayName("isWithinOpeningHours - should reject overnight ranges")
+        void isWithinOpeningHours_overnight_shouldReturnFalse() {
+            assertFalse(SlotGrid.isWithinOpeningHours(LocalDateTime.of(2025, 6, 25, 19, 0), LocalDateTime.of(2025, 6, 26, 0, 0)));
+            assertTrue(SlotGrid.isWithinOpeningHours(LocalDateTime.of(2025, 6, 25, 19, 0), LocalDateTime.of(2025, 6, 25, 20, 0)));
+        }
+    }
+
+    @Nested
+    @DisplayName("isFree Tests")
+    class IsFreeTests {
+        @Test
+        @DisplayName("Overlapping slot - should not be free")
+        void isFree_withOverlap_shouldReturnFalse() {
+            // Given
+            availability.occupy(reservation("res1", 10, 0, 12, 0));
+
+            // Then
+            assertFalse(availability.isFree("r1", LocalDateTime.of(2025, 6, 25, 11, 30), LocalDateTime.of(2025, 6, 25, 13, 0)));
+            assertTrue(availability.isFree("r1", LocalDateTime.of(2025, 6, 25, 12, 0), LocalDateTime.of(2025, 6, 25, 13, 0)));
+            assertTrue(availability.isFree("r2", LocalDateTime.of(2025, 6, 25, 10, 0), LocalDateTime.of(2025, 6, 25, 12, 0)));
+        }
+
+        @Test
+        @DisplayName("Same reservation - should ignore its own slots")
+        void isFree_sameReservation_shouldIgnoreItself() {
+            // Given
+            Reservation res = reservation("res1", 10, 0, 12, 0);
+            availability.occupy(res);
+
+            // When
+            res.setEndTime(LocalDateTime.of(2025, 6, 25, 13, 0));
+
+            // Then
+            assertTrue(availability.isFree(res));
+            assertFalse(availability.isFree(reservation("res2", 11, 0, 11, 30)));
+        }
+
+        @Test
+        @DisplayName("Days far apart - should keep every day's slots")
+        void occupy_daysFarApart_shouldKeepAllSlots() {
+            // Given
+            LocalDateTime middle = LocalDateTime.of(2025, 6, 25, 10, 0);
+            for (int offset : new int[]{0, 400, -400, 3}) {
+                availability.occupy(new Reservation("res" + offset, List.of(student), room,
+                        middle.plusDays(offset), middle.plusDays(offset).plusHours(1)));
+            }
+
+            // Then
+            for (int offset : new int[]{0, 400, -400, 3}) {
+                assertFalse(availability.isFree("r1", middle.plusDays(offset), middle.plusDays(offset).plusMinutes(30)));
+            }
+            assertTrue(availability.isFree("r1", middle.plusDays(1), middle.plusDays(1).plusHours(1)));
+        }
+
+        @Test
+        @DisplayName("Released reservation - should free its slots")
+        void release_shouldFreeSlots() {
+            // Given
+            availability.occupy(reservation("res1", 10, 0, 12, 0));
+
+            // When
+            availability.release("res1");
+
+            // Then
+            assertTrue(availability.isFree("r1", LocalDateTime.of(2025, 6, 25, 10, 0), LocalDateTime.of(2025, 6, 25, 12, 0)));
+            assertEquals(0, availability.size());
+        }
+    }
+
+    @Nested
+    @DisplayName("getAvailabilities Tests")
+    class GetAvailabilitiesTests {
+        @Test
+        @DisplayName("Empty room - should be free all day")
+        void getAvailabilities_emptyRoom_shouldReturnWholeDay() {
+            assertEquals(List.of(new TimeSlot(LocalDateTime.of(2025, 6, 25, 8, 0), LocalDateTime.of(2025, 6, 25, 20, 0))),
+                    availability.getAvailabilities("r1", LocalDate.of(2025, 6, 25)));
+        }
+
+        @Test
+        @DisplayName("Fully booked room - should return no availability")
+        void getAvailabilities_fullyBooked_shouldReturnEmptyList() {
+            // Given
+            availability.occupy(reservation("res1", 8, 0, 14, 0));
+            availability.occupy(reservation("res2", 14, 0, 20, 0));
+
+            // Then
+            assertTrue(availability.getAvailabilities("r1", LocalDate.of(2025, 6, 25)).isEmpty());
+        }
+
+        @Test
+        @DisplayName("Booked edges - should return the middle of the day")
+        void getAvailabilities_bookedEdges_shouldReturnMiddle() {
+            // Given
+            availability.occupy(reservation("res1", 8, 0, 9, 0));
+            availability.occupy(reservation("res2", 19, 30, 20, 0));
+
+            // Then
+            assertEquals(List.of(new TimeSlot(LocalDateTime.of(2025, 6, 25, 9, 0), LocalDateTime.of(2025, 6, 25, 19, 30))),
+                    availability.getAvailabilities("r1", LocalDate.of(2025, 6, 25)));
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.ynov.testingmethodology.service;
+
+import com.ynov.testingmethodology.model.Reservation;
+import com.ynov.testingmethodology.model.Room;
+import com.ynov.testingmethodology.model.Student;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Async Booking Service Tests")
+public class AsyncBookingServiceTest {
+    @Mock
+    private ReservationService reservationService;
+    @Mock
+    private RoomService roomService;
+    @Mock
+    private StudentService studentService;
+
+    private AsyncBookingService asyncService;
+    private final Room room = new Room("r1", "Room A", 30);
+    private final Student s1 = new Student("s1", "John", "Doe");
+    private final Student s2 = new Student("s2", "Jane", "Smith");
+    private final LocalDateTime start = LocalDateTime.of(2025, 6, 25, 10, 0);
+    private final LocalDateTime end = LocalDateTime.of(2025, 6, 25, 12, 0);
+
+    @BeforeEach
+    void setUp() {
+        asyncService = new AsyncBookingService(reservationService, roomService, studentService,
+                Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    @AfterEach
+    void tearDown() {
+        asyncService.close();
+    }
+
+    @Test
+    @DisplayName("book - should resolve the room and students then create the reservation")
+    void book_shouldResolveLookupsThenCreate() {
+        // Given
+        when(roomService.getRoomById("r1")).thenReturn(Optional.of(room));
+        when(studentService.getStudentById("s1")).thenReturn(Optional.of(s1));
+        when(studentService.getStudentById("s2")).thenReturn(Optional.of(s2));
+        when(reservationService.createReservation(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        Reservation result = asyncService.book("res1", "r1", List.of("s2", "s1"), start, end).join();
+
+        // Then
+        ArgumentCaptor<Reservation> captor = ArgumentCaptor.forClass(Reservation.class);
+        verify(reservationService).createReservation(captor.capture());
+        assertSame(result, captor.getValue());
+        assertEquals(room, result.getRoom());
+        assertEquals(List.of(s2, s1), result.getStudents());
+        assertEquals(start, result.getStartTime());
+    }
+
+    @Test
+    @DisplayName("book with an unknown student - should fail without creating the reservation")
+    void book_withUnknownStudent_shouldFail() {
+        // Given
+        lenient().when(roomService.getRoomById("r1")).thenReturn(Optional.of(room));
+        lenient().when(studentService.getStudentById("s1")).thenReturn(Optional.of(s1));
+        when(studentService.getStudentById("s9")).thenReturn(Optional.empty());
+
+        // When
+        CompletionException failure = assertThrows(CompletionException.class,
+                () -> asyncService.book("res1", "r1", List.of("s1", "s9"), start, end).join());
+
+        // Then
+        assertInstanceOf(IllegalArgumentException.class, failure.getCause());
+        verify(reservationService, never()).createReservation(any());
+    }
+
+    @Test
+    @DisplayName("bookFirstAvailableRoom - should book the smallest free room fitting the group")
+    void bookFirstAvailableRoom_shouldUseFirstRoom() {
+        // Given
+        Room bigger = new Room("r2", "Room B", 40);
+        when(roomService.findAvailableRooms(2, start, end)).thenReturn(List.of(room, bigger));
+        when(studentService.getStudentById("s1")).thenReturn(Optional.of(s1));
+        when(studentService.getStudentById("s2")).thenReturn(Optional.of(s2));
+        when(reservationService.createReservation(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        Reservation result = asyncService.bookFirstAvailableRoom("res1", List.of("s1", "s2"), start, end).join();
+
+        // Then
+        assertEquals(room, result.getRoom());
+        assertEquals(List.of(s1, s2), result.getStudents());
+    }
+
+    @Test
+    @DisplayName("Service rejection - should complete the future with the same exception")
+    void createReservation_rejected_shouldCompleteExceptionally() {
+        // Given
+        IllegalArgumentException rejection = new IllegalArgumentException("Reservation is null");
+        when(reservationService.createReservation(null)).thenThrow(rejection);
+
+        // When
+        CompletionException failure = assertThrows(CompletionException.class,
+                () -> asyncService.createReservation(null).join());
+
+        // Then
+        assertSame(rejection, failure.getCause());
+    }
+}
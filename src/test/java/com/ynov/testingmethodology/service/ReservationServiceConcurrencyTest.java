@@ -0,0 +1,178 @@
+package com.ynov.testingmethodology.service;
+
+import com.ynov.testingmethodology.metrics.BookingMetrics;
+import com.ynov.testingmethodology.model.Reservation;
+import com.ynov.testingmethodology.model.Room;
+import com.ynov.testingmethodology.model.Student;
+import com.ynov.testingmethodology.repository.InMemoryReservationRepository;
+import com.ynov.testingmethodology.repository.InMemoryReservationSeriesRepository;
+import com.ynov.testingmethodology.repository.InMemoryRoomRepository;
+import com.ynov.testingmethodology.repository.InMemoryStudentRepository;
+import com.ynov.testingmethodology.schedule.RoomAvailability;
+import com.ynov.testingmethodology.schedule.StudentSchedule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Reservation Service Concurrency Tests")
+public class ReservationServiceConcurrencyTest {
+
+    private static final int THREADS = 32;
+    private static final int ATTEMPTS_PER_THREAD = 2_000;
+
+    private InMemoryReservationRepository reservationRepo;
+    private InMemoryRoomRepository roomRepo;
+    private InMemoryStudentRepository studentRepo;
+    private ReservationService reservationService;
+    private List<Room> rooms;
+    private List<Student> students;
+    private LocalDate monday;
+
+    @BeforeEach
+    void setUp() {
+        reservationRepo = new InMemoryReservationRepository();
+        roomRepo = new InMemoryRoomRepository();
+        studentRepo = new InMemoryStudentRepository();
+        reservationService = new ReservationService(reservationRepo, new InMemoryReservationSeriesRepository(),
+                roomRepo, studentRepo, new RoomAvailability(), new StudentSchedule(), new BookingMetrics());
+        rooms = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            rooms.add(roomRepo.save(new Room("r" + i, "Room " + i, 30)));
+        }
+        students = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            students.add(studentRepo.save(new Student("s" + i, "First" + i, "Last" + i)));
+        }
+        monday = LocalDate.now().plusWeeks(1).with(TemporalAdjusters.next(DayOfWeek.MONDAY));
+    }
+
+    @Test
+    @DisplayName("Concurrent bookings - should never double-book a room or a student")
+    void createReservation_underContention_shouldNeverDoubleBook() throws InterruptedException {
+        // Given
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger sequence = new AtomicInteger();
+        AtomicInteger accepted = new AtomicInteger();
+
+        // When
+        for (int t = 0; t < THREADS; t++) {
+            executor.submit(() -> {
+                start.await();
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int i = 0; i < ATTEMPTS_PER_THREAD; i++) {
+                    LocalDateTime from = monday.plusDays(random.nextInt(2)).atTime(8, 0).plusMinutes(30L * random.nextInt(20));
+                    LocalDateTime to = from.plusMinutes(30L * (1 + random.nextInt(4)));
+                    List<Student> group = new ArrayList<>();
+                    for (int k = 0; k < 1 + random.nextInt(3); k++) {
+                        group.add(students.get(random.nextInt(students.size())));
+                    }
+                    Reservation res = new Reservation("res" + sequence.incrementAndGet(), group,
+                            rooms.get(random.nextInt(rooms.size())), from, to);
+                    try {
+                        reservationService.createReservation(res);
+                        accepted.incrementAndGet();
+                    } catch (IllegalArgumentException e) {
+                        // Créneau déjà pris : attendu sous contention
+                    }
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+
+        // Then
+        List<Reservation> saved = reservationRepo.findAll();
+        assertEquals(accepted.get(), saved.size());
+        assertTrue(accepted.get() > 0);
+        assertNoDoubleBooking(saved);
+    }
+
+    @Test
+    @DisplayName("Concurrent moves and bookings - should keep the indexes in line with the repository")
+    void modifyReservation_underContention_shouldNeverDoubleBook() throws InterruptedException {
+        // Given
+        RoomAvailability roomAvailability = new RoomAvailability();
+        reservationService = new ReservationService(reservationRepo, new InMemoryReservationSeriesRepository(),
+                roomRepo, studentRepo, roomAvailability, new StudentSchedule(), new BookingMetrics());
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger sequence = new AtomicInteger();
+
+        // When : la moitié des threads crée, l'autre déplace des réservations existantes
+        for (int t = 0; t < THREADS; t++) {
+            boolean mover = t % 2 == 0;
+            executor.submit(() -> {
+                start.await();
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int i = 0; i < ATTEMPTS_PER_THREAD / 2; i++) {
+                    LocalDateTime from = monday.atTime(8, 0).plusMinutes(30L * random.nextInt(20));
+                    LocalDateTime to = from.plusMinutes(30L * (1 + random.nextInt(4)));
+                    Room room = rooms.get(random.nextInt(rooms.size()));
+                    try {
+                        if (mover) {
+                            reservationService.modifyReservation("res" + (1 + random.nextInt(Math.max(1, sequence.get()))), res -> {
+                                res.setRoom(room);
+                                res.setStartTime(from);
+                                res.setEndTime(to);
+                            });
+                        } else {
+                            reservationService.createReservation(new Reservation("res" + sequence.incrementAndGet(),
+                                    new ArrayList<>(List.of(students.get(random.nextInt(students.size())))), room, from, to));
+                        }
+                    } catch (IllegalArgumentException e) {
+                        // Créneau déjà pris, réservation inconnue ou versions épuisées : attendu sous contention
+                    }
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+
+        // Then
+        List<Reservation> saved = reservationRepo.findAll();
+        assertNoDoubleBooking(saved);
+        assertEquals(saved.size(), roomAvailability.size());
+        for (Reservation res : saved) {
+            assertFalse(roomAvailability.isFree(res.getRoom().getId(), res.getStartTime(), res.getEndTime()));
+        }
+    }
+
+    private static void assertNoDoubleBooking(List<Reservation> saved) {
+        for (int i = 0; i < saved.size(); i++) {
+            for (int j = i + 1; j < saved.size(); j++) {
+                Reservation a = saved.get(i);
+                Reservation b = saved.get(j);
+                boolean overlap = a.getStartTime().isBefore(b.getEndTime()) && b.getStartTime().isBefore(a.getEndTime());
+                if (!overlap) {
+                    continue;
+                }
+                assertNotEquals(a.getRoom().getId(), b.getRoom().getId(),
+                        "Room double-booked by " + a.getId() + " and " + b.getId());
+                for (Student student : a.getStudents()) {
+                    assertFalse(b.getStudents().contains(student),
+                            "Student " + student.getId() + " double-booked by " + a.getId() + " and " + b.getId());
+                }
+            }
+        }
+    }
+}
@@ -1,25 +1,43 @@
 package com.ynov.testingmethodology.service;
 
+import com.ynov.testingmethodology.metrics.BookingMetrics;
 import com.ynov.testingmethodology.model.Reservation;
+import com.ynov.testingmethodology.model.ReservationSummary;
+import com.ynov.testingmethodology.model.ReservationSeries;
 import com.ynov.testingmethodology.model.Room;
 import com.ynov.testingmethodology.model.Student;
 import com.ynov.testingmethodology.repository.ReservationRepository;
+import com.ynov.testingmethodology.repository.ReservationSeriesRepository;
+import com.ynov.testingmethodology.repository.RoomRepository;
+import com.ynov.testingmethodology.repository.StaleReservationException;
+import com.ynov.testingmethodology.repository.StudentRepository;
+import com.ynov.testingmethodology.schedule.RoomAvailability;
+import com.ynov.testingmethodology.schedule.StudentSchedule;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -31,6 +49,24 @@ public class ReservationServiceTest {
     @Mock
     private ReservationRepository reservationRepo;
 
+    @Mock
+    private ReservationSeriesRepository seriesRepo;
+
+    @Mock
+    private RoomRepository roomRepo;
+
+    @Mock
+    private StudentRepository studentRepo;
+
+    @Spy
+    private RoomAvailability roomAvailability = new RoomAvailability();
+
+    @Spy
+    private StudentSchedule studentSchedule = new StudentSchedule();
+
+    @Spy
+    private BookingMetrics metrics = new BookingMetrics();
+
     @InjectMocks
     private ReservationService reservationService;
 
@@ -42,8 +78,22 @@ public class ReservationServiceTest {
     private Reservation testReservation;
     private Reservation savedReservation;
 
+    /**
+     * Service entouré des aspects de mesure, comme dans le contexte Spring
+     */
+    private ReservationService timed() {
+        AspectJProxyFactory factory = new AspectJProxyFactory(reservationService);
+        factory.addAspect(BookingMetrics.timedAspect(metrics.getRegistry()));
+        factory.addAspect(metrics);
+        return factory.getProxy();
+    }
+
     @BeforeEach
     void setUp() {
+        // Salles et étudiants enregistrés, sauf mention contraire
+        lenient().when(roomRepo.existsByID(anyString())).thenReturn(true);
+        lenient().when(studentRepo.existsByID(anyString())).thenReturn(true);
+
         // Create test data before each test
         s1 = new Student("s1", "John", "Doe");
         s2 = new Student("s2", "Jane", "Smith");
@@ -84,6 +134,66 @@ public class ReservationServiceTest {
             }
         }
 
+        @Test
+        @DisplayName("Room deleted meanwhile - should throw IllegalArgumentException")
+        void createReservation_withDeletedRoom_shouldThrowIllegalArgumentException() {
+            try (MockedStatic<LocalDateTime> mockedDateTime = mockStatic(LocalDateTime.class, Mockito.CALLS_REAL_METHODS)) {
+                // Given
+                LocalDateTime fixedDateTime = LocalDateTime.of(2025, 6, 20, 11, 0);
+                mockedDateTime.when(LocalDateTime::now).thenReturn(fixedDateTime);
+                when(roomRepo.existsByID(room.getId())).thenReturn(false);
+
+                // When / Then
+                IllegalArgumentException error = assertThrows(IllegalArgumentException.class,
+                        () -> reservationService.createReservation(testReservation));
+                assertEquals("Room does not exist with id: r2", error.getMessage());
+                verify(reservationRepo, never()).save(any());
+                assertTrue(roomAvailability.isFree(room.getId(), testReservation.getStartTime(), testReservation.getEndTime()));
+            }
+        }
+
+        @Test
+        @DisplayName("Existing id in another room - should throw and keep the stored booking")
+        void createReservation_withExistingId_shouldThrowIllegalArgumentException() {
+            try (MockedStatic<LocalDateTime> mockedDateTime = mockStatic(LocalDateTime.class, Mockito.CALLS_REAL_METHODS)) {
+                // Given
+                LocalDateTime fixedDateTime = LocalDateTime.of(2025, 6, 20, 11, 0);
+                mockedDateTime.when(LocalDateTime::now).thenReturn(fixedDateTime);
+                roomAvailability.occupy(testReservation);
+                when(reservationRepo.findById("res1")).thenReturn(Optional.of(testReservation));
+                Reservation again = new Reservation("res1", Arrays.asList(s1), room2,
+                        LocalDateTime.of(2025, 6, 25, 10, 0),
+                        LocalDateTime.of(2025, 6, 25, 12, 0));
+
+                // When
+                IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                        () -> reservationService.createReservation(again));
+
+                // Then
+                assertEquals("Reservation already exists with id res1", e.getMessage());
+                verify(reservationRepo, never()).save(any());
+                assertFalse(roomAvailability.isFree(room.getId(), testReservation.getStartTime(), testReservation.getEndTime()));
+            }
+        }
+
+        @Test
+        @DisplayName("Same id on the same slot - should not be exempt from its stored claim")
+        void createReservation_overlappingStoredClaimOfSameId_shouldThrowConflict() {
+            try (MockedStatic<LocalDateTime> mockedDateTime = mockStatic(LocalDateTime.class, Mockito.CALLS_REAL_METHODS)) {
+                // Given : claim encore indexé alors que le dépôt ne connaît plus la réservation
+                LocalDateTime fixedDateTime = LocalDateTime.of(2025, 6, 20, 11, 0);
+                mockedDateTime.when(LocalDateTime::now).thenReturn(fixedDateTime);
+                roomAvailability.occupy(testReservation);
+                Reservation again = new Reservation("res1", Arrays.asList(s2), room,
+                        LocalDateTime.of(2025, 6, 25, 11, 0),
+                        LocalDateTime.of(2025, 6, 25, 12, 0));
+
+                // Then
+                assertThrows(BookingConflictException.class, () -> reservationService.createReservation(again));
+                verify(reservationRepo, never()).save(any());
+            }
+        }
+
         @Test
         @DisplayName("Null reservation - should throw IllegalArgumentException")
         void createReservation_withNull_ShouldThrowIllegalArgumentException() {
@@ -200,6 +310,87 @@ public class ReservationServiceTest {
             assertThrows(IllegalArgumentException.class, () -> reservationService.createReservation(res));
         }
 
+        @Test
+        @DisplayName("Student already booked in another room - should throw IllegalArgumentException")
+        void createReservation_withStudentAlreadyBooked_ShouldThrowIllegalArgumentException() {
+            try (MockedStatic<LocalDateTime> mockedDateTime = mockStatic(LocalDateTime.class, Mockito.CALLS_REAL_METHODS)) {
+                // Given
+                LocalDateTime fixedDateTime = LocalDateTime.of(2025, 6, 20, 11, 0);
+                mockedDateTime.when(LocalDateTime::now).thenReturn(fixedDateTime);
+
+                studentSchedule.occupy(testReservation);
+                Reservation res = new Reservation("res3", Arrays.asList(s2, s1), room2,
+                        LocalDateTime.of(2025, 6, 25, 11, 30),
+                        LocalDateTime.of(2025, 6, 25, 12, 30));
+
+                // Then
+                IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> reservationService.createReservation(res));
+                assertTrue(e.getMessage().contains("s1"));
+                verify(reservationRepo, never()).save(res);
+            }
+        }
+
+        @Test
+        @DisplayName("Students free on the slot - should occupy their schedule")
+        void createReservation_withFreeStudents_ShouldOccupySchedule() {
+            try (MockedStatic<LocalDateTime> mockedDateTime = mockStatic(LocalDateTime.class, Mockito.CALLS_REAL_METHODS)) {
+                // Given
+                LocalDateTime fixedDateTime = LocalDateTime.of(2025, 6, 20, 11, 0);
+                mockedDateTime.when(LocalDateTime::now).thenReturn(fixedDateTime);
+                Reservation res = new Reservation("res3", Arrays.asList(s1, s2), room2,
+                        LocalDateTime.of(2025, 6, 25, 14, 0),
+                        LocalDateTime.of(2025, 6, 25, 15, 0));
+                when(reservationRepo.save(res)).thenReturn(res);
+
+                // When
+                reservationService.createReservation(res);
+
+                // Then
+                assertFalse(studentSchedule.isFree("s1", res.getStartTime(), res.getEndTime()));
+                assertFalse(studentSchedule.isFree("s2", res.getStartTime(), res.getEndTime()));
+            }
+        }
+
+        @Test
+        @DisplayName("Week-end day - should throw IllegalArgumentException")
+        void createReservation_onWeekEnd_ShouldThrowIllegalArgumentException() {
+            // Given
+            Reservation res = new Reservation("res1", Arrays.asList(s1), room,
+                    LocalDateTime.of(2025, 6, 28, 10, 0),
+                    LocalDateTime.of(2025, 6, 28, 12, 0));
+
+            // Then
+            assertThrows(IllegalArgumentException.class, () -> reservationService.createReservation(res));
+        }
+
+        @Test
+        @DisplayName("Outside opening hours - should throw IllegalArgumentException")
+        void createReservation_outsideOpeningHours_ShouldThrowIllegalArgumentException() {
+            // Given
+            Reservation early = new Reservation("res1", Arrays.asList(s1), room,
+                    LocalDateTime.of(2025, 6, 25, 7, 30),
+                    LocalDateTime.of(2025, 6, 25, 9, 0));
+            Reservation late = new Reservation("res2", Arrays.asList(s1), room,
+                    LocalDateTime.of(2025, 6, 25, 19, 0),
+                    LocalDateTime.of(2025, 6, 25, 20, 30));
+
+            // Then
+            assertThrows(IllegalArgumentException.class, () -> reservationService.createReservation(early));
+            assertThrows(IllegalArgumentException.class, () -> reservationService.createReservation(late));
+        }
+
+        @Test
+        @DisplayName("Not on a 30 minutes slot - should throw IllegalArgumentException")
+        void createReservation_notAlignedOnSlots_ShouldThrowIllegalArgumentException() {
+            // Given
+            Reservation res = new Reservation("res1", Arrays.asList(s1), room,
+                    LocalDateTime.of(2025, 6, 25, 10, 15),
+                    LocalDateTime.of(2025, 6, 25, 11, 0));
+
+            // Then
+            assertThrows(IllegalArgumentException.class, () -> reservationService.createReservation(res));
+        }
+
         @Test
         @DisplayName("Start time before now - should throw IllegalArgumentException")
         void createReservation_withStartTimeBeforeNow_ShouldThrowIllegalArgumentException() {
@@ -222,6 +413,49 @@ public class ReservationServiceTest {
             }
         }
 
+        @Test
+        @DisplayName("Room already booked on the slot - should throw IllegalArgumentException")
+        void createReservation_withOverlappingReservation_ShouldThrowIllegalArgumentException() {
+            try (MockedStatic<LocalDateTime> mockedDateTime = mockStatic(LocalDateTime.class, Mockito.CALLS_REAL_METHODS)) {
+                // Given
+                LocalDateTime fixedDateTime = LocalDateTime.of(2025, 6, 20, 11, 0);
+                mockedDateTime.when(LocalDateTime::now).thenReturn(fixedDateTime);
+
+                Reservation res = new Reservation("res3", Arrays.asList(s2), room,
+                        LocalDateTime.of(2025, 6, 25, 11, 0),
+                        LocalDateTime.of(2025, 6, 25, 13, 0));
+                roomAvailability.occupy(testReservation);
+
+                // Then
+                assertThrows(IllegalArgumentException.class, () -> reservationService.createReservation(res));
+                verify(reservationRepo, never()).save(res);
+            }
+        }
+
+        @Test
+        @DisplayName("Room conflict - should be counted as a conflict rejection")
+        void createReservation_withOverlappingReservation_ShouldCountConflict() {
+            LocalDateTime fixedDateTime = LocalDateTime.of(2025, 6, 20, 11, 0);
+            try (MockedStatic<LocalDateTime> mockedDateTime = mockStatic(LocalDateTime.class, Mockito.CALLS_REAL_METHODS)) {
+                // Given
+                mockedDateTime.when(LocalDateTime::now).thenReturn(fixedDateTime);
+                Reservation res = new Reservation("res3", Arrays.asList(s2), room,
+                        LocalDateTime.of(2025, 6, 25, 11, 0),
+                        LocalDateTime.of(2025, 6, 25, 13, 0));
+                roomAvailability.occupy(testReservation);
+
+                // When
+                BookingConflictException e = assertThrows(BookingConflictException.class, () -> timed().createReservation(res));
+
+                // Then
+                assertEquals(BookingConflictException.Kind.ROOM, e.getKind());
+                assertEquals(1.0, metrics.getRegistry().get(BookingMetrics.REJECTIONS)
+                        .tags("operation", "createReservation", "reason", "conflict_room").counter().count());
+                assertEquals(1, metrics.getRegistry().get(BookingMetrics.OPERATION)
+                        .tags("operation", "createReservation", "exception", "BookingConflictException").timer().count());
+            }
+        }
+
         @Test
         @DisplayName("IRRELEVANT - Both start and end time before now - should throw IllegalArgumentException")
         void createReservation_withEndTimeBeforeNow_ShouldThrowIllegalArgumentException() {
@@ -248,6 +482,358 @@ public class ReservationServiceTest {
 
     }
 
+    @Nested
+    @DisplayName("createReservations Tests")
+    class CreateReservationsTests {
+        private MockedStatic<LocalDateTime> mockedDateTime;
+
+        @BeforeEach
+        void fixNow() {
+            LocalDateTime fixedDateTime = LocalDateTime.of(2025, 6, 20, 11, 0);
+            mockedDateTime = mockStatic(LocalDateTime.class, Mockito.CALLS_REAL_METHODS);
+            mockedDateTime.when(LocalDateTime::now).thenReturn(fixedDateTime);
+        }
+
+        @AfterEach
+        void releaseNow() {
+            mockedDateTime.close();
+        }
+
+        @Test
+        @DisplayName("Valid batch - should save all reservations at once")
+        void createReservations_withValidBatch_shouldSaveAll() {
+            // Given
+            Reservation other = new Reservation("res3", Arrays.asList(s2), room,
+                    LocalDateTime.of(2025, 6, 25, 12, 0),
+                    LocalDateTime.of(2025, 6, 25, 13, 0));
+            List<Reservation> batch = Arrays.asList(testReservation, other, savedReservation);
+            when(reservationRepo.saveAll(batch)).thenReturn(batch);
+
+            // When
+            List<Reservation> result = reservationService.createReservations(batch);
+
+            // Then
+            assertEquals(batch, result);
+            verify(reservationRepo, never()).save(any());
+            assertFalse(roomAvailability.isFree(room.getId(), other.getStartTime(), other.getEndTime()));
+            assertFalse(studentSchedule.isFree(s1.getId(), testReservation.getStartTime(), testReservation.getEndTime()));
+        }
+
+        @Test
+        @DisplayName("Two batch items in the same room slot - should reject the whole batch")
+        void createReservations_withRoomConflictInsideBatch_shouldThrowIllegalArgumentException() {
+            // Given
+            Reservation other = new Reservation("res3", Arrays.asList(s2), room,
+                    LocalDateTime.of(2025, 6, 25, 11, 30),
+                    LocalDateTime.of(2025, 6, 25, 13, 0));
+
+            // Then
+            IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                    () -> reservationService.createReservations(Arrays.asList(other, testReservation)));
+            assertTrue(e.getMessage().contains("res1") && e.getMessage().contains("res3"));
+            verify(reservationRepo, never()).saveAll(any());
+        }
+
+        @Test
+        @DisplayName("Student in two batch items at the same time - should reject the whole batch")
+        void createReservations_withStudentConflictInsideBatch_shouldThrowIllegalArgumentException() {
+            // Given
+            Reservation other = new Reservation("res3", Arrays.asList(s2, s1), room2,
+                    LocalDateTime.of(2025, 6, 25, 11, 0),
+                    LocalDateTime.of(2025, 6, 25, 11, 30));
+
+            // Then
+            assertThrows(IllegalArgumentException.class,
+                    () -> reservationService.createReservations(Arrays.asList(testReservation, other)));
+            verify(reservationRepo, never()).saveAll(any());
+        }
+
+        @Test
+        @DisplayName("Batch item conflicting with an existing booking - should reject the whole batch")
+        void createReservations_withExistingConflict_shouldThrowIllegalArgumentException() {
+            // Given
+            roomAvailability.occupy(testReservation);
+            Reservation other = new Reservation("res3", Arrays.asList(s2), room,
+                    LocalDateTime.of(2025, 6, 25, 11, 0),
+                    LocalDateTime.of(2025, 6, 25, 12, 0));
+
+            // Then
+            assertThrows(IllegalArgumentException.class,
+                    () -> reservationService.createReservations(Arrays.asList(savedReservation, other)));
+            verify(reservationRepo, never()).saveAll(any());
+            assertTrue(roomAvailability.isFree(savedReservation));
+        }
+
+        @Test
+        @DisplayName("Batch item with a stored id - should reject the whole batch")
+        void createReservations_withExistingId_shouldThrowIllegalArgumentException() {
+            // Given
+            Reservation again = new Reservation("res1", Arrays.asList(s2), room2,
+                    LocalDateTime.of(2030, 6, 25, 14, 0),
+                    LocalDateTime.of(2030, 6, 25, 15, 0));
+            when(reservationRepo.findExistingIds(any())).thenReturn(Set.of("res1"));
+
+            // When
+            IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                    () -> reservationService.createReservations(List.of(again)));
+
+            // Then
+            assertEquals("Reservation #0: Reservation already exists with id res1", e.getMessage());
+            verify(reservationRepo, never()).saveAll(any());
+        }
+
+        @Test
+        @DisplayName("Invalid batch item - should report its position")
+        void createReservations_withInvalidItem_shouldReportIndex() {
+            // Given
+            Reservation invalid = new Reservation("res3", Arrays.asList(s2), null,
+                    LocalDateTime.of(2025, 6, 25, 11, 0),
+                    LocalDateTime.of(2025, 6, 25, 12, 0));
+
+            // Then
+            IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                    () -> reservationService.createReservations(Arrays.asList(testReservation, invalid)));
+            assertTrue(e.getMessage().startsWith("Reservation #1"));
+        }
+
+        @Test
+        @DisplayName("Empty batch - should throw IllegalArgumentException")
+        void createReservations_withEmptyBatch_shouldThrowIllegalArgumentException() {
+            assertThrows(IllegalArgumentException.class, () -> reservationService.createReservations(Collections.emptyList()));
+            assertThrows(IllegalArgumentException.class, () -> reservationService.createReservations(null));
+        }
+    }
+
+    @Nested
+    @DisplayName("Reservation series Tests")
+    class SeriesTests {
+        private MockedStatic<LocalDateTime> mockedDateTime;
+        private ReservationSeries series;
+
+        @BeforeEach
+        void setUpSeries() {
+            LocalDateTime fixedDateTime = LocalDateTime.of(2025, 6, 20, 11, 0);
+            // Tous les mardis de 10h00 à 12h00 jusqu'à fin juillet
+            series = new ReservationSeries("course1", Arrays.asList(s1, s2), room,
+                    LocalDate.of(2025, 6, 24), LocalDate.of(2025, 7, 29),
+                    LocalTime.of(10, 0), LocalTime.of(12, 0));
+            mockedDateTime = mockStatic(LocalDateTime.class, Mockito.CALLS_REAL_METHODS);
+            mockedDateTime.when(LocalDateTime::now).thenReturn(fixedDateTime);
+        }
+
+        @AfterEach
+        void releaseNow() {
+            mockedDateTime.close();
+        }
+
+        @Test
+        @DisplayName("Valid series - should store the rule and occupy every occurrence")
+        void createSeries_withValidSeries_shouldOccupyEveryOccurrence() {
+            // Given
+            when(seriesRepo.save(series)).thenReturn(series);
+
+            // When
+            ReservationSeries result = reservationService.createSeries(series);
+
+            // Then
+            assertEquals(series, result);
+            verify(reservationRepo, never()).save(any());
+            assertEquals(6, series.occurrences().count());
+            series.dates().forEach(date -> assertFalse(
+                    roomAvailability.isFree(room.getId(), date.atTime(10, 0), date.atTime(12, 0))));
+            assertTrue(roomAvailability.isFree(room.getId(), LocalDateTime.of(2025, 6, 25, 10, 0), LocalDateTime.of(2025, 6, 25, 12, 0)));
+        }
+
+        @Test
+        @DisplayName("Valid series - should hold a single claim per index for all its occurrences")
+        void createSeries_shouldClaimOnce() {
+            // Given
+            when(seriesRepo.save(series)).thenReturn(series);
+
+            // When
+            reservationService.createSeries(series);
+
+            // Then
+            assertEquals(1, roomAvailability.size());
+            assertEquals(1, studentSchedule.size());
+            assertFalse(studentSchedule.isFree("s2", LocalDateTime.of(2025, 7, 29, 11, 0), LocalDateTime.of(2025, 7, 29, 11, 30)));
+        }
+
+        @Test
+        @DisplayName("Existing series id - should throw and keep the stored series")
+        void createSeries_withExistingId_shouldThrowIllegalArgumentException() {
+            // Given
+            when(seriesRepo.findById("course1")).thenReturn(Optional.of(series));
+            ReservationSeries again = new ReservationSeries("course1", Arrays.asList(s1), room2,
+                    LocalDate.of(2025, 6, 25), LocalDate.of(2025, 7, 30),
+                    LocalTime.of(14, 0), LocalTime.of(16, 0));
+
+            // Then
+            assertThrows(IllegalArgumentException.class, () -> reservationService.createSeries(again));
+            verify(seriesRepo, never()).save(any());
+            assertEquals(0, roomAvailability.size());
+        }
+
+        @Test
+        @DisplayName("Reservation id shaped like an occurrence - should throw IllegalArgumentException")
+        void createReservation_withOccurrenceId_shouldThrowIllegalArgumentException() {
+            Reservation res = new Reservation("course1#2025-06-25", Arrays.asList(s1), room,
+                    LocalDateTime.of(2025, 6, 25, 14, 0),
+                    LocalDateTime.of(2025, 6, 25, 15, 0));
+
+            assertThrows(IllegalArgumentException.class, () -> reservationService.createReservation(res));
+            verify(reservationRepo, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("Range, upcoming and full listings - should include the occurrences")
+        void listings_shouldIncludeOccurrences() {
+            // Given
+            when(seriesRepo.findAll()).thenReturn(List.of(series));
+            when(reservationRepo.findBetween(any(), any())).thenReturn(List.of(testReservation));
+            when(reservationRepo.findAfterDate(any())).thenReturn(new ArrayList<>(List.of(testReservation)));
+            when(reservationRepo.findAll()).thenReturn(new ArrayList<>(List.of(testReservation)));
+
+            // When
+            Collection<Reservation> between = reservationService.getReservationsBetween(
+                    LocalDateTime.of(2025, 6, 24, 0, 0), LocalDateTime.of(2025, 7, 2, 0, 0));
+            List<Reservation> upcoming = new ArrayList<>(reservationService.getUpcomingReservations());
+            List<Reservation> all = reservationService.getAllReservations();
+
+            // Then
+            assertEquals(List.of("course1#2025-06-24", "res1", "course1#2025-07-01"),
+                    between.stream().map(Reservation::getId).toList());
+            assertEquals(7, upcoming.size());
+            assertEquals("course1#2025-06-24", upcoming.get(0).getId());
+            assertEquals(7, all.size());
+        }
+
+        @Test
+        @DisplayName("Series hitting an existing booking - should throw IllegalArgumentException")
+        void createSeries_withConflictingOccurrence_shouldThrowIllegalArgumentException() {
+            // Given
+            studentSchedule.occupy(new Reservation("res9", Arrays.asList(s2), room2,
+                    LocalDateTime.of(2025, 7, 15, 11, 0),
+                    LocalDateTime.of(2025, 7, 15, 11, 30)));
+
+            // Then
+            assertThrows(IllegalArgumentException.class, () -> reservationService.createSeries(series));
+            verify(seriesRepo, never()).save(any());
+            assertTrue(roomAvailability.isFree(room.getId(), LocalDateTime.of(2025, 6, 24, 10, 0), LocalDateTime.of(2025, 6, 24, 12, 0)));
+        }
+
+        @Test
+        @DisplayName("Invalid series - should throw IllegalArgumentException")
+        void createSeries_withInvalidSeries_shouldThrowIllegalArgumentException() {
+            // Given
+            ReservationSeries reversed = new ReservationSeries("course2", Arrays.asList(s1), room,
+                    LocalDate.of(2025, 7, 29), LocalDate.of(2025, 6, 24),
+                    LocalTime.of(10, 0), LocalTime.of(12, 0));
+            ReservationSeries saturday = new ReservationSeries("course3", Arrays.asList(s1), room,
+                    LocalDate.of(2025, 6, 28), LocalDate.of(2025, 7, 26),
+                    LocalTime.of(10, 0), LocalTime.of(12, 0));
+
+            // Then
+            assertThrows(IllegalArgumentException.class, () -> reservationService.createSeries(null));
+            assertThrows(IllegalArgumentException.class, () -> reservationService.createSeries(reversed));
+            assertThrows(IllegalArgumentException.class, () -> reservationService.createSeries(saturday));
+        }
+
+        @Test
+        @DisplayName("Room listing - should include lazily expanded occurrences")
+        void getReservationsByRoom_shouldIncludeOccurrences() {
+            // Given
+            when(reservationRepo.findByRoomId(room.getId())).thenReturn(Arrays.asList(testReservation));
+            when(seriesRepo.findByRoomId(room.getId())).thenReturn(Arrays.asList(series));
+
+            // When
+            List<Reservation> result = reservationService.getReservationsByRoom(room.getId());
+
+            // Then
+            assertEquals(7, result.size());
+            assertEquals("course1#2025-06-24", result.get(0).getId());
+            assertEquals(testReservation, result.get(1));
+        }
+
+        @Test
+        @DisplayName("Candidates - should be read from the room or date index, occurrences included")
+        void streamCandidates_shouldUseIndexesAndIncludeOccurrences() {
+            // Given
+            LocalDateTime from = LocalDateTime.of(2025, 7, 15, 0, 0);
+            when(reservationRepo.findByRoomId(room.getId())).thenReturn(Arrays.asList(testReservation));
+            when(seriesRepo.findByRoomId(room.getId())).thenReturn(Arrays.asList(series));
+            when(reservationRepo.findAfterDate(from.minusNanos(1))).thenReturn(List.of());
+            when(seriesRepo.findAll()).thenReturn(List.of(series));
+
+            // When
+            List<Reservation> byRoom = reservationService.streamCandidates(room.getId(), null, null, null).toList();
+            List<Reservation> after = reservationService.streamCandidates(null, null, from, null).toList();
+
+            // Then
+            assertEquals(7, byRoom.size());
+            assertEquals(List.of("course1#2025-07-15", "course1#2025-07-22", "course1#2025-07-29"),
+                    after.stream().map(Reservation::getId).toList());
+            verify(reservationRepo, never()).streamAll();
+        }
+
+        @Test
+        @DisplayName("Room calendar - should merge summaries with occurrences in start order")
+        void getRoomCalendar_shouldIncludeOccurrenceSummaries() {
+            // Given
+            when(reservationRepo.findSummariesByRoomId(room.getId())).thenReturn(List.of(ReservationSummary.of(testReservation)));
+            when(seriesRepo.findByRoomId(room.getId())).thenReturn(Arrays.asList(series));
+
+            // When
+            List<ReservationSummary> result = reservationService.getRoomCalendar(room.getId());
+
+            // Then
+            assertEquals(7, result.size());
+            assertEquals("course1#2025-06-24", result.get(0).id());
+            assertEquals(2, result.get(0).headcount());
+            assertEquals(testReservation.getId(), result.get(1).id());
+            verify(reservationRepo, never()).findByRoomId(any());
+        }
+
+        @Test
+        @DisplayName("Deleted series - should free every occurrence")
+        void deleteSeries_shouldReleaseOccurrences() {
+            // Given
+            when(seriesRepo.save(series)).thenReturn(series);
+            reservationService.createSeries(series);
+            when(seriesRepo.findById("course1")).thenReturn(Optional.of(series));
+
+            // When
+            reservationService.deleteSeries("course1");
+
+            // Then
+            verify(seriesRepo).delete(series);
+            assertEquals(0, roomAvailability.size());
+            assertEquals(0, studentSchedule.size());
+        }
+
+        @Test
+        @DisplayName("Student removed from a series - should store a copy and leave the stored series untouched")
+        void removeStudentFromReservations_onSeries_shouldReplaceSeries() {
+            // Given
+            when(seriesRepo.save(series)).thenReturn(series);
+            reservationService.createSeries(series);
+            when(seriesRepo.findByStudentId("s1")).thenReturn(List.of(series));
+            when(seriesRepo.findById("course1")).thenReturn(Optional.of(series));
+
+            // When
+            int cancelled = reservationService.removeStudentFromReservations("s1");
+
+            // Then
+            assertEquals(0, cancelled);
+            assertEquals(List.of(s1, s2), series.getStudents());
+            ArgumentCaptor<ReservationSeries> replaced = ArgumentCaptor.forClass(ReservationSeries.class);
+            verify(seriesRepo, times(2)).save(replaced.capture());
+            assertEquals(List.of(s2), replaced.getValue().getStudents());
+            assertTrue(studentSchedule.isFree("s1", LocalDateTime.of(2025, 7, 1, 10, 0), LocalDateTime.of(2025, 7, 1, 12, 0)));
+            assertFalse(studentSchedule.isFree("s2", LocalDateTime.of(2025, 7, 1, 10, 0), LocalDateTime.of(2025, 7, 1, 12, 0)));
+        }
+    }
+
     @Nested
     @DisplayName("updateReservation Tests")
     class UpdateReservationTests {
@@ -259,14 +845,44 @@ public class ReservationServiceTest {
                     LocalDateTime.of(2025, 6, 25, 10, 0),
                     LocalDateTime.of(2025, 6, 25, 12, 0));
             when(reservationRepo.findById("res1")).thenReturn(Optional.of(res));
-            when(reservationRepo.save(res)).thenReturn(res);
+            when(reservationRepo.update(res)).thenReturn(res);
 
             // When
             Reservation result = reservationService.updateReservation(res);
 
             // Then
             assertEquals(res, result);
-            verify(reservationRepo).save(res);
+            verify(reservationRepo).update(res);
+        }
+
+        @Test
+        @DisplayName("Overlapping only itself - should update and return reservation")
+        void updateReservation_overlappingItself_ShouldReturnUpdatedReservation() {
+            // Given
+            roomAvailability.occupy(testReservation);
+            when(reservationRepo.findById("res1")).thenReturn(Optional.of(testReservation));
+            when(reservationRepo.update(testReservation)).thenReturn(testReservation);
+
+            // When
+            Reservation result = reservationService.updateReservation(testReservation);
+
+            // Then
+            assertEquals(testReservation, result);
+        }
+
+        @Test
+        @DisplayName("Room booked by another reservation - should throw IllegalArgumentException")
+        void updateReservation_withOverlappingReservation_ShouldThrowIllegalArgumentException() {
+            // Given
+            Reservation other = new Reservation("res3", Arrays.asList(s2), room,
+                    LocalDateTime.of(2025, 6, 25, 9, 0),
+                    LocalDateTime.of(2025, 6, 25, 11, 0));
+            roomAvailability.occupy(other);
+            when(reservationRepo.findById("res1")).thenReturn(Optional.of(testReservation));
+
+            // Then
+            assertThrows(IllegalArgumentException.class, () -> reservationService.updateReservation(testReservation));
+            verify(reservationRepo, never()).update(testReservation);
         }
 
         @Test
@@ -319,6 +935,69 @@ public class ReservationServiceTest {
 
             assertThrows(IllegalArgumentException.class, () -> reservationService.updateReservation(res));
         }
+
+        @Test
+        @DisplayName("Edit based on an older version than the stored one - should throw before writing")
+        void updateReservation_olderThanStored_ShouldThrowStaleReservationException() {
+            // Given
+            Reservation stored = testReservation.copy();
+            stored.setVersion(2);
+            when(reservationRepo.findById("res1")).thenReturn(Optional.of(stored));
+
+            // Then
+            assertThrows(StaleReservationException.class, () -> reservationService.updateReservation(testReservation));
+            verify(reservationRepo, never()).update(any());
+        }
+
+        @Test
+        @DisplayName("Stale version - should not occupy the new slot")
+        void updateReservation_withStaleVersion_ShouldLeaveIndexesUntouched() {
+            // Given
+            when(reservationRepo.findById("res1")).thenReturn(Optional.of(testReservation));
+            when(reservationRepo.update(testReservation)).thenThrow(new StaleReservationException("res1", 0, 1));
+
+            // Then
+            assertThrows(StaleReservationException.class, () -> reservationService.updateReservation(testReservation));
+            assertEquals(0, roomAvailability.size());
+        }
+
+        @Test
+        @DisplayName("Concurrent modification - should re-read and apply the change again")
+        void modifyReservation_afterStaleUpdate_ShouldRetryOnCurrentVersion() {
+            // Given
+            when(reservationRepo.findById("res1")).thenReturn(Optional.of(testReservation));
+            when(reservationRepo.update(any()))
+                    .thenThrow(new StaleReservationException("res1", 0, 1))
+                    .thenAnswer(invocation -> invocation.getArgument(0));
+
+            // When
+            Reservation result = reservationService.modifyReservation("res1",
+                    reservation -> reservation.setEndTime(LocalDateTime.of(2025, 6, 25, 11, 0)));
+
+            // Then
+            assertEquals(LocalDateTime.of(2025, 6, 25, 11, 0), result.getEndTime());
+            assertEquals(LocalDateTime.of(2025, 6, 25, 12, 0), testReservation.getEndTime());
+            verify(reservationRepo, times(2)).update(any());
+        }
+
+        @Test
+        @DisplayName("Retried modification - should be measured once, without a stale rejection")
+        void modifyReservation_afterStaleUpdate_ShouldBeMeasuredOnce() {
+            // Given
+            when(reservationRepo.findById("res1")).thenReturn(Optional.of(testReservation));
+            when(reservationRepo.update(any()))
+                    .thenThrow(new StaleReservationException("res1", 0, 1))
+                    .thenAnswer(invocation -> invocation.getArgument(0));
+
+            // When
+            timed().modifyReservation("res1", reservation -> reservation.setEndTime(LocalDateTime.of(2025, 6, 25, 11, 0)));
+
+            // Then
+            assertEquals(1, metrics.getRegistry().get(BookingMetrics.OPERATION)
+                    .tags("operation", "modifyReservation", "exception", "none").timer().count());
+            assertNull(metrics.getRegistry().find(BookingMetrics.REJECTIONS).counter());
+            assertNull(metrics.getRegistry().find(BookingMetrics.OPERATION).tag("operation", "updateReservation").timer());
+        }
     }
 
     @Nested
@@ -427,6 +1106,8 @@ public class ReservationServiceTest {
 
             assertDoesNotThrow(() -> reservationService.deleteReservation(id));
             verify(reservationRepo).delete(res);
+            verify(roomAvailability).release(id);
+            verify(studentSchedule).release(id);
         }
 
         @Test
@@ -449,6 +1130,59 @@ public class ReservationServiceTest {
             when(reservationRepo.findById(id)).thenReturn(Optional.empty());
             assertThrows(IllegalArgumentException.class, () -> reservationService.deleteReservation("res1"));
         }
+
+        @Test
+        @DisplayName("Cascade on student - should remove the student and cancel bookings left empty")
+        void removeStudentFromReservations_shouldUpdateOrCancel() {
+            // Given
+            Student s3 = new Student("s3", "Alice", "Martin");
+            Reservation shared = new Reservation("res1", new ArrayList<>(Arrays.asList(s1, s2, s3)), room,
+                    LocalDateTime.of(2025, 6, 25, 10, 0), LocalDateTime.of(2025, 6, 25, 12, 0));
+            Reservation alone = new Reservation("res2", new ArrayList<>(Arrays.asList(s1)), room2,
+                    LocalDateTime.of(2025, 6, 25, 14, 0), LocalDateTime.of(2025, 6, 25, 15, 0));
+            studentSchedule.occupy(shared);
+            studentSchedule.occupy(alone);
+            when(reservationRepo.findByStudentId("s1")).thenReturn(Arrays.asList(shared, alone));
+            when(reservationRepo.findById("res1")).thenReturn(Optional.of(shared));
+            when(reservationRepo.findById("res2")).thenReturn(Optional.of(alone));
+            when(seriesRepo.findByStudentId("s1")).thenReturn(List.of());
+
+            // When
+            int cancelled = reservationService.removeStudentFromReservations("s1");
+
+            // Then
+            assertEquals(1, cancelled);
+            // L'instance enregistrée n'est pas modifiée : une copie versionnée la remplace
+            assertEquals(List.of(s1, s2, s3), shared.getStudents());
+            ArgumentCaptor<Reservation> updated = ArgumentCaptor.forClass(Reservation.class);
+            verify(reservationRepo).update(updated.capture());
+            // Les participants restants gardent leur ordre
+            assertEquals(List.of(s2, s3), updated.getValue().getStudents());
+            verify(reservationRepo, never()).save(any());
+            verify(reservationRepo).delete(alone);
+            assertTrue(studentSchedule.isFree("s1", LocalDateTime.of(2025, 6, 25, 10, 0), LocalDateTime.of(2025, 6, 25, 15, 0)));
+            assertFalse(studentSchedule.isFree("s2", LocalDateTime.of(2025, 6, 25, 10, 0), LocalDateTime.of(2025, 6, 25, 12, 0)));
+        }
+
+        @Test
+        @DisplayName("Cascade on room - should cancel every booking of the room")
+        void cancelRoomReservations_shouldCancelAll() {
+            // Given
+            Reservation first = new Reservation("res1", new ArrayList<>(Arrays.asList(s1)), room,
+                    LocalDateTime.of(2025, 6, 25, 10, 0), LocalDateTime.of(2025, 6, 25, 12, 0));
+            roomAvailability.occupy(first);
+            when(reservationRepo.findByRoomId("r2")).thenReturn(List.of(first));
+            when(reservationRepo.findById("res1")).thenReturn(Optional.of(first));
+            when(seriesRepo.findByRoomId("r2")).thenReturn(List.of());
+
+            // When
+            int cancelled = reservationService.cancelRoomReservations("r2");
+
+            // Then
+            assertEquals(1, cancelled);
+            verify(reservationRepo).delete(first);
+            assertTrue(roomAvailability.isFree("r2", LocalDateTime.of(2025, 6, 25, 10, 0), LocalDateTime.of(2025, 6, 25, 12, 0)));
+        }
     }
 
     @Nested
@@ -464,10 +1198,65 @@ public class ReservationServiceTest {
 
                 when(reservationRepo.findAfterDate(fixedDateTime)).thenReturn(Arrays.asList(testReservation,savedReservation));
 
-                List<Reservation> result = reservationService.getUpcomingReservations();
+                List<Reservation> result = new ArrayList<>(reservationService.getUpcomingReservations());
                 assertEquals(Arrays.asList(testReservation, savedReservation), result);
             }
         }
+
+        @Test
+        @DisplayName("Partition - should follow new bookings and time passing without re-reading the repository")
+        void getUpcomingReservations_ShouldBeMaintainedIncrementally() {
+            LocalDateTime fixedDateTime = LocalDateTime.of(2025, 6, 20, 11, 0);
+            Reservation created = new Reservation("res3", Arrays.asList(s2), room,
+                    LocalDateTime.of(2025, 6, 24, 10, 0),
+                    LocalDateTime.of(2025, 6, 24, 12, 0));
+            try (MockedStatic<LocalDateTime> mockedDateTime = mockStatic(LocalDateTime.class, Mockito.CALLS_REAL_METHODS)) {
+                // Given
+                mockedDateTime.when(LocalDateTime::now).thenReturn(fixedDateTime);
+                when(reservationRepo.findAfterDate(fixedDateTime)).thenReturn(Arrays.asList(savedReservation, testReservation));
+                when(reservationRepo.save(created)).thenReturn(created);
+                reservationService.getUpcomingReservations();
+
+                // When
+                reservationService.createReservation(created);
+                List<Reservation> afterCreate = new ArrayList<>(reservationService.getUpcomingReservations());
+                reservationService.getUpcomingPartition().advance(LocalDateTime.of(2025, 6, 25, 10, 0));
+
+                // Then
+                assertEquals(Arrays.asList(created, testReservation, savedReservation), afterCreate);
+                assertEquals(List.of(savedReservation), new ArrayList<>(reservationService.getUpcomingReservations()));
+                verify(reservationRepo, times(1)).findAfterDate(any());
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("getReservationsBetween Tests")
+    class GetReservationsBetweenTests {
+        @Test
+        @DisplayName("Nominal case - should return the repository range")
+        void getReservationsBetween_ShouldReturnRange() {
+            // Given
+            LocalDateTime start = LocalDateTime.of(2025, 6, 25, 9, 0);
+            LocalDateTime end = LocalDateTime.of(2025, 6, 25, 11, 0);
+            when(reservationRepo.findBetween(start, end)).thenReturn(List.of(testReservation));
+
+            // Then
+            assertEquals(List.of(testReservation), reservationService.getReservationsBetween(start, end));
+        }
+
+        @Test
+        @DisplayName("End before start - should throw IllegalArgumentException")
+        void getReservationsBetween_withEndBeforeStart_ShouldThrowException() {
+            LocalDateTime start = LocalDateTime.of(2025, 6, 25, 9, 0);
+            assertThrows(IllegalArgumentException.class, () -> reservationService.getReservationsBetween(start, start.minusHours(1)));
+        }
+
+        @Test
+        @DisplayName("Null bound - should throw IllegalArgumentException")
+        void getReservationsBetween_withNullBound_ShouldThrowException() {
+            assertThrows(IllegalArgumentException.class, () -> reservationService.getReservationsBetween(null, LocalDateTime.now()));
+        }
     }
 
     @Nested
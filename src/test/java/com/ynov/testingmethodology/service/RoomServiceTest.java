@@ -1,8 +1,12 @@
 package com.ynov.testingmethodology.service;
 
 
+import com.ynov.testingmethodology.ids.EntityIds;
+import com.ynov.testingmethodology.metrics.BookingMetrics;
 import com.ynov.testingmethodology.repository.RoomRepository;
 import com.ynov.testingmethodology.model.Room;
+import com.ynov.testingmethodology.schedule.RoomAvailability;
+import com.ynov.testingmethodology.schedule.TimeSlot;
 import org.h2.command.dml.MergeUsing;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -10,8 +14,10 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
+import com.ynov.testingmethodology.model.Reservation;
 import com.ynov.testingmethodology.model.Student;
 import static org.junit.jupiter.api.Assertions.*;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -38,6 +44,14 @@ import static org.mockito.Mockito.*;
 public class RoomServiceTest {
     @Mock
     private RoomRepository roomRepository;
+    @Spy
+    private RoomAvailability roomAvailability = new RoomAvailability();
+    @Spy
+    private EntityIds ids = new EntityIds();
+    @Mock
+    private ReservationService reservationService;
+    @Spy
+    private BookingMetrics metrics = new BookingMetrics();
     @InjectMocks
     private RoomService roomService;
 
@@ -57,6 +71,7 @@ public class RoomServiceTest {
 
             //Then
             assertEquals(room,res);
+            assertEquals(0, ids.rooms().handleOf("1"));
         }
 
         @Test
@@ -150,6 +165,7 @@ public class RoomServiceTest {
 
             //Then
             verify(roomRepository).existsByID(id);
+            verify(reservationService).cancelRoomReservations(id);
             verify(roomRepository).deleteById(id);
         }
 
@@ -182,6 +198,52 @@ public class RoomServiceTest {
             assertEquals(Optional.of(room),res);
         }
 
+        @Test
+        @DisplayName("Cached room - should not query the repository again")
+        public void getRoomCachedTest(){
+            //Given
+            Room room = new Room("1","Salle 101",20);
+            when(roomRepository.findAll()).thenReturn(List.of(room));
+            //When
+            roomService.getAllRooms();
+            Optional<Room> res = roomService.getRoomById("1");
+            //Then
+            assertEquals(Optional.of(room),res);
+            verify(roomRepository, never()).findById(anyString());
+            assertEquals(1, roomService.getCatalog().hits());
+        }
+
+        @Test
+        @DisplayName("Room stored outside the catalog - should be looked up once and listed")
+        public void getRoomDiscoveredTest(){
+            //Given
+            Room room = new Room("1","Salle 101",20);
+            when(roomRepository.findAll()).thenReturn(List.of());
+            when(roomRepository.findById("1")).thenReturn(Optional.of(room));
+            //When
+            roomService.getRoomById("1");
+            Optional<Room> res = roomService.getRoomById("1");
+            //Then
+            assertEquals(Optional.of(room),res);
+            assertEquals(List.of(room), roomService.getAllRooms());
+            verify(roomRepository, times(1)).findById("1");
+        }
+
+        @Test
+        @DisplayName("Deleted room - should be removed from the catalog")
+        public void getRoomAfterDeleteTest(){
+            //Given
+            Room room = new Room("1","Salle 101",20);
+            when(roomRepository.findAll()).thenReturn(List.of(room));
+            when(roomRepository.existsByID("1")).thenReturn(true);
+            roomService.getAllRooms();
+            //When
+            roomService.deleteRoom("1");
+            //Then
+            assertTrue(roomService.getAllRooms().isEmpty());
+            verify(roomRepository).findAll();
+        }
+
         @Test
         @DisplayName("null id - should throw illegal aragument exception")
         public void getRoomNullIdTest() {
@@ -220,6 +282,90 @@ public class RoomServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("Get availabilities tests")
+    class GetAvailabilitiesTests {
+        @Test
+        @DisplayName("Nominal case - should return free slots around reservations")
+        public void getAvailabilitiesTestNominalCase(){
+            //Given
+            Room room = new Room("1","Salle 101",20);
+            Reservation res = new Reservation("res1", Arrays.asList(new Student("s1","Eliot","Louys")), room,
+                    LocalDateTime.of(2025, 6, 25, 10, 0),
+                    LocalDateTime.of(2025, 6, 25, 12, 30));
+            roomAvailability.occupy(res);
+            when(roomRepository.existsByID("1")).thenReturn(true);
+            //When
+            List<TimeSlot> res2 = roomService.getAvailabilities("1", LocalDate.of(2025, 6, 25));
+            //Then
+            assertEquals(Arrays.asList(
+                    new TimeSlot(LocalDateTime.of(2025, 6, 25, 8, 0), LocalDateTime.of(2025, 6, 25, 10, 0)),
+                    new TimeSlot(LocalDateTime.of(2025, 6, 25, 12, 30), LocalDateTime.of(2025, 6, 25, 20, 0))), res2);
+        }
 
+        @Test
+        @DisplayName("Week-end - should return no availability")
+        public void getAvailabilitiesWeekEndTest(){
+            //Given
+            when(roomRepository.existsByID("1")).thenReturn(true);
+            //Then
+            assertTrue(roomService.getAvailabilities("1", LocalDate.of(2025, 6, 28)).isEmpty());
+        }
 
+        @Test
+        @DisplayName("Non existant room - should throw illegal argument exception")
+        public void getAvailabilitiesNonExistantRoomTest(){
+            //Given
+            when(roomRepository.existsByID("1")).thenReturn(false);
+            //Then
+            assertThrows(IllegalArgumentException.class,()->{roomService.getAvailabilities("1", LocalDate.of(2025, 6, 25));});
+        }
+    }
+
+    @Nested
+    @DisplayName("Find available rooms tests")
+    class FindAvailableRoomsTests {
+        @Test
+        @DisplayName("Nominal case - should return big enough rooms that are free")
+        public void findAvailableRoomsTestNominalCase(){
+            //Given
+            Room small = new Room("1","Salle 101",20);
+            Room booked = new Room("2","Salle 102",30);
+            Room large = new Room("3","Salle 103",40);
+            LocalDateTime start = LocalDateTime.of(2025, 6, 25, 14, 0);
+            LocalDateTime end = LocalDateTime.of(2025, 6, 25, 15, 30);
+            roomAvailability.occupy(new Reservation("res1", Arrays.asList(new Student("s1","Eliot","Louys")), booked,
+                    LocalDateTime.of(2025, 6, 25, 15, 0), LocalDateTime.of(2025, 6, 25, 16, 0)));
+            when(roomRepository.findByMinCapacity(25)).thenReturn(Arrays.asList(booked, large));
+            //When
+            List<Room> res = roomService.findAvailableRooms(25, start, end);
+            //Then
+            assertEquals(List.of(large), res);
+            assertFalse(res.contains(small));
+        }
+
+        @Test
+        @DisplayName("Outside opening hours - should return no room")
+        public void findAvailableRoomsOutsideOpeningHoursTest(){
+            //When
+            List<Room> res = roomService.findAvailableRooms(10, LocalDateTime.of(2025, 6, 28, 14, 0), LocalDateTime.of(2025, 6, 28, 15, 0));
+            //Then
+            assertTrue(res.isEmpty());
+            verify(roomRepository, never()).findByMinCapacity(anyInt());
+        }
+
+        @Test
+        @DisplayName("Invalid capacity - should throw illegal argument exception")
+        public void findAvailableRoomsInvalidCapacityTest(){
+            assertThrows(IllegalArgumentException.class,()->{roomService.findAvailableRooms(0,
+                    LocalDateTime.of(2025, 6, 25, 14, 0), LocalDateTime.of(2025, 6, 25, 15, 0));});
+        }
+
+        @Test
+        @DisplayName("End before start - should throw illegal argument exception")
+        public void findAvailableRoomsEndBeforeStartTest(){
+            assertThrows(IllegalArgumentException.class,()->{roomService.findAvailableRooms(10,
+                    LocalDateTime.of(2025, 6, 25, 14, 0), LocalDateTime.of(2025, 6, 25, 13, 0));});
+        }
+    }
 }
@@ -9,6 +9,9 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
+import com.ynov.testingmethodology.ids.EntityIds;
+import com.ynov.testingmethodology.metrics.BookingMetrics;
+import com.ynov.testingmethodology.repository.CursorPage;
 import com.ynov.testingmethodology.repository.StudentRepository;
 import java.time.LocalDateTime;
 import java.util.*;
@@ -39,6 +42,15 @@ public class StudentServiceTest {
     @Mock
     private StudentRepository studentRepository;
 
+    @Spy
+    private EntityIds ids = new EntityIds();
+
+    @Mock
+    private ReservationService reservationService;
+
+    @Spy
+    private BookingMetrics metrics = new BookingMetrics();
+
     @InjectMocks
     private StudentService studentService;
 
@@ -57,6 +69,7 @@ public class StudentServiceTest {
             Student result = studentService.registerStudent(student);
             //Then
             assertEquals(student,result);
+            assertEquals(0, ids.students().handleOf("1"));
         }
 
         @Test
@@ -140,6 +153,28 @@ public class StudentServiceTest {
             assertThrows(IllegalArgumentException.class,()->{studentService.registerStudent(student);});
         }
 
+        @Test
+        @DisplayName("Batch - should save valid students at once and report the others by position")
+        public void registerStudentsTestBatch(){
+            //Given
+            Student valid = new Student("1","Eliot","Louys");
+            Student invalid = new Student("2","Eliot"," ");
+            Student existing = new Student("3","Jane","Smith");
+            Student repeated = new Student("1","John","Doe");
+            when(studentRepository.findExistingIds(Set.of("1","3"))).thenReturn(Set.of("3"));
+            when(studentRepository.saveAll(List.of(valid))).thenReturn(List.of(valid));
+
+            //When
+            BatchResult<Student> result = studentService.registerStudents(List.of(valid, invalid, existing, repeated));
+
+            //Then
+            assertEquals(List.of(valid), result.saved());
+            assertEquals(Set.of(1, 2, 3), result.rejected().keySet());
+            assertEquals("Student already exists with id 3", result.rejected().get(2));
+            verify(studentRepository, never()).existsByID(any());
+            assertEquals(0, ids.students().handleOf("1"));
+        }
+
     }
 
     @Nested
@@ -157,6 +192,7 @@ public class StudentServiceTest {
 
             //Then
             verify(studentRepository).existsByID(id);
+            verify(reservationService).removeStudentFromReservations(id);
             verify(studentRepository).deleteById(id);
         }
 
@@ -192,6 +228,31 @@ public class StudentServiceTest {
             assertEquals(students,result);
 
         }
+
+        @Test
+        @DisplayName("Page - should return the page and the cursor of the next one")
+        public void getStudentsPageTest(){
+            //Given
+            Student student = new Student("1","Eliot","Louys");
+            Student student2 = new Student("2","Samuel","Leobon");
+            Student student3 = new Student("3","Jane","Smith");
+            when(studentRepository.findPage(null, 3)).thenReturn(Arrays.asList(student,student2,student3));
+
+            //When
+            CursorPage<Student> page = studentService.getStudentsPage(null, 2);
+
+            //Then
+            assertEquals(Arrays.asList(student,student2), page.items());
+            assertEquals("2", page.nextCursor());
+        }
+
+        @Test
+        @DisplayName("Page - should reject an invalid page size")
+        public void getStudentsPageInvalidLimitTest(){
+            //When & Then
+            assertThrows(IllegalArgumentException.class, () -> studentService.getStudentsPage(null, 0));
+            verifyNoInteractions(studentRepository);
+        }
     }
 
     @Nested